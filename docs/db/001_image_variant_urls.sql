@@ -0,0 +1,8 @@
+-- 업로드 이후 비동기로 생성되는 썸네일/표시용 변환본 URL. 생성 전에는 NULL 이며 원본 url 을 사용
+ALTER TABLE exchange_image
+    ADD COLUMN thumbnail_url VARCHAR(255) NULL,
+    ADD COLUMN display_url VARCHAR(255) NULL;
+
+ALTER TABLE review_image
+    ADD COLUMN thumbnail_url VARCHAR(255) NULL,
+    ADD COLUMN display_url VARCHAR(255) NULL;
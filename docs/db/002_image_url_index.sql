@@ -0,0 +1,3 @@
+-- stored_blob 에 객체를 등록할 때 그 url 을 가리키는 이미지 row 수를 세는 데 사용
+CREATE INDEX idx_exchange_image_url ON exchange_image (url);
+CREATE INDEX idx_review_image_url ON review_image (url);
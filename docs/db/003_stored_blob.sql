@@ -0,0 +1,12 @@
+-- 콘텐츠 해시로 저장된 객체의 참조 수. 참조 수가 0 이고 유예 기간이 지난 객체는 sweeper 가 삭제
+CREATE TABLE stored_blob (
+    stored_blob_id BIGINT       NOT NULL AUTO_INCREMENT,
+    blob_key       VARCHAR(255) NOT NULL,
+    ref_count      INT          NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (stored_blob_id),
+    CONSTRAINT uk_stored_blob_key UNIQUE (blob_key),
+    -- sweeper 후보 조회 (ref_count = 0 AND updated_at < cutoff)
+    INDEX idx_stored_blob_sweep (ref_count, updated_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,3 @@
+-- 게시글 내 이미지 순서. 기존 row 는 NULL 이며 id 순서로 정렬
+ALTER TABLE exchange_image
+    ADD COLUMN sort_order INT NULL;
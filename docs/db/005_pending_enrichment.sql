@@ -0,0 +1,13 @@
+-- 아직 정가(regular_price)를 채우지 못한 게시글. 성공하면 삭제되고 실패하면 next_attempt_at 을 미뤄 재시도
+CREATE TABLE pending_enrichment (
+    pending_enrichment_id BIGINT       NOT NULL AUTO_INCREMENT,
+    exchange_id           BIGINT       NOT NULL,
+    title                 VARCHAR(255) NOT NULL,
+    attempts              INT          NOT NULL,
+    next_attempt_at       DATETIME(6)  NOT NULL,
+    last_error            VARCHAR(500) NULL,
+    created_at            DATETIME(6)  NOT NULL,
+    PRIMARY KEY (pending_enrichment_id),
+    CONSTRAINT uk_pending_enrichment_exchange UNIQUE (exchange_id),
+    INDEX idx_pending_enrichment_next_attempt (next_attempt_at)
+) ENGINE = InnoDB;
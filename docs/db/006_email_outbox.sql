@@ -0,0 +1,16 @@
+-- 아직 발송하지 않은 이메일. 같은 dedupe_key 로 다시 요청하면 새 row 대신 내용과 version 만 교체
+CREATE TABLE email_outbox (
+    email_outbox_id BIGINT       NOT NULL AUTO_INCREMENT,
+    dedupe_key      VARCHAR(255) NOT NULL,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT         NOT NULL,
+    version         INT          NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500) NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (email_outbox_id),
+    CONSTRAINT uk_email_outbox_dedupe_key UNIQUE (dedupe_key),
+    INDEX idx_email_outbox_next_attempt (next_attempt_at)
+) ENGINE = InnoDB;
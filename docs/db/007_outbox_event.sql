@@ -0,0 +1,14 @@
+-- 커밋 이후 처리할 도메인 이벤트. 같은 aggregate 의 이벤트는 id 순서대로 처리
+CREATE TABLE outbox_event (
+    outbox_event_id BIGINT       NOT NULL AUTO_INCREMENT,
+    aggregate_type  VARCHAR(50)  NOT NULL,
+    aggregate_id    VARCHAR(255) NOT NULL,
+    event_type      VARCHAR(100) NOT NULL,
+    payload         TEXT         NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500) NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (outbox_event_id),
+    INDEX idx_outbox_event_aggregate (aggregate_type, aggregate_id, outbox_event_id)
+) ENGINE = InnoDB;
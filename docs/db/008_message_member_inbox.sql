@@ -0,0 +1,12 @@
+-- 채팅방별 읽은 위치와, 채팅방 목록을 최근 메시지 순으로 정렬 없이 읽기 위한 마지막 메시지 시각 사본
+ALTER TABLE message_member
+    ADD COLUMN last_read_message_id BIGINT      NULL,
+    ADD COLUMN last_message_at      DATETIME(6) NULL;
+
+-- 기존 채팅방의 마지막 메시지 시각을 참여자 행에 복사
+UPDATE message_member mm
+    JOIN message_room r ON r.message_room_id = mm.message_room_id
+SET mm.last_message_at = r.last_message_at
+WHERE r.last_message_at IS NOT NULL;
+
+CREATE INDEX idx_message_member_inbox ON message_member (member_id, last_message_at, message_room_id);
@@ -0,0 +1,7 @@
+-- 채팅방 마지막 메시지 id. 메시지 저장 시 UPDATE 한 번으로 갱신 (채팅방 목록의 마지막 메시지 미리보기에 사용)
+ALTER TABLE message_room
+    ADD COLUMN last_message_id BIGINT NULL;
+
+-- 기존 채팅방의 마지막 메시지 채우기
+UPDATE message_room r
+SET r.last_message_id = (SELECT MAX(m.message_id) FROM message m WHERE m.message_room_id = r.message_room_id);
@@ -0,0 +1,2 @@
+-- 채팅방 메시지 이력 keyset 조회 (message_room_id = ? AND message_id < ? ORDER BY message_id DESC) 용 인덱스
+CREATE INDEX idx_message_room_message ON message (message_room_id, message_id);
@@ -0,0 +1,56 @@
+// 플랫폼 스레드 모드와 가상 스레드 모드의 처리량 비교용 k6 시나리오 (docs/virtual-threads.md 참고)
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+
+export const options = {
+  scenarios: {
+    browse: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: 200 },
+        { duration: '2m', target: 800 },
+        { duration: '30s', target: 0 },
+      ],
+      exec: 'browse',
+    },
+    chat: {
+      executor: 'constant-vus',
+      vus: 50,
+      duration: '3m',
+      exec: 'chat',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+const authHeaders = TOKEN ? { headers: { Authorization: `Bearer ${TOKEN}` } } : {};
+
+export function browse() {
+  const list = http.get(`${BASE_URL}/api/exchanges?page=0&size=20`);
+  check(list, { 'list 200': (r) => r.status === 200 });
+
+  const exchanges = list.status === 200 ? list.json('data.content') || [] : [];
+  if (exchanges.length > 0) {
+    // 목록 응답에는 id 대신 상세 url 이 내려옴
+    const id = exchanges[Math.floor(Math.random() * exchanges.length)].url.split('/').pop();
+    const detail = http.get(`${BASE_URL}/api/exchanges/${id}`, authHeaders);
+    check(detail, { 'detail 200': (r) => r.status === 200 });
+  }
+  sleep(0.5);
+}
+
+export function chat() {
+  if (!TOKEN) {
+    sleep(1);
+    return;
+  }
+  const rooms = http.get(`${BASE_URL}/api/messages/member?page=0&size=20`, authHeaders);
+  check(rooms, { 'rooms 200': (r) => r.status === 200 });
+  sleep(1);
+}
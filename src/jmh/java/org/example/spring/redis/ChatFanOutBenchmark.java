@@ -0,0 +1,66 @@
+package org.example.spring.redis;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.example.spring.domain.member.dto.MemberMessageResponseDto;
+import org.example.spring.domain.message.messageDto.MessageResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 채팅 메시지 한 건을 Redis 로 발행하고 한 노드에서 STOMP 프레임 본문으로 만들기까지의 직렬화 비용을 비교합니다.
+ * 네트워크 비용은 제외하고 발행 쪽 직렬화와 구독 쪽 처리만 측정합니다.
+ * <ul>
+ *     <li>legacy: Jackson2JsonRedisSerializer 로 발행 → 문자열로 읽어 DTO 로 파싱 → STOMP 변환기에서 다시 JSON 직렬화</li>
+ *     <li>compact: ChatMessageSerializer 로 한 번 직렬화 → 받은 바이트를 그대로 STOMP 본문으로 사용</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatFanOutBenchmark {
+
+	private ObjectMapper objectMapper;
+	private Jackson2JsonRedisSerializer<Object> legacySerializer;
+	private RedisSerializer<String> stringSerializer;
+	private ChatMessageSerializer chatMessageSerializer;
+	private MessageResponseDto message;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper();
+		legacySerializer = new Jackson2JsonRedisSerializer<>(Object.class);
+		stringSerializer = RedisSerializer.string();
+		chatMessageSerializer = new ChatMessageSerializer(objectMapper);
+		message = MessageResponseDto.builder()
+			.messageRoomId(1024L)
+			.messageId(987654L)
+			.member(MemberMessageResponseDto.builder().id(77L).nickname("야구좋아").build())
+			.messageContent("내일 잠실 경기 같이 보실 분 계신가요? 글러브 거래도 가능합니다.")
+			.createdAt(new Timestamp(System.currentTimeMillis()))
+			.build();
+	}
+
+	@Benchmark
+	public byte[] legacy() throws Exception {
+		byte[] published = legacySerializer.serialize(message);
+		String body = String.valueOf(stringSerializer.deserialize(published));
+		MessageResponseDto received = objectMapper.readValue(body, MessageResponseDto.class);
+		return objectMapper.writeValueAsBytes(received);
+	}
+
+	@Benchmark
+	public byte[] compact() {
+		return chatMessageSerializer.serialize(message);
+	}
+}
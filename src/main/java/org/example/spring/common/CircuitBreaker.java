@@ -0,0 +1,84 @@
+package org.example.spring.common;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 외부 API 호출용 간단한 circuit breaker 입니다.
+ * <p>
+ * 연속 실패가 임계값에 도달하면 open 상태가 되어 일정 시간 호출을 막고, 시간이 지나면
+ * 한 번의 시험 호출(half-open)을 허용합니다. 시험 호출이 성공하면 닫히고, 실패하면 다시 열립니다.
+ * 시험 호출이 결과를 알리지 않은 채 open 시간만큼 지나면(호출한 쪽이 중단된 경우 등) 다음 시험 호출을 허용합니다.
+ */
+public class CircuitBreaker {
+
+	private enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final Duration openDuration;
+	private final Clock clock;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private Instant openedAt;
+	private Instant trialStartedAt;
+
+	public CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+		this.clock = clock;
+	}
+
+	/**
+	 * @return 지금 호출해도 되는지 여부. half-open 상태에서는 시험 호출 하나만 허용합니다.
+	 */
+	public synchronized boolean tryAcquirePermission() {
+		if (state == State.CLOSED) {
+			return true;
+		}
+		Instant now = clock.instant();
+		boolean openElapsed = state == State.OPEN && !now.isBefore(openedAt.plus(openDuration));
+		boolean trialStale = state == State.HALF_OPEN && !now.isBefore(trialStartedAt.plus(openDuration));
+		if (openElapsed || trialStale) {
+			state = State.HALF_OPEN;
+			trialStartedAt = now;
+			return true;
+		}
+		return false;
+	}
+
+	public synchronized void onSuccess() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+	}
+
+	public synchronized void onFailure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+			state = State.OPEN;
+			openedAt = clock.instant();
+			consecutiveFailures = 0;
+		}
+	}
+
+	/**
+	 * @return 호출이 다시 허용될 때까지 남은 시간. 닫혀 있으면 0
+	 */
+	public synchronized Duration remainingOpenDuration() {
+		return switch (state) {
+			case CLOSED -> Duration.ZERO;
+			case OPEN -> {
+				Duration remaining = Duration.between(clock.instant(), openedAt.plus(openDuration));
+				yield remaining.isNegative() ? Duration.ZERO : remaining;
+			}
+			// 시험 호출 결과가 나오거나 시험 호출이 만료될 때까지 대기
+			case HALF_OPEN -> {
+				Duration remaining = Duration.between(clock.instant(), trialStartedAt.plus(openDuration));
+				yield remaining.isNegative() ? Duration.ZERO : remaining;
+			}
+		};
+	}
+}
@@ -0,0 +1,211 @@
+package org.example.spring.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.example.spring.exception.FanOutTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서로 독립적인 조회 여러 개를 가상 스레드에서 동시에 실행하는 도우미입니다.
+ * <p>
+ * {@code StructuredTaskScope.ShutdownOnFailure} 와 같은 방식으로 동작합니다. 하나라도 실패하거나 deadline 이 지나면
+ * 남은 작업을 interrupt 로 취소하고 예외를 던집니다. scope 를 닫을 때는 취소한 작업이 실제로 끝날 때까지
+ * fanout.close-timeout 만큼 기다리므로, interrupt 에 응답하는 작업은 scope 를 벗어난 뒤에 실행 중으로 남지 않습니다.
+ * (StructuredTaskScope 는 Java 21 에서 preview 기능이라 사용하지 않습니다.)
+ * <p>
+ * 각 작업은 자신의 읽기 전용 트랜잭션에서 실행되어 DB 연결을 작업이 끝날 때 바로 반납합니다.
+ * 호출하는 쪽은 fan-out 동안 트랜잭션(DB 연결)을 잡고 있지 않아야 하며, 그렇지 않으면 작업 수 + 1 개의 연결을 사용합니다.
+ * 작업 안에서는 요청 스레드의 {@code HttpServletRequest} 나 영속성 컨텍스트를 사용할 수 없으므로 필요한 값은 미리 꺼내 전달합니다.
+ */
+@Slf4j
+@Component
+public class FanOutExecutor {
+
+	private final TransactionTemplate readOnlyTransaction;
+	private final ExecutorService executor =
+		Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory());
+
+	@Value("${fanout.deadline:PT3S}")
+	private Duration defaultDeadline;
+
+	@Value("${fanout.close-timeout:PT1S}")
+	private Duration closeTimeout;
+
+	public FanOutExecutor(PlatformTransactionManager transactionManager) {
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * 기본 deadline(fanout.deadline)으로 scope 를 엽니다.
+	 */
+	public Scope open() {
+		return open(defaultDeadline);
+	}
+
+	/**
+	 * @param deadline scope 를 연 시점부터 모든 작업이 끝나야 하는 시간
+	 */
+	public Scope open(Duration deadline) {
+		return new Scope(System.nanoTime() + deadline.toNanos());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 한 번의 fan-out. try-with-resources 로 사용하며, 결과는 {@link #join()} 이후에만 읽을 수 있습니다.
+	 */
+	public final class Scope implements AutoCloseable {
+
+		private final long deadlineNanos;
+		private final List<Subtask<?>> subtasks = new ArrayList<>();
+		private final BlockingQueue<Subtask<?>> completed = new LinkedBlockingQueue<>();
+
+		private Scope(long deadlineNanos) {
+			this.deadlineNanos = deadlineNanos;
+		}
+
+		/**
+		 * 작업을 읽기 전용 트랜잭션에서 실행하도록 시작합니다.
+		 *
+		 * @param task 실행할 조회
+		 * @return join 이후 결과를 돌려주는 supplier
+		 */
+		public <T> Supplier<T> fork(Supplier<T> task) {
+			Subtask<T> subtask = new Subtask<>(task);
+			subtasks.add(subtask);
+			executor.execute(subtask);
+			return subtask::result;
+		}
+
+		/**
+		 * 모든 작업이 끝날 때까지 기다립니다. 먼저 실패한 작업의 예외를 그대로 다시 던집니다.
+		 *
+		 * @throws FanOutTimeoutException deadline 안에 끝나지 않은 경우
+		 */
+		public void join() {
+			int remaining = subtasks.size();
+			try {
+				while (remaining > 0) {
+					Subtask<?> done = completed.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+					if (done == null) {
+						cancelAll();
+						throw new FanOutTimeoutException("조회 시간이 초과되었습니다.");
+					}
+					if (done.state() == Future.State.FAILED) {
+						cancelAll();
+						throw propagate(done.exceptionNow());
+					}
+					remaining--;
+				}
+			} catch (InterruptedException e) {
+				cancelAll();
+				Thread.currentThread().interrupt();
+				throw new FanOutTimeoutException("조회가 중단되었습니다.");
+			}
+		}
+
+		/**
+		 * 끝나지 않은 작업을 취소하고, 모든 작업이 실제로 끝날 때까지 close-timeout 안에서 기다립니다.
+		 * interrupt 에 응답하지 않는 작업이 있으면 기다리지 않고 경고만 남깁니다.
+		 */
+		@Override
+		public void close() {
+			cancelAll();
+			long waitUntil = System.nanoTime() + closeTimeout.toNanos();
+			boolean interrupted = false;
+			int running = 0;
+			for (Subtask<?> subtask : subtasks) {
+				try {
+					if (!subtask.awaitExit(waitUntil - System.nanoTime())) {
+						running++;
+					}
+				} catch (InterruptedException e) {
+					interrupted = true;
+					running++;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			if (running > 0) {
+				log.warn("{} fan-out subtask(s) still running after {}", running, closeTimeout);
+			}
+		}
+
+		private void cancelAll() {
+			subtasks.forEach(subtask -> subtask.cancel(true));
+		}
+
+		private RuntimeException propagate(Throwable failure) {
+			if (failure instanceof RuntimeException runtimeException) {
+				return runtimeException;
+			}
+			if (failure instanceof Error error) {
+				throw error;
+			}
+			return new IllegalStateException(failure);
+		}
+
+		private final class Subtask<T> extends FutureTask<T> {
+
+			// cancel 은 작업 스레드를 기다리지 않고 바로 완료 처리하므로, 실행이 실제로 끝난 시점은 따로 기록
+			private final CountDownLatch exited = new CountDownLatch(1);
+
+			private Subtask(Supplier<T> task) {
+				super(() -> readOnlyTransaction.execute(status -> task.get()));
+			}
+
+			@Override
+			public void run() {
+				try {
+					super.run();
+				} finally {
+					exited.countDown();
+				}
+			}
+
+			private boolean awaitExit(long timeoutNanos) throws InterruptedException {
+				return exited.await(timeoutNanos, TimeUnit.NANOSECONDS);
+			}
+
+			@Override
+			protected void done() {
+				completed.add(this);
+			}
+
+			private T result() {
+				try {
+					return get(0, TimeUnit.NANOSECONDS);
+				} catch (ExecutionException e) {
+					throw propagate(e.getCause());
+				} catch (Exception e) {
+					throw new IllegalStateException("join() 이후에만 결과를 읽을 수 있습니다.", e);
+				}
+			}
+		}
+	}
+}
@@ -8,6 +8,7 @@ import org.example.spring.exception.AccountDeletedException;
 import org.example.spring.exception.AuthenticationFailedException;
 import org.example.spring.exception.EmailAlreadyVerifiedException;
 import org.example.spring.exception.EmailVerificationTokenExpiredException;
+import org.example.spring.exception.FanOutTimeoutException;
 import org.example.spring.exception.InvalidCredentialsException;
 import org.example.spring.exception.InvalidTokenException;
 import org.example.spring.exception.MemberNotFoundException;
@@ -121,4 +122,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
             .body(ApiResponseDto.error("인증에 실패 했습니다."));
     }
+
+    @ExceptionHandler(FanOutTimeoutException.class)
+    public ResponseEntity<ApiResponseDto<Void>> handleFanOutTimeoutException(FanOutTimeoutException ex) {
+        log.warn("Fan-out deadline exceeded: " + ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(ApiResponseDto.error("요청 처리 시간이 초과되었습니다."));
+    }
 }
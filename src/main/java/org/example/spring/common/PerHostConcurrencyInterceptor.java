@@ -0,0 +1,125 @@
+package org.example.spring.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 외부 호스트별 동시 요청 수를 제한하는 RestTemplate 인터셉터입니다.
+ * <p>
+ * 한 호스트가 느려져도 그 호스트로 가는 요청이 연결과 스레드를 모두 차지하지 않도록,
+ * 허용 수를 넘는 요청은 acquireTimeout 만큼 기다린 뒤 {@link ResourceAccessException} 으로 실패합니다.
+ * 슬롯은 응답 본문을 다 읽고 응답을 닫을 때 반환되므로 스트리밍으로 읽는 시간도 제한에 포함됩니다.
+ * 호스트별 사용 중인 슬롯 수는 {@code alan.http.permits.in_use} 게이지로 노출됩니다.
+ */
+public class PerHostConcurrencyInterceptor implements ClientHttpRequestInterceptor {
+
+	private final int maxConcurrentPerHost;
+	private final Duration acquireTimeout;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+	/**
+	 * @param maxConcurrentPerHost 호스트별 최대 동시 요청 수
+	 * @param acquireTimeout 슬롯을 기다리는 최대 시간
+	 * @param meterRegistry 게이지를 등록할 registry, 없으면 null
+	 */
+	public PerHostConcurrencyInterceptor(int maxConcurrentPerHost, Duration acquireTimeout,
+		MeterRegistry meterRegistry) {
+		this.maxConcurrentPerHost = maxConcurrentPerHost;
+		this.acquireTimeout = acquireTimeout;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+		throws IOException {
+		String host = request.getURI().getHost();
+		Semaphore semaphore = permits.computeIfAbsent(host, this::createPermits);
+		try {
+			if (!semaphore.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new ResourceAccessException("Too many concurrent requests to " + host);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ResourceAccessException("Interrupted while waiting for a connection to " + host);
+		}
+
+		try {
+			return new PermitReleasingResponse(execution.execute(request, body), semaphore);
+		} catch (IOException | RuntimeException e) {
+			semaphore.release();
+			throw e;
+		}
+	}
+
+	private Semaphore createPermits(String host) {
+		Semaphore semaphore = new Semaphore(maxConcurrentPerHost);
+		if (meterRegistry != null) {
+			Gauge.builder("alan.http.permits.in_use", semaphore,
+					s -> maxConcurrentPerHost - s.availablePermits())
+				.tag("host", host)
+				.register(meterRegistry);
+		}
+		return semaphore;
+	}
+
+	/* 응답을 닫을 때 한 번만 슬롯을 반환 */
+	private static class PermitReleasingResponse implements ClientHttpResponse {
+		private final ClientHttpResponse delegate;
+		private final Semaphore semaphore;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		PermitReleasingResponse(ClientHttpResponse delegate, Semaphore semaphore) {
+			this.delegate = delegate;
+			this.semaphore = semaphore;
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() throws IOException {
+			return delegate.getStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return delegate.getStatusText();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return delegate.getHeaders();
+		}
+
+		@Override
+		public InputStream getBody() throws IOException {
+			return delegate.getBody();
+		}
+
+		@Override
+		public void close() {
+			try {
+				delegate.close();
+			} finally {
+				if (released.compareAndSet(false, true)) {
+					semaphore.release();
+				}
+			}
+		}
+	}
+}
@@ -1,14 +1,78 @@
 package org.example.spring.config;
 
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.example.spring.common.CircuitBreaker;
+import org.example.spring.common.PerHostConcurrencyInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class AlanAIConfig {
 
+	@Value("${alan.connect-timeout:PT2S}")
+	private Duration connectTimeout;
+
+	@Value("${alan.read-timeout:PT10S}")
+	private Duration readTimeout;
+
+	@Value("${alan.http.max-concurrent-per-host:16}")
+	private int maxConcurrentPerHost;
+
+	@Value("${alan.http.acquire-timeout:PT1S}")
+	private Duration acquireTimeout;
+
+	@Value("${alan.circuit-breaker.failure-threshold:5}")
+	private int failureThreshold;
+
+	@Value("${alan.circuit-breaker.open-duration:PT1M}")
+	private Duration openDuration;
+
+	/**
+	 * 외부 API 호출용 JDK HttpClient. 연결은 클라이언트 내부 풀에서 keep-alive 로 재사용되며,
+	 * 서버가 지원하면 HTTP/2 로 하나의 연결에 요청을 다중화합니다.
+	 * <p>
+	 * 연결 풀 크기와 keep-alive 시간은 JVM 전체에 적용되는 시스템 프로퍼티
+	 * ({@code jdk.httpclient.connectionPoolSize}, {@code jdk.httpclient.keepalive.timeout})로만 지정할 수 있으므로
+	 * 배포 스크립트의 JVM 옵션으로 지정합니다.
+	 */
+	@Bean
+	public HttpClient outboundHttpClient() {
+		return HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.connectTimeout(connectTimeout)
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbound-http-", 0).factory()))
+			.build();
+	}
+
+	/* Alan 호스트가 느려져도 호출 스레드가 무한정 묶이지 않도록 연결/응답 시간과 동시 요청 수 제한 */
+	@Bean
+	public RestTemplate restTemplate(RestTemplateBuilder builder, HttpClient outboundHttpClient,
+		ObjectProvider<MeterRegistry> meterRegistry) {
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(outboundHttpClient);
+		requestFactory.setReadTimeout(readTimeout);
+
+		// RestTemplateBuilder 로 생성해야 http.client.requests 메트릭이 함께 기록됨
+		return builder
+			.requestFactory(() -> requestFactory)
+			.additionalInterceptors(new PerHostConcurrencyInterceptor(maxConcurrentPerHost, acquireTimeout,
+				meterRegistry.getIfAvailable()))
+			.build();
+	}
+
 	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
+	public CircuitBreaker alanCircuitBreaker() {
+		return new CircuitBreaker(failureThreshold, openDuration, Clock.systemUTC());
 	}
 }
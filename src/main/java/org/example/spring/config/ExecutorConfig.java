@@ -0,0 +1,85 @@
+package org.example.spring.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 스레드와 분리해서 실행해야 하는 I/O 작업용 Executor 설정입니다.
+ */
+@Slf4j
+@Configuration
+public class ExecutorConfig {
+
+	@Value("${spring.task.scheduling.pool.size:4}")
+	private int schedulingPoolSize;
+
+	@Value("${spring.task.scheduling.thread-name-prefix:scheduling-}")
+	private String schedulingThreadNamePrefix;
+
+	@Value("${image.upload.concurrency:32}")
+	private int imageUploadConcurrency;
+
+	@Value("${image.processing.pool-size:2}")
+	private int imageProcessingPoolSize;
+
+	@Value("${image.processing.queue-capacity:200}")
+	private int imageProcessingQueueCapacity;
+
+	/*
+	 * @Scheduled 용 스케줄러. @EnableWebSocketMessageBroker 가 messageBrokerTaskScheduler 를 등록하므로
+	 * Spring Boot 의 스케줄러 자동 설정이 적용되지 않아, @Scheduled 가 찾는 이름(taskScheduler)으로 직접 등록합니다.
+	 * 가상 스레드 모드에서도 고정 크기 풀을 사용합니다. SimpleAsyncTaskScheduler 는 fixedDelay 작업을 스케줄러 스레드 하나에서
+	 * 차례로 실행하므로, 오래 걸리는 작업(메일 발송, outbox relay)이 1초 주기 작업을 막게 됩니다.
+	 */
+	@Bean(name = "taskScheduler")
+	public TaskScheduler taskScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setThreadNamePrefix(schedulingThreadNamePrefix);
+		scheduler.setPoolSize(schedulingPoolSize);
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(30);
+		return scheduler;
+	}
+
+	/* 이미지 업로드 전용 Executor: 가상 스레드 + 동시 업로드 수 제한 (초과 시 호출 스레드가 대기) */
+	@Bean
+	public SimpleAsyncTaskExecutor imageUploadExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("image-upload-");
+		executor.setVirtualThreads(true);
+		executor.setConcurrencyLimit(imageUploadConcurrency);
+		return executor;
+	}
+
+	/* outbox relay 전용 Executor: 커밋 직후 요청 스레드를 막지 않고 relay 를 깨움 */
+	@Bean
+	public SimpleAsyncTaskExecutor outboxRelayExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("outbox-relay-");
+		executor.setVirtualThreads(true);
+		return executor;
+	}
+
+	/*
+	 * 썸네일/압축본 생성 전용 Executor: CPU 를 많이 쓰는 작업이므로 고정 크기 풀 + 제한된 큐를 사용합니다.
+	 * 큐가 가득 차면 작업을 버리고 원본 이미지를 그대로 사용합니다.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor imageProcessingExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("image-processing-");
+		executor.setCorePoolSize(imageProcessingPoolSize);
+		executor.setMaxPoolSize(imageProcessingPoolSize);
+		executor.setQueueCapacity(imageProcessingQueueCapacity);
+		executor.setRejectedExecutionHandler((task, pool) ->
+			log.warn("Image processing queue is full, variant generation skipped"));
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+}
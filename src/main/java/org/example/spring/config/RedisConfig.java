@@ -1,7 +1,11 @@
 package org.example.spring.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.SocketOptions;
+import org.example.spring.domain.message.messageDto.MessageResponseDto;
+import org.example.spring.redis.ChatMessageSerializer;
+import org.example.spring.redis.RedisSubscriber;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,11 +43,19 @@ public class RedisConfig {
         return new LettuceConnectionFactory(redisConfig, clientConfiguration);
     }
 
-    /* Redis의 Pub/Sub 메시지 수신 컨테이너 */
+    /*
+     * Redis의 Pub/Sub 메시지 수신 컨테이너. 모든 채팅방을 패턴 구독 하나로 받음.
+     * STOMP broker relay 모드에서는 외부 브로커가 노드 간 전달을 맡으므로 구독하지 않음
+     */
     @Bean
-    public RedisMessageListenerContainer redisMessageListener(RedisConnectionFactory connectionFactory){
+    public RedisMessageListenerContainer redisMessageListener(RedisConnectionFactory connectionFactory,
+                                                              RedisSubscriber redisSubscriber,
+                                                              @Value("${websocket.broker.mode:simple}") String brokerMode){
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+        if (!WebSocketConfig.RELAY_MODE.equals(brokerMode)) {
+            container.addMessageListener(redisSubscriber, RedisSubscriber.ALL_ROOMS);
+        }
         return container;
     }
 
@@ -56,4 +68,15 @@ public class RedisConfig {
         redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(String.class));
         return redisTemplate;
     }
+
+    /* 채팅 메시지 발행 전용 템플릿. 값은 STOMP 로 그대로 전달할 수 있는 JSON 바이트 */
+    @Bean
+    public RedisTemplate<String, MessageResponseDto> chatRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                                       ObjectMapper objectMapper){
+        RedisTemplate<String, MessageResponseDto> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new ChatMessageSerializer(objectMapper));
+        return redisTemplate;
+    }
 }
\ No newline at end of file
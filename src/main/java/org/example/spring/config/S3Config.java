@@ -1,15 +1,19 @@
 package org.example.spring.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
 	@Value("${cloud.aws.credentials.accessKey}")
@@ -21,12 +25,22 @@ public class S3Config {
 	@Value("${cloud.aws.region.static}")
 	private String region;
 
+	// 로컬 S3 호환 서버(MinIO, LocalStack 등)를 사용할 때만 지정
+	@Value("${cloud.aws.s3.endpoint:}")
+	private String endpoint;
+
 	@Bean
 	public AmazonS3 amazonS3() {
 		BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
-		return AmazonS3ClientBuilder.standard()
-			.withRegion(region)
-			.withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-			.build();
+		AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+			.withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+
+		if (StringUtils.hasText(endpoint)) {
+			builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+				.withPathStyleAccessEnabled(true);
+		} else {
+			builder.withRegion(region);
+		}
+		return builder.build();
 	}
 }
@@ -0,0 +1,34 @@
+package org.example.spring.config;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+
+import org.example.spring.lock.LockProvider;
+import org.example.spring.lock.RedisLockProvider;
+import org.example.spring.lock.SchedulerLockExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class SchedulerLockConfig {
+
+	@Value("${scheduler.lock.key-prefix:scheduler-lock:}")
+	private String keyPrefix;
+
+	/* 노드 식별자: 미지정 시 JVM 이름(pid@hostname) 사용 */
+	@Value("${scheduler.lock.node-id:}")
+	private String nodeId;
+
+	@Bean
+	public LockProvider lockProvider(StringRedisTemplate stringRedisTemplate) {
+		return new RedisLockProvider(stringRedisTemplate, keyPrefix);
+	}
+
+	@Bean
+	public SchedulerLockExecutor schedulerLockExecutor(LockProvider lockProvider) {
+		String owner = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+		return new SchedulerLockExecutor(lockProvider, owner, Clock.systemUTC());
+	}
+}
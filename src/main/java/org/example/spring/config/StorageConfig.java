@@ -0,0 +1,57 @@
+package org.example.spring.config;
+
+import java.nio.file.Path;
+
+import org.example.spring.storage.BlobStore;
+import org.example.spring.storage.LocalBlobStore;
+import org.example.spring.storage.S3BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.amazonaws.services.s3.AmazonS3;
+
+/**
+ * 이미지 저장소 설정입니다. {@code storage.type} 으로 S3(기본값)와 로컬 파일 시스템 중 하나를 선택합니다.
+ */
+@Configuration
+public class StorageConfig {
+
+	@Bean
+	@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+	public BlobStore s3BlobStore(AmazonS3 amazonS3,
+		@Value("${cloud.aws.s3.bucket}") String bucket,
+		@Value("${app.resource-url}") String resourceUrl,
+		@Value("${cloud.aws.s3.multipart.part-size:5MB}") DataSize partSize) {
+		return new S3BlobStore(amazonS3, bucket, resourceUrl, partSize);
+	}
+
+	@Configuration
+	@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+	static class LocalStorageConfig implements WebMvcConfigurer {
+
+		private static final String URL_PATH = "/uploads";
+
+		@Value("${file.upload-dir}")
+		private String uploadDir;
+
+		@Value("${app.base-url}")
+		private String baseUrl;
+
+		@Bean
+		public BlobStore localBlobStore() {
+			return new LocalBlobStore(Path.of(uploadDir), baseUrl + URL_PATH);
+		}
+
+		/* 로컬 저장소의 파일을 정적 리소스로 제공 */
+		@Override
+		public void addResourceHandlers(ResourceHandlerRegistry registry) {
+			registry.addResourceHandler(URL_PATH + "/**")
+				.addResourceLocations(Path.of(uploadDir).toAbsolutePath().toUri().toString());
+		}
+	}
+}
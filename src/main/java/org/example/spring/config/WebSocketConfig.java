@@ -3,33 +3,139 @@ package org.example.spring.config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.spring.config.handler.WebSocketHandler;
+import org.example.spring.websocket.OutboundDeliveryDecoratorFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
+import java.time.Duration;
+
+/**
+ * STOMP 설정.
+ * <p>
+ * websocket.broker.mode 가 simple(기본)이면 노드 메모리의 simple broker 를 쓰고, 노드 간 전달은 Redis 채널(RedisSubscriber)이 맡습니다.
+ * relay 이면 구독과 전달을 외부 STOMP 브로커(ActiveMQ Artemis 등)에 맡기고 Redis 채널은 사용하지 않습니다.
+ * 브로커는 /sub 로 시작하는 destination 을 그대로 받아야 합니다.
+ * /queue 는 /user/queue/... 로 구독한 세션 한 곳에만 보내는 메시지(저장 ack 등)에 사용합니다.
+ * <p>
+ * 인바운드/아웃바운드 채널은 스레드 풀에서 처리하므로 세션별 순서 보장을 켜 둡니다.
+ * 한 세션이 보낸 프레임은 받은 순서대로, 한 세션으로 가는 메시지는 발행한 순서대로 처리합니다.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    public static final String RELAY_MODE = "relay";
+
     private final WebSocketHandler webSocketHandler;
 
+    private final OutboundDeliveryDecoratorFactory outboundDeliveryDecoratorFactory;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    /* 서버 → 클라이언트, 클라이언트 → 서버 heartbeat 간격(ms). 0 이면 사용하지 않음 */
+    @Value("${websocket.broker.heartbeat.send:10000}")
+    private long heartbeatSend;
+
+    @Value("${websocket.broker.heartbeat.receive:10000}")
+    private long heartbeatReceive;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${websocket.transport.send-time-limit:15s}")
+    private Duration sendTimeLimit;
+
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.message-size-limit:131072}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.inbound.max-pool-size:8}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.inbound.queue-capacity:2147483647}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:8}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:2147483647}")
+    private int outboundQueueCapacity;
+
+    /* simple broker heartbeat 에 필요. 브로커 설정이 만든 스케줄러를 순환 참조 없이 받기 위해 @Lazy */
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
+
+    /* 세션별 전송 큐(OutboundDeliveryDecoratorFactory)가 느린 클라이언트를 먼저 처리하고, 아래 제한은 마지막 안전장치 */
     @Override
     public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
-        registration.setSendTimeLimit(15 * 1000)
-                .setSendBufferSizeLimit(512 * 1024)
-                .setMessageSizeLimit(128 * 1024);
+        registration.setSendTimeLimit((int) sendTimeLimit.toMillis())
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(outboundDeliveryDecoratorFactory);
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/sub");
+        if (RELAY_MODE.equals(brokerMode)) {
+            log.info("STOMP broker relay 사용: {}:{}", relayHost, relayPort);
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/sub", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(heartbeatSend)
+                    .setSystemHeartbeatReceiveInterval(heartbeatReceive);
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+        } else {
+            config.enableSimpleBroker("/sub", "/queue")
+                    .setHeartbeatValue(new long[] {heartbeatSend, heartbeatReceive})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
         config.setApplicationDestinationPrefixes("/pub");
+        // 같은 세션으로 가는 메시지가 아웃바운드 풀의 여러 스레드에서 뒤섞이지 않도록 발행 순서대로 전송
+        config.setPreservePublishOrder(true);
     }
 
     @Override
@@ -38,11 +144,25 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOrigins("https://ioshane.com/", "http://localhost:3000")
                 .withSockJS()
                 .setInterceptors(new HttpSessionHandshakeInterceptor());
+        // 한 세션의 SEND 가 인바운드 풀의 여러 스레드에서 뒤바뀌어 MessageIngestService 에 도착하지 않도록 받은 순서대로 처리
+        registry.setPreserveReceiveOrder(true);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(webSocketHandler);
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
     }
 
 //    @Bean
@@ -58,4 +178,4 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 //            }
 //        };
 //    }
-}
\ No newline at end of file
+}
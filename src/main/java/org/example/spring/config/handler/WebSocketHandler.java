@@ -3,38 +3,72 @@ package org.example.spring.config.handler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.spring.constant.ErrorCode;
+import org.example.spring.domain.member.Member;
+import org.example.spring.domain.member.MemberRole;
 import org.example.spring.exception.MessageException;
 import org.example.spring.security.jwt.JwtTokenValidator;
+import org.example.spring.websocket.ChatPrincipal;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
-import org.springframework.web.bind.annotation.CrossOrigin;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.Date;
 
+/**
+ * STOMP 인바운드 필터.
+ * <p>
+ * CONNECT 에서만 토큰을 검증하고 회원을 조회해 {@link ChatPrincipal} 을 세션 사용자로 등록합니다.
+ * 이후 SEND 는 세션에 묶인 principal 만 확인하므로 프레임마다 토큰 파싱이나 DB 조회가 없습니다.
+ * 채팅방 참여 여부는 각 목적지의 처리에서 Redis 의 참여 회원 캐시로 확인합니다 (메시지는 저장 큐에 넣기 전에 확인).
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class WebSocketHandler implements ChannelInterceptor {
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtTokenValidator jwtTokenValidator;
 
     /* 웹소켓 필터 역할 */
     @Override
-    @CrossOrigin
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        log.info("WebSocketHandler preSend");
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
-        log.info("=====??");
-        if (StompCommand.CONNECT == accessor.getCommand()) {
-            String jwt = Optional.of(accessor.getFirstNativeHeader("Authorization")
-                            .substring("Bearer ".length()))
-                    .orElseThrow(() -> new MessageException(ErrorCode.UNAUTHORIZED_MESSAGE_ACCESS));
-            jwtTokenValidator.validateToken(jwt);
-            log.info("=====!!");
+        // wrap 과 달리 헤더를 복사하지 않고 기존 accessor 를 그대로 사용
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+            case SEND -> authorize(accessor);
+            default -> {
+            }
         }
         return message;
     }
+
+    private ChatPrincipal authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new MessageException(ErrorCode.UNAUTHORIZED_MESSAGE_ACCESS);
+        }
+        String token = authorization.substring(BEARER_PREFIX.length());
+        Member member = jwtTokenValidator.validateTokenAndGetMember(token);
+        if (member.getRole() != MemberRole.USER && member.getRole() != MemberRole.ADMIN) {
+            throw new MessageException(ErrorCode.UNAUTHORIZED_MESSAGE_ACCESS);
+        }
+        Date expiration = jwtTokenValidator.getTokenExpiration(token);
+        log.debug("STOMP 연결 인증 memberId={}", member.getId());
+        return new ChatPrincipal(member.getId(), member.getNickname(),
+                expiration != null ? expiration.toInstant() : null);
+    }
+
+    private void authorize(StompHeaderAccessor accessor) {
+        if (!(accessor.getUser() instanceof ChatPrincipal principal) || principal.isExpired(Instant.now())) {
+            throw new MessageException(ErrorCode.UNAUTHORIZED_MESSAGE_ACCESS);
+        }
+    }
 }
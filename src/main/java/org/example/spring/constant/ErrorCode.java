@@ -10,6 +10,7 @@ public enum ErrorCode {
     MESSAGE_CONTENT_EMPTY(400, "메시지 내용이 비어 있습니다."),
     MEMBER_NOT_FOUND_IN_ROOM(404, "메시지 방에서 멤버를 찾을 수 없습니다."),
     UNAUTHORIZED_MESSAGE_ACCESS(403, "메시지 접근 권한이 없습니다."),
+    MESSAGE_QUEUE_FULL(503, "메시지가 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
     MESSAGE_FAILED(500, "서버 오류");
 
     @Getter
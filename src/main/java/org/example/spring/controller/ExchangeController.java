@@ -202,10 +202,11 @@ public class ExchangeController {
 	 * @param request               HTTP 요청 객체
 	 * @param id                    수정할 게시물의 ID
 	 * @param exchangeModifyRequestDto 수정할 게시물의 요청 데이터
-	 * @param images                수정할 이미지 리스트 (선택사항)
+	 * @param images                새로 추가할 이미지 리스트 (선택사항, imageOrder 의 newImageIndex 로 참조)
 	 * @return 게시물 수정 성공 여부를 포함한 응답
 	 */
-	@Operation(summary = "게시물 수정", description = "기존에 작성한 중고거래 게시물을 수정합니다.")
+	@Operation(summary = "게시물 수정", description = "기존에 작성한 중고거래 게시물을 수정합니다. "
+		+ "imageOrder 로 유지할 기존 이미지 id 와 새 이미지의 위치를 지정하면 변경된 이미지만 반영합니다.")
 	@ApiResponses(value = {
 		@ApiResponse(responseCode = "200", description = "게시물 수정 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExchangeResponseDto.class))),
 		@ApiResponse(responseCode = "401", description = "인증 실패")
@@ -215,7 +216,7 @@ public class ExchangeController {
 		@Parameter(description = "회원 여부 확인용 http request") HttpServletRequest request,
 		@Parameter(description = "게시물 ID", required = true) @PathVariable Long id,
 		@Parameter(description = "게시글 수정 요청 자료 DTO") @RequestPart("exchangeRequestDto") ExchangeModifyRequestDto exchangeModifyRequestDto,
-		@Parameter(description = "게시글에 포함된 이미지 리스트", required = false) @RequestPart(value = "images", required = false) List<MultipartFile> images) {
+		@Parameter(description = "새로 추가할 이미지 리스트", required = false) @RequestPart(value = "images", required = false) List<MultipartFile> images) {
 
 		try {
 			ExchangeResponseDto exchangeResponseDto = exchangeService.modifyExchange(request, id,
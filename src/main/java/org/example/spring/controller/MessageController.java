@@ -11,16 +11,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.spring.domain.member.Member;
 import org.example.spring.domain.member.dto.MemberResponseDto;
 import org.example.spring.domain.message.messageDto.*;
+import org.example.spring.service.ChatPresenceService;
+import org.example.spring.service.MessageIngestService;
+import org.example.spring.service.MessageReadService;
 import org.example.spring.service.MessageService;
+import org.example.spring.websocket.ChatPrincipal;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
@@ -37,6 +44,12 @@ public class MessageController {
 
     private final MessageService messageService;
 
+    private final MessageIngestService messageIngestService;
+
+    private final MessageReadService messageReadService;
+
+    private final ChatPresenceService chatPresenceService;
+
     @Operation(
             summary = "메시지 방의 참여 회원 목록 조회",
             description = "특정 메시지 방에서 참여 중인 모든 회원을 조회합니다.",
@@ -79,11 +92,31 @@ public class MessageController {
     )
     @MessageMapping("/chats/{roomId}")
 //    @SendTo("/sub/room/{roomId}")
-    public ResponseEntity sendMessage(@DestinationVariable Long roomId, @RequestBody @Validated MessageRequestDto messageRequestDto) {
-        log.info("메세지 52555555555");
-        ResponseDto response =
-                ResponseDto.of(messageService.createMessage(messageRequestDto));
-        return new ResponseEntity<>(response ,HttpStatus.CREATED);
+    public void sendMessage(@DestinationVariable Long roomId, @RequestBody @Validated MessageRequestDto messageRequestDto,
+                            ChatPrincipal principal) {
+        // 보낸 사람은 payload 의 memberId 가 아니라 CONNECT 에서 인증한 세션 사용자. 저장 결과는 /user/queue/messages 로 전달
+        messageIngestService.submit(principal, roomId, messageRequestDto.getMessageContent(),
+                messageRequestDto.getClientMessageId());
+    }
+
+    @MessageMapping("/chats/{roomId}/read")
+    public void markRead(@DestinationVariable Long roomId,
+                         @Payload(required = false) MessageReadRequestDto messageReadRequestDto, ChatPrincipal principal) {
+        messageReadService.markRead(principal.memberId(), roomId,
+                messageReadRequestDto != null ? messageReadRequestDto.getMessageId() : null);
+    }
+
+    // 접속 중 표시 heartbeat. chat.presence.online-ttl 안에 다시 보내야 접속 중으로 유지됨
+    @MessageMapping("/chats/{roomId}/presence")
+    public void heartbeat(@DestinationVariable Long roomId, ChatPrincipal principal,
+                          @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        chatPresenceService.heartbeat(principal.memberId(), sessionId, roomId);
+    }
+
+    @MessageMapping("/chats/{roomId}/typing")
+    public void typing(@DestinationVariable Long roomId, @Payload MessageTypingRequestDto messageTypingRequestDto,
+                       ChatPrincipal principal) {
+        chatPresenceService.typing(principal.memberId(), roomId, messageTypingRequestDto.isTyping());
     }
 
     @Operation(
@@ -105,7 +138,7 @@ public class MessageController {
 
     @Operation(
             summary = "회원의 메시지 방 목록 조회",
-            description = "특정 회원의 모든 메시지 방을 조회합니다.",
+            description = "특정 회원의 메시지 방을 마지막 메시지 시각 내림차순으로 조회합니다. 각 방의 참여자 닉네임, 마지막 메시지, 안 읽은 메시지 수를 포함합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "메시지 방 목록 조회 성공", content = @Content(schema = @Schema(implementation = PageResponseDto.class))),
                     @ApiResponse(responseCode = "404", description = "회원이 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
@@ -114,10 +147,11 @@ public class MessageController {
 
     @GetMapping("/member")
     public ResponseEntity<PageResponseDto> getMessageRooms(
-            @PageableDefault(page = 0, size = 10, sort = "lastMessageAt", direction = Sort.Direction.DESC)
-            Pageable pageable
+            @PageableDefault(page = 0, size = 10) Pageable pageable
     ) {
-        Page<MessageRoomResponseDto> messageRooms = messageService.getMessageRooms(pageable);
+        // 정렬은 마지막 메시지 시각 내림차순으로 고정
+        Page<MessageRoomSummaryResponseDto> messageRooms =
+                messageService.getMessageRooms(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
         PageResponseDto response = PageResponseDto.of(messageRooms.getContent(), messageRooms);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -139,6 +173,69 @@ public class MessageController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @Operation(
+            summary = "메시지 방의 이전 메시지 페이지 조회",
+            description = "before 로 받은 메시지 id 보다 오래된 메시지를 최신순으로 size 개 조회합니다. 첫 페이지는 before 없이 요청하고, 응답의 nextCursor 를 다음 요청의 before 로 사용합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "메시지 조회 성공", content = @Content(schema = @Schema(implementation = ResponseDto.class))),
+                    @ApiResponse(responseCode = "404", description = "메시지 방에 참여 중인 회원이 아님", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping("/room/{messageRoomId}/messages")
+    public ResponseEntity<ResponseDto> getMessageHistory(
+            @PathVariable("messageRoomId") @Positive Long messageRoomId,
+            @RequestParam(value = "before", required = false) @Positive Long before,
+            @RequestParam(value = "size", defaultValue = "30") int size
+    ) {
+        ResponseDto response =
+                ResponseDto.of(messageService.getMessageHistory(messageRoomId, before, size));
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "메시지 방 읽음 처리",
+            description = "특정 메시지 방을 messageId 까지 읽음 처리합니다. messageId 가 없으면 마지막 메시지까지 읽음 처리하고, 다른 참여자에게 읽음 표시를 보냅니다.",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "읽음 처리 성공"),
+                    @ApiResponse(responseCode = "404", description = "메시지 방에 참여 중인 회원이 아님", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping("/room/{messageRoomId}/read")
+    public ResponseEntity<Void> markRead(
+            @PathVariable("messageRoomId") @Positive Long messageRoomId,
+            @RequestParam(value = "messageId", required = false) @Positive Long messageId
+    ) {
+        messageService.markRead(messageRoomId, messageId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @Operation(
+            summary = "메시지 방별 안 읽은 수 조회",
+            description = "로그인한 회원의 메시지 방 id 별 안 읽은 메시지 수를 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "안 읽은 수 조회 성공", content = @Content(schema = @Schema(implementation = ResponseDto.class)))
+            }
+    )
+    @GetMapping("/unread")
+    public ResponseEntity<ResponseDto> getUnreadCounts() {
+        return new ResponseEntity<>(ResponseDto.of(messageService.getUnreadCounts()), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "메시지 방 읽음 표시 조회",
+            description = "특정 메시지 방 참여자별로 마지막으로 읽은 메시지 id 를 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "읽음 표시 조회 성공", content = @Content(schema = @Schema(implementation = ResponseDto.class))),
+                    @ApiResponse(responseCode = "404", description = "메시지 방에 참여 중인 회원이 아님", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping("/room/{messageRoomId}/reads")
+    public ResponseEntity<ResponseDto> getReadPositions(
+            @PathVariable("messageRoomId") @Positive Long messageRoomId
+    ) {
+        return new ResponseEntity<>(ResponseDto.of(messageService.getReadPositions(messageRoomId)), HttpStatus.OK);
+    }
+
 //    @Operation(
 //            summary = "메시지 전송",
 //            description = "특정 메시지 방에 메시지를 전송합니다.",
@@ -0,0 +1,47 @@
+package org.example.spring.domain.blob;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 콘텐츠 해시로 저장된 저장소 객체와 그 객체를 참조하는 이미지 row 의 수입니다.
+ * <p>
+ * 참조 수가 0 인 상태로 일정 시간이 지난 객체는 sweeper 가 저장소에서 삭제합니다.
+ * updatedAt 은 업로드/참조 변경 시마다 갱신되어, 업로드 직후 아직 참조되지 않은 객체를 보호하는 유예 기간의 기준이 됩니다.
+ */
+@Entity
+@Table(name = "stored_blob", uniqueConstraints = @UniqueConstraint(name = "uk_stored_blob_key", columnNames = "blob_key"))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StoredBlob {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "stored_blob_id")
+	private Long id;
+
+	@Column(name = "blob_key", nullable = false)
+	private String blobKey;
+
+	@Column(name = "ref_count", nullable = false)
+	private int refCount;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private Timestamp createdAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private Timestamp updatedAt;
+}
@@ -0,0 +1,64 @@
+package org.example.spring.domain.enrichment;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아직 정가(regularPrice)를 채우지 못한 게시글입니다.
+ * <p>
+ * 게시글 저장과 같은 트랜잭션에서 기록되므로 서버가 재시작되어도 작업이 유실되지 않으며,
+ * 성공하면 삭제되고 실패하면 nextAttemptAt 을 뒤로 미뤄 재시도합니다.
+ */
+@Entity
+@Table(name = "pending_enrichment",
+	uniqueConstraints = @UniqueConstraint(name = "uk_pending_enrichment_exchange", columnNames = "exchange_id"))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PendingEnrichment {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "pending_enrichment_id")
+	private Long id;
+
+	@Column(name = "exchange_id", nullable = false)
+	private Long exchangeId;
+
+	@Column(name = "title", nullable = false)
+	private String title;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private Timestamp nextAttemptAt;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private Timestamp createdAt;
+
+	/**
+	 * 제목이 바뀌어 다시 조회해야 할 때 재시도 상태를 초기화합니다.
+	 */
+	public void reschedule(String title, Timestamp now) {
+		this.title = title;
+		this.attempts = 0;
+		this.nextAttemptAt = now;
+		this.lastError = null;
+	}
+}
@@ -25,6 +25,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -83,6 +84,7 @@ public class Exchange {
 	private Review review;
 
 	@OneToMany(mappedBy = "exchange", cascade = CascadeType.ALL, orphanRemoval = true)
+	@OrderBy("sortOrder ASC, id ASC")
 	private List<ExchangeImage> images = new ArrayList<>();
 
 	@Column(name = "reviewed_at")
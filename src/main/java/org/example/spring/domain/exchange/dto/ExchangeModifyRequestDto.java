@@ -1,6 +1,9 @@
 package org.example.spring.domain.exchange.dto;
 
+import java.util.List;
+
 import org.example.spring.constants.SalesStatus;
+import org.example.spring.domain.exchangeImage.dto.ExchangeImageOrderDto;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,4 +17,6 @@ public class ExchangeModifyRequestDto {
 	private final int price;
 	private final String content;
 	private final SalesStatus status;
+	// 수정 후 이미지 순서. 목록에 없는 기존 이미지는 삭제되며, null 이면 기존 이미지를 모두 업로드한 이미지로 교체
+	private final List<ExchangeImageOrderDto> imageOrder;
 }
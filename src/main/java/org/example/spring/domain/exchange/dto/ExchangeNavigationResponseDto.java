@@ -4,6 +4,7 @@ import java.sql.Timestamp;
 
 import org.example.spring.constants.SalesStatus;
 import org.example.spring.domain.exchange.Exchange;
+import org.example.spring.domain.exchangeImage.ExchangeImage;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -22,7 +23,9 @@ public class ExchangeNavigationResponseDto {
 	public static ExchangeNavigationResponseDto fromExchange(Exchange exchange, String url) {
 		String imageUrl = "";
 		if (!exchange.getImages().isEmpty()) {
-			imageUrl = exchange.getImages().getFirst().getUrl();
+			// 목록 화면에는 원본 대신 썸네일을 사용하고, 아직 생성되지 않았다면 원본을 사용
+			ExchangeImage image = exchange.getImages().getFirst();
+			imageUrl = image.getThumbnailUrl() != null ? image.getThumbnailUrl() : image.getUrl();
 		}
 
 		return ExchangeNavigationResponseDto.builder()
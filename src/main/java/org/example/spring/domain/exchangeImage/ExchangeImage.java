@@ -39,6 +39,17 @@ public class ExchangeImage {
 	@Column(name = "url", nullable = false)
 	private String url;
 
+	// 업로드 이후 비동기로 생성되는 변환본. 생성 전에는 null 이며 원본 url 을 사용합니다.
+	@Column(name = "thumbnail_url")
+	private String thumbnailUrl;
+
+	@Column(name = "display_url")
+	private String displayUrl;
+
+	// 게시글 내 이미지 순서 (이전에 저장된 이미지는 null 이며 id 순서로 정렬)
+	@Column(name = "sort_order")
+	private Integer sortOrder;
+
 	@Column(name = "created_at", nullable = false, updatable = false)
 	@CreationTimestamp
 	private Timestamp createdAt;
@@ -50,4 +61,8 @@ public class ExchangeImage {
 	public void disassociateExchange() {
 		this.exchange = null;
 	}
+
+	public void changeSortOrder(int sortOrder) {
+		this.sortOrder = sortOrder;
+	}
 }
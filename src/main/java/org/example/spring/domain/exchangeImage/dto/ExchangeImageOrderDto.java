@@ -0,0 +1,17 @@
+package org.example.spring.domain.exchangeImage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게시글 수정 시 이미지 한 칸의 정보입니다. 기존 이미지를 유지하면 imageId 를, 새로 올린 파일이면
+ * 요청에 포함된 images 파트에서의 순서(0부터 시작)를 newImageIndex 로 지정합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ExchangeImageOrderDto {
+	private final Long imageId;
+	private final Integer newImageIndex;
+}
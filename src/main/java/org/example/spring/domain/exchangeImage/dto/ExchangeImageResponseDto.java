@@ -15,8 +15,15 @@ import lombok.NoArgsConstructor;
 public class ExchangeImageResponseDto {
 	private Long id;
 	private String url;
+	private String thumbnailUrl;
+	private String displayUrl;
 
 	public static ExchangeImageResponseDto fromImage(ExchangeImage image) {
-		return ExchangeImageResponseDto.builder().id(image.getId()).url(image.getUrl()).build();
+		return ExchangeImageResponseDto.builder()
+			.id(image.getId())
+			.url(image.getUrl())
+			.thumbnailUrl(image.getThumbnailUrl() != null ? image.getThumbnailUrl() : image.getUrl())
+			.displayUrl(image.getDisplayUrl() != null ? image.getDisplayUrl() : image.getUrl())
+			.build();
 	}
 }
@@ -0,0 +1,63 @@
+package org.example.spring.domain.mail;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아직 발송하지 않은 이메일입니다.
+ * <p>
+ * 요청 트랜잭션 안에서 기록되고 커밋 이후 백그라운드 dispatcher 가 발송합니다. 발송에 성공하면 삭제됩니다.
+ * 같은 수신자에게 같은 종류의 메일을 다시 요청하면 새 row 를 만들지 않고 내용만 교체하며(dedupe_key), 이때 version 이 올라갑니다.
+ */
+@Entity
+@Table(name = "email_outbox",
+	uniqueConstraints = @UniqueConstraint(name = "uk_email_outbox_dedupe_key", columnNames = "dedupe_key"))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EmailOutbox {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "email_outbox_id")
+	private Long id;
+
+	@Column(name = "dedupe_key", nullable = false)
+	private String dedupeKey;
+
+	@Column(name = "recipient", nullable = false)
+	private String recipient;
+
+	@Column(name = "subject", nullable = false)
+	private String subject;
+
+	@Column(name = "body", nullable = false, columnDefinition = "TEXT")
+	private String body;
+
+	@Column(name = "version", nullable = false)
+	private int version;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private Timestamp nextAttemptAt;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private Timestamp createdAt;
+}
@@ -10,7 +10,8 @@ import org.example.spring.domain.member.Member;
 @Getter
 @Entity
 @Builder
-@Table(name = "message")
+@Table(name = "message",
+        indexes = @Index(name = "idx_message_room_message", columnList = "message_room_id, message_id"))
 public class Message extends Auditable {
 
     @Id
@@ -5,8 +5,11 @@ import lombok.*;
 import org.example.spring.audit.Auditable;
 import org.example.spring.domain.member.Member;
 
+import java.sql.Timestamp;
+
 @Entity
-@Table(name = "message_member")
+@Table(name = "message_member",
+        indexes = @Index(name = "idx_message_member_inbox", columnList = "member_id, last_message_at, message_room_id"))
 @Builder
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -25,4 +28,12 @@ public class MessageMember extends Auditable {
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "message_room_id", nullable = false)
     private MessageRoom messageRoom;
+
+    /* 이 회원이 마지막으로 읽은 메시지 id. 이후에 온 다른 회원의 메시지가 안 읽은 메시지 */
+    @Column(name = "last_read_message_id")
+    private Long lastReadMessageId;
+
+    /* 채팅방 마지막 메시지 시각의 사본. 채팅방 목록을 (member_id, last_message_at) 인덱스 순서로 읽기 위해 함께 갱신 */
+    @Column(name = "last_message_at")
+    private Timestamp lastMessageAt;
 }
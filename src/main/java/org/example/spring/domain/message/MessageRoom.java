@@ -24,20 +24,11 @@ public class MessageRoom extends Auditable {
     @Column(name = "last_message_at")
     private Timestamp lastMessageAt;
 
+    /* 마지막 메시지 id. 메시지 저장 시 MessageRoomRepository.updateLastMessage 로 함께 갱신 */
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
     @OneToMany(mappedBy = "messageRoom", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @OrderBy("createdAt DESC")
     private Set<Message> messages = new LinkedHashSet<>();
-
-    public Message getLastMessage() {
-        return messages.stream().findFirst().orElse(null);
-    }
-
-    public void updateLastMessageAt() {
-        Message lastMessage = getLastMessage();
-        if (lastMessage != null) {
-            this.lastMessageAt = lastMessage.getCreatedAt();
-        } else {
-            this.lastMessageAt = null;
-        }
-    }
 }
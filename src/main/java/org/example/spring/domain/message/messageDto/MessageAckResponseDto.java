@@ -0,0 +1,43 @@
+package org.example.spring.domain.message.messageDto;
+
+import lombok.*;
+
+import java.sql.Timestamp;
+
+/* STOMP 로 보낸 메시지의 저장 결과. 배치가 커밋된 뒤 보낸 사람에게만 /user/queue/messages 로 전달 */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@Getter
+@Builder
+public class MessageAckResponseDto {
+
+    private String clientMessageId;
+
+    private Long messageRoomId;
+
+    /* 저장에 실패하면 null */
+    private Long messageId;
+
+    private Timestamp createdAt;
+
+    private boolean persisted;
+
+    public static MessageAckResponseDto persisted(MessageResponseDto message, Long messageId) {
+        return of(message, messageId, true);
+    }
+
+    public static MessageAckResponseDto failed(MessageResponseDto message) {
+        return of(message, null, false);
+    }
+
+    private static MessageAckResponseDto of(MessageResponseDto message, Long messageId, boolean persisted) {
+        return MessageAckResponseDto.builder()
+                .clientMessageId(message.getClientMessageId())
+                .messageRoomId(message.getMessageRoomId())
+                .messageId(messageId)
+                .createdAt(message.getCreatedAt())
+                .persisted(persisted)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.spring.domain.message.messageDto;
+
+import lombok.*;
+
+import java.util.List;
+
+/* 채팅방 메시지 한 페이지. 다음 페이지는 nextCursor 를 before 로 넘겨 조회 */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@Getter
+@Builder
+public class MessageHistoryResponseDto {
+
+    private Long messageRoomId;
+
+    private List<MessageResponseDto> messages;
+
+    private boolean hasNext;
+
+    private Long nextCursor;
+
+    public static MessageHistoryResponseDto of(Long messageRoomId, List<MessageResponseDto> messages, boolean hasNext) {
+        return MessageHistoryResponseDto.builder()
+                .messageRoomId(messageRoomId)
+                .messages(messages)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? messages.get(messages.size() - 1).getMessageId() : null)
+                .build();
+    }
+}
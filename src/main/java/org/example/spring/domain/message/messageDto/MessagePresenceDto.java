@@ -0,0 +1,34 @@
+package org.example.spring.domain.message.messageDto;
+
+import lombok.*;
+
+import java.util.List;
+
+/* 채팅방 구독자에게 보내는 접속/입력 중 상태. 채팅 메시지와 같은 /sub/room/{id} 로 가므로 type 으로 구분 */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@Getter
+@Builder
+public class MessagePresenceDto {
+    public static final String TYPE = "PRESENCE";
+
+    private String type;
+
+    private Long messageRoomId;
+
+    /* 채팅방에 접속 중인 회원 id */
+    private List<Long> onlineMemberIds;
+
+    /* 입력 중인 회원 id */
+    private List<Long> typingMemberIds;
+
+    public static MessagePresenceDto of(Long messageRoomId, List<Long> onlineMemberIds, List<Long> typingMemberIds) {
+        return MessagePresenceDto.builder()
+                .type(TYPE)
+                .messageRoomId(messageRoomId)
+                .onlineMemberIds(onlineMemberIds)
+                .typingMemberIds(typingMemberIds)
+                .build();
+    }
+}
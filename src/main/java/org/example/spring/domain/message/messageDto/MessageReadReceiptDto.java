@@ -0,0 +1,30 @@
+package org.example.spring.domain.message.messageDto;
+
+import lombok.*;
+
+/* 채팅방 구독자에게 보내는 읽음 표시. 채팅 메시지와 같은 /sub/room/{id} 로 가므로 type 으로 구분 */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@Getter
+@Builder
+public class MessageReadReceiptDto {
+    public static final String TYPE = "READ";
+
+    private String type;
+
+    private Long messageRoomId;
+
+    private Long memberId;
+
+    private Long lastReadMessageId;
+
+    public static MessageReadReceiptDto of(Long messageRoomId, Long memberId, Long lastReadMessageId) {
+        return MessageReadReceiptDto.builder()
+                .type(TYPE)
+                .messageRoomId(messageRoomId)
+                .memberId(memberId)
+                .lastReadMessageId(lastReadMessageId)
+                .build();
+    }
+}
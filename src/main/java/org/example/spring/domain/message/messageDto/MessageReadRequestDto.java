@@ -0,0 +1,13 @@
+package org.example.spring.domain.message.messageDto;
+
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class MessageReadRequestDto {
+    /* 여기까지 읽음. 없으면 채팅방의 마지막 메시지까지 */
+    private Long messageId;
+}
@@ -10,7 +10,7 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
 public class MessageRequestDto {
-    @NotNull
+    /* 사용하지 않음. 보낸 사람은 인증 정보(토큰, STOMP 세션)로 결정 */
     private Long memberId;
 
     @NotNull
@@ -18,4 +18,7 @@ public class MessageRequestDto {
 
     @NotBlank
     private String messageContent;
+
+    /* 클라이언트가 붙이는 임시 id. 저장 확인(ack)과 구독으로 받은 자기 메시지를 짝지을 때 사용 */
+    private String clientMessageId;
 }
@@ -28,15 +28,25 @@ public class MessageResponseDto {
 
 	private Timestamp createdAt;
 
+	// STOMP 로 보낸 메시지는 저장 전에 먼저 전달되므로 messageId 대신 보낸 클라이언트의 임시 id 가 들어 있음
+	private String clientMessageId;
+
 	/**
 	 *  Message 엔티티를 DTO로 변환하는 메서드
 	 **/
 	public static MessageResponseDto of(Message message) {
+		return of(message, MemberMessageResponseDto.fromMember(message.getMember()));
+	}
+
+	/**
+	 *  보낸 회원 정보를 이미 알고 있을 때 회원 엔티티를 로딩하지 않고 변환하는 메서드
+	 **/
+	public static MessageResponseDto of(Message message, MemberMessageResponseDto member) {
 		return MessageResponseDto.builder()
 			.messageRoomId(message.getMessageRoom().getId())
 			.messageId(message.getId())
 			.messageContent(message.getMessageContent())
-			.member(MemberMessageResponseDto.fromMember(message.getMember()))
+			.member(member)
 			.createdAt(message.getCreatedAt())
 			.build();
 	}
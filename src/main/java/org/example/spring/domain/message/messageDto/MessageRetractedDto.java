@@ -0,0 +1,33 @@
+package org.example.spring.domain.message.messageDto;
+
+import lombok.*;
+
+/*
+ * 먼저 전달했지만 저장하지 못한 채팅 메시지의 취소 알림. 채팅 메시지와 같은 /sub/room/{id} 로 가므로 type 으로 구분.
+ * 저장 전 메시지에는 message_id 가 없으므로 보낸 회원 id 와 clientMessageId 로 화면의 메시지를 찾아 지움
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@Getter
+@Builder
+public class MessageRetractedDto {
+    public static final String TYPE = "RETRACTED";
+
+    private String type;
+
+    private Long messageRoomId;
+
+    private Long memberId;
+
+    private String clientMessageId;
+
+    public static MessageRetractedDto of(MessageResponseDto message) {
+        return MessageRetractedDto.builder()
+                .type(TYPE)
+                .messageRoomId(message.getMessageRoomId())
+                .memberId(message.getMember().getId())
+                .clientMessageId(message.getClientMessageId())
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.spring.domain.message.messageDto;
+
+import lombok.*;
+import org.example.spring.repository.message.MessageRoomSummary;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/* 채팅방 목록 화면용 요약. 메시지 본문 목록 없이 마지막 메시지 미리보기와 안 읽은 수만 포함 */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@Getter
+@Builder
+public class MessageRoomSummaryResponseDto {
+
+    private Long messageRoomId;
+
+    private Timestamp createdAt;
+
+    private Timestamp lastMessageAt;
+
+    private List<String> participantNicknames;
+
+    private String lastMessageContent;
+
+    private long unreadCount;
+
+    public static MessageRoomSummaryResponseDto of(MessageRoomSummary summary, long unreadCount) {
+        return MessageRoomSummaryResponseDto.builder()
+                .messageRoomId(summary.getMessageRoomId())
+                .createdAt(toTimestamp(summary.getCreatedAt()))
+                .lastMessageAt(toTimestamp(summary.getLastMessageAt()))
+                .participantNicknames(summary.getParticipantNicknames() != null ?
+                        List.of(summary.getParticipantNicknames().split("\n")) :
+                        Collections.emptyList())
+                .lastMessageContent(summary.getLastMessageContent())
+                .unreadCount(unreadCount)
+                .build();
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.spring.domain.message.messageDto;
+
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class MessageTypingRequestDto {
+    /* 입력을 시작했거나 계속 중이면 true, 멈췄거나 입력창을 비웠으면 false */
+    private boolean typing;
+}
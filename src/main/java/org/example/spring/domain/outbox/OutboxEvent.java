@@ -0,0 +1,67 @@
+package org.example.spring.domain.outbox;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커밋 이후 처리해야 하는 도메인 이벤트입니다.
+ * <p>
+ * 이벤트를 발생시킨 변경과 같은 트랜잭션에서 기록되므로, 롤백된 변경의 이벤트는 처리되지 않고
+ * 커밋된 변경의 이벤트는 서버가 재시작되어도 유실되지 않습니다. 같은 aggregate 의 이벤트는 id 순서대로 처리됩니다.
+ */
+@Entity
+@Table(name = "outbox_event",
+	indexes = @Index(name = "idx_outbox_event_aggregate", columnList = "aggregate_type, aggregate_id, outbox_event_id"))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OutboxEvent {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_event_id")
+	private Long id;
+
+	@Column(name = "aggregate_type", nullable = false, length = 50)
+	private String aggregateType;
+
+	@Column(name = "aggregate_id", nullable = false)
+	private String aggregateId;
+
+	@Column(name = "event_type", nullable = false, length = 100)
+	private String eventType;
+
+	@Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private Timestamp nextAttemptAt;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private Timestamp createdAt;
+
+	/**
+	 * @return 처리 순서를 보장하는 단위
+	 */
+	public String aggregateKey() {
+		return aggregateType + ":" + aggregateId;
+	}
+}
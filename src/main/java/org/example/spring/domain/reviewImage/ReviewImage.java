@@ -36,6 +36,13 @@ public class ReviewImage {
     @Column(name = "url", nullable = false)
     private String url;
 
+    // 업로드 이후 비동기로 생성되는 변환본. 생성 전에는 null 이며 원본 url 을 사용합니다.
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "display_url")
+    private String displayUrl;
+
     @Column(name = "created_at", nullable = false)
     private Timestamp createdAt;
 }
@@ -0,0 +1,8 @@
+package org.example.spring.exception;
+
+public class FanOutTimeoutException extends RuntimeException {
+
+    public FanOutTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.spring.lock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 획득한 잠금 임대 정보입니다.
+ * <p>
+ * {@code id}는 획득할 때마다 새로 만드는 임의 값으로,
+ * 임대가 만료되어 다른 노드로 넘어간 뒤 이전 소유자가 잠금을 해제하거나 연장하는 것을 막는 데 사용됩니다.
+ * 작업이 쓰는 데이터를 보호하는 fencing token 은 아니므로, 임대 만료 전에 작업이 끝나도록 실행 시간을 제한해야 합니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class Lease {
+	private final String name;
+	private final String owner;
+	private final String id;
+
+	/**
+	 * 잠금 저장소에 기록되는 값. 소유자와 임대 id 를 함께 보관합니다.
+	 */
+	public String value() {
+		return owner + ":" + id;
+	}
+}
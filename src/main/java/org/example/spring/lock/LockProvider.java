@@ -0,0 +1,29 @@
+package org.example.spring.lock;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 클러스터 잠금 저장소에 대한 추상화입니다.
+ */
+public interface LockProvider {
+
+	/**
+	 * 잠금이 비어 있으면 임대를 획득합니다.
+	 *
+	 * @param name 잠금 이름
+	 * @param owner 잠금을 요청하는 노드 식별자
+	 * @param lockAtMostFor 임대 만료 시간
+	 * @return 획득한 임대, 이미 다른 노드가 보유 중이면 빈 값
+	 */
+	Optional<Lease> tryAcquire(String name, String owner, Duration lockAtMostFor);
+
+	/**
+	 * 임대를 해제합니다. 저장소의 값이 임대의 값과 일치할 때만 해제됩니다.
+	 *
+	 * @param lease 해제할 임대
+	 * @param keepFor 0보다 크면 즉시 삭제하지 않고 남은 시간만큼 유지한 뒤 만료시킵니다.
+	 * @return 임대가 여전히 본인 소유였으면 true, 이미 만료되어 다른 노드로 넘어갔으면 false
+	 */
+	boolean release(Lease lease, Duration keepFor);
+}
@@ -0,0 +1,51 @@
+package org.example.spring.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis {@code SET NX PX}를 사용하는 {@link LockProvider} 구현체입니다.
+ * <p>
+ * 잠금 값에는 소유자와 획득마다 새로 만든 임대 id 를 기록하고,
+ * 해제/연장은 Lua 스크립트로 값을 비교한 뒤 원자적으로 수행합니다.
+ */
+@Slf4j
+public class RedisLockProvider implements LockProvider {
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then "
+			+ "  if tonumber(ARGV[2]) > 0 then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+			+ "  return redis.call('DEL', KEYS[1]) "
+			+ "end "
+			+ "return 0", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final String keyPrefix;
+
+	public RedisLockProvider(StringRedisTemplate redisTemplate, String keyPrefix) {
+		this.redisTemplate = redisTemplate;
+		this.keyPrefix = keyPrefix;
+	}
+
+	@Override
+	public Optional<Lease> tryAcquire(String name, String owner, Duration lockAtMostFor) {
+		Lease lease = new Lease(name, owner, UUID.randomUUID().toString());
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(keyPrefix + name, lease.value(), lockAtMostFor);
+		return Boolean.TRUE.equals(acquired) ? Optional.of(lease) : Optional.empty();
+	}
+
+	@Override
+	public boolean release(Lease lease, Duration keepFor) {
+		Long result = redisTemplate.execute(RELEASE_SCRIPT, List.of(keyPrefix + lease.getName()),
+			lease.value(), String.valueOf(Math.max(keepFor.toMillis(), 0)));
+		return result != null && result > 0;
+	}
+}
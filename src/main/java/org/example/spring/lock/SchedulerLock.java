@@ -0,0 +1,35 @@
+package org.example.spring.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 노드에서 동시에 실행되는 {@code @Scheduled} 작업을 하나의 노드에서만 실행되도록 제한합니다.
+ * <p>
+ * 작업 실행 전 {@link LockProvider}를 통해 이름 단위의 임대(lease)를 획득하며,
+ * 임대를 획득하지 못한 노드는 해당 회차의 실행을 건너뜁니다.
+ * 기간 값은 {@code 50s}, {@code 10m} 또는 ISO-8601({@code PT50S}) 형식을 사용합니다.
+ * 임대는 fencing token 을 제공하지 않으므로 작업은 {@code lockAtMostFor} 안에 끝나도록 실행 시간을 직접 제한해야 합니다
+ * (트랜잭션 timeout 또는 실행 시간 제한). 반환값이 없는({@code void}) 메서드에만 사용할 수 있습니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLock {
+
+	/**
+	 * 클러스터 전체에서 작업을 식별하는 잠금 이름
+	 */
+	String name();
+
+	/**
+	 * 임대의 최대 유지 시간. 노드가 비정상 종료되더라도 이 시간이 지나면 다른 노드가 작업을 인계받습니다.
+	 */
+	String lockAtMostFor();
+
+	/**
+	 * 임대의 최소 유지 시간. 작업이 빨리 끝나더라도 노드 간 시계 차이로 같은 회차가 다시 실행되지 않도록 합니다.
+	 */
+	String lockAtLeastFor() default "0s";
+}
@@ -0,0 +1,41 @@
+package org.example.spring.lock;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link SchedulerLock}이 붙은 메서드를 {@link SchedulerLockExecutor}로 감쌉니다.
+ * <p>
+ * 트랜잭션보다 바깥에서 잠금을 획득하도록 가장 높은 우선순위로 적용됩니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SchedulerLockAspect {
+
+	private final SchedulerLockExecutor schedulerLockExecutor;
+
+	/*
+	 * 잠금을 획득하지 못하면 작업을 건너뛰므로 돌려줄 결과가 없음. 반환값이 있는 메서드는 호출 시점에 거절
+	 */
+	@Around("@annotation(schedulerLock)")
+	public Object lock(ProceedingJoinPoint joinPoint, SchedulerLock schedulerLock) throws Throwable {
+		if (joinPoint.getSignature() instanceof MethodSignature signature && signature.getReturnType() != void.class) {
+			throw new IllegalStateException("@SchedulerLock can only be used on void methods: " + signature);
+		}
+		schedulerLockExecutor.execute(schedulerLock.name(),
+			DurationStyle.detectAndParse(schedulerLock.lockAtMostFor()),
+			DurationStyle.detectAndParse(schedulerLock.lockAtLeastFor()),
+			joinPoint::proceed);
+		return null;
+	}
+}
@@ -0,0 +1,72 @@
+package org.example.spring.lock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 임대를 획득한 노드에서만 작업을 실행합니다.
+ * <p>
+ * 임대를 획득하지 못하면 작업을 건너뛰고, 실행이 끝나면 {@code lockAtLeastFor}를 채울 때까지 임대를 유지한 뒤 해제합니다.
+ * 해제 시점에 임대가 이미 다른 노드로 넘어갔다면(임대 값 불일치) 경고 로그를 남깁니다.
+ */
+@Slf4j
+public class SchedulerLockExecutor {
+
+	private final LockProvider lockProvider;
+	@Getter
+	private final String nodeId;
+	private final Clock clock;
+
+	public SchedulerLockExecutor(LockProvider lockProvider, String nodeId, Clock clock) {
+		this.lockProvider = lockProvider;
+		this.nodeId = nodeId;
+		this.clock = clock;
+	}
+
+	/**
+	 * 잠금을 획득한 경우에만 작업을 실행합니다.
+	 *
+	 * @param name 잠금 이름
+	 * @param lockAtMostFor 임대 최대 유지 시간
+	 * @param lockAtLeastFor 임대 최소 유지 시간
+	 * @param task 실행할 작업
+	 * @return 작업을 실행했으면 true, 다른 노드가 잠금을 보유하고 있어 건너뛰었으면 false
+	 * @throws Throwable 작업에서 발생한 예외
+	 */
+	public boolean execute(String name, Duration lockAtMostFor, Duration lockAtLeastFor, LockedTask task)
+		throws Throwable {
+		Optional<Lease> acquired = lockProvider.tryAcquire(name, nodeId, lockAtMostFor);
+		if (acquired.isEmpty()) {
+			log.debug("Scheduler lock '{}' is held by another node, skipping on {}", name, nodeId);
+			return false;
+		}
+
+		Lease lease = acquired.get();
+		Instant startedAt = clock.instant();
+		log.debug("Scheduler lock acquired: {}", lease);
+		try {
+			task.run();
+			return true;
+		} finally {
+			Duration elapsed = Duration.between(startedAt, clock.instant());
+			Duration keepFor = lockAtLeastFor.minus(elapsed);
+			if (!lockProvider.release(lease, keepFor.isNegative() ? Duration.ZERO : keepFor)) {
+				log.warn("Scheduler lock '{}' expired before the job finished (lease {}), another node may have taken over",
+					name, lease.getId());
+			}
+		}
+	}
+
+	/**
+	 * 잠금 안에서 실행할 작업
+	 */
+	@FunctionalInterface
+	public interface LockedTask {
+		void run() throws Throwable;
+	}
+}
@@ -0,0 +1,27 @@
+package org.example.spring.outbox;
+
+/**
+ * 한 종류의 outbox 이벤트를 처리합니다. 같은 이벤트가 두 번 전달될 수 있으므로 멱등하게 구현해야 합니다.
+ *
+ * @param <T> 이벤트 payload 타입
+ */
+public interface OutboxEventHandler<T> {
+
+	/**
+	 * @return 처리할 이벤트 타입
+	 */
+	String eventType();
+
+	/**
+	 * @return payload 를 역직렬화할 타입
+	 */
+	Class<T> payloadType();
+
+	/**
+	 * 이벤트를 처리합니다. 예외를 던지면 백오프 후 다시 시도하며, 그동안 같은 aggregate 의 뒤 이벤트는 처리하지 않습니다.
+	 *
+	 * @param payload 이벤트 payload
+	 * @throws Exception 처리에 실패한 경우
+	 */
+	void handle(T payload) throws Exception;
+}
@@ -0,0 +1,86 @@
+package org.example.spring.outbox;
+
+import java.sql.Timestamp;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.example.spring.domain.outbox.OutboxEvent;
+import org.example.spring.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에서 outbox 이벤트를 기록합니다.
+ * <p>
+ * 커밋이 끝나면 {@link OutboxRelay} 를 바로 깨워 지연 없이 처리하며, 이 신호를 놓치더라도 relay 의 주기적인 polling 이 처리합니다.
+ * 짧은 시간에 여러 번 커밋되면 깨우는 신호는 하나로 합쳐집니다.
+ */
+@Component
+public class OutboxEventPublisher {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxRelay outboxRelay;
+	private final Executor outboxRelayExecutor;
+	private final ObjectMapper objectMapper;
+	private final AtomicBoolean relayRequested = new AtomicBoolean();
+
+	public OutboxEventPublisher(OutboxEventRepository outboxEventRepository, OutboxRelay outboxRelay,
+		@Qualifier("outboxRelayExecutor") Executor outboxRelayExecutor, ObjectMapper objectMapper) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.outboxRelay = outboxRelay;
+		this.outboxRelayExecutor = outboxRelayExecutor;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 이벤트를 기록합니다. 반드시 도메인 변경을 저장하는 트랜잭션 안에서 호출해야 합니다.
+	 *
+	 * @param aggregateType 이벤트가 속한 aggregate 종류 (예: MessageRoom)
+	 * @param aggregateId aggregate 식별자. 같은 aggregate 의 이벤트는 기록된 순서대로 처리됩니다.
+	 * @param eventType 처리할 {@link OutboxEventHandler} 의 이벤트 타입
+	 * @param payload JSON 으로 직렬화할 payload
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void publish(String aggregateType, Object aggregateId, String eventType, Object payload) {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		outboxEventRepository.save(OutboxEvent.builder()
+			.aggregateType(aggregateType)
+			.aggregateId(String.valueOf(aggregateId))
+			.eventType(eventType)
+			.payload(serialize(payload))
+			.nextAttemptAt(now)
+			.createdAt(now)
+			.build());
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				requestRelay();
+			}
+		});
+	}
+
+	private void requestRelay() {
+		if (relayRequested.compareAndSet(false, true)) {
+			outboxRelayExecutor.execute(() -> {
+				relayRequested.set(false);
+				outboxRelay.relay();
+			});
+		}
+	}
+
+	private String serialize(Object payload) {
+		try {
+			return objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Outbox payload 를 직렬화할 수 없습니다: " + payload.getClass(), e);
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package org.example.spring.outbox;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.example.spring.domain.outbox.OutboxEvent;
+import org.example.spring.lock.SchedulerLock;
+import org.example.spring.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 에 기록된 이벤트를 커밋 이후 처리합니다.
+ * <p>
+ * 이벤트를 id 순서로 batchSize 개씩 가져와 처리하고, 성공한 이벤트는 한 번에 삭제합니다.
+ * 처리에 실패한 이벤트는 백오프 후 다시 시도하며, 그동안 같은 aggregate 의 뒤 이벤트는 처리하지 않아 순서를 지킵니다.
+ * 순서를 보장하기 위해 클러스터 전체에서 하나의 노드만 relay 를 실행합니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+	private final Map<String, OutboxEventHandler<?>> handlers;
+
+	@Value("${outbox.relay.batch-size:100}")
+	private int batchSize;
+
+	@Value("${outbox.relay.max-attempts:10}")
+	private int maxAttempts;
+
+	@Value("${outbox.relay.backoff-base:PT1S}")
+	private Duration backoffBase;
+
+	@Value("${outbox.relay.backoff-max:PT10M}")
+	private Duration backoffMax;
+
+	// 한 번의 실행에서 새 batch 를 시작하는 최대 시간. 임대(lockAtMostFor = 5m)가 만료되어 다른 노드가
+	// 같은 aggregate 를 동시에 처리하지 않도록, 마지막 batch 의 처리 시간을 더해도 5분보다 충분히 짧아야 함
+	@Value("${outbox.relay.max-run:PT1M}")
+	private Duration maxRun;
+
+	public OutboxRelay(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+		List<OutboxEventHandler<?>> handlers) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.objectMapper = objectMapper;
+		this.handlers = handlers.stream()
+			.collect(Collectors.toMap(OutboxEventHandler::eventType, Function.identity()));
+	}
+
+	/**
+	 * 처리할 이벤트가 없을 때까지 batch 단위로 처리합니다.
+	 * max-run 이 지나면 새 batch 를 시작하지 않고 남은 이벤트는 다음 실행에서 처리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${outbox.relay.poll-interval:PT1S}")
+	@SchedulerLock(name = "relayOutboxEvents", lockAtMostFor = "5m")
+	public void relay() {
+		long deadline = System.nanoTime() + maxRun.toNanos();
+		List<OutboxEvent> batch;
+		int processed;
+		do {
+			batch = outboxEventRepository.findDue(new Timestamp(System.currentTimeMillis()),
+				PageRequest.of(0, batchSize));
+			processed = relayBatch(batch);
+		} while (batch.size() == batchSize && processed > 0 && System.nanoTime() - deadline < 0);
+	}
+
+	int relayBatch(List<OutboxEvent> batch) {
+		Set<String> blockedAggregates = new HashSet<>();
+		List<Long> completed = new ArrayList<>();
+
+		for (OutboxEvent event : batch) {
+			if (blockedAggregates.contains(event.aggregateKey())) {
+				continue;
+			}
+			try {
+				dispatch(event);
+				completed.add(event.getId());
+			} catch (Exception e) {
+				blockedAggregates.add(event.aggregateKey());
+				retryOrGiveUp(event, e);
+			}
+		}
+
+		if (!completed.isEmpty()) {
+			outboxEventRepository.deleteAllByIdInBatch(completed);
+		}
+		return completed.size();
+	}
+
+	private <T> void dispatch(OutboxEvent event) throws Exception {
+		@SuppressWarnings("unchecked")
+		OutboxEventHandler<T> handler = (OutboxEventHandler<T>)handlers.get(event.getEventType());
+		if (handler == null) {
+			throw new IllegalStateException("No handler for outbox event type " + event.getEventType());
+		}
+		handler.handle(objectMapper.readValue(event.getPayload(), handler.payloadType()));
+	}
+
+	private void retryOrGiveUp(OutboxEvent event, Exception e) {
+		int attempts = event.getAttempts() + 1;
+		if (attempts >= maxAttempts) {
+			log.error("Giving up outbox event {} ({} {}) after {} attempts: {}", event.getId(), event.getEventType(),
+				event.aggregateKey(), attempts, e.getMessage());
+			outboxEventRepository.deleteAllByIdInBatch(List.of(event.getId()));
+			return;
+		}
+
+		Duration backoff = backoffBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+		if (backoff.compareTo(backoffMax) > 0) {
+			backoff = backoffMax;
+		}
+		long millis = Math.max(backoff.toMillis(), 2);
+		long delay = millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2);
+		log.warn("Outbox event {} ({} {}) failed (attempt {}), retrying in {} ms: {}", event.getId(),
+			event.getEventType(), event.aggregateKey(), attempts, delay, e.getMessage());
+		String message = String.valueOf(e.getMessage());
+		outboxEventRepository.reschedule(event.getId(), new Timestamp(System.currentTimeMillis() + delay),
+			message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+	}
+}
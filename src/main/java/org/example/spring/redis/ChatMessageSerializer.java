@@ -0,0 +1,55 @@
+package org.example.spring.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.spring.domain.message.messageDto.MessageResponseDto;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * 채팅 메시지를 Redis 채널에 싣는 직렬화기입니다.
+ * <p>
+ * 메시지를 STOMP 로 내보낼 때와 같은 ObjectMapper 로 한 번만 JSON(UTF-8 바이트)으로 만듭니다.
+ * 채팅방 id 는 채널 이름에 있으므로, 구독 쪽은 본문을 다시 파싱하지 않고 그대로 STOMP 구독자에게 전달합니다.
+ */
+public class ChatMessageSerializer implements RedisSerializer<MessageResponseDto> {
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public ChatMessageSerializer(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(MessageResponseDto.class);
+        this.reader = objectMapper.readerFor(MessageResponseDto.class);
+    }
+
+    @Override
+    public byte[] serialize(MessageResponseDto message) throws SerializationException {
+        if (message == null) {
+            return new byte[0];
+        }
+        try {
+            return writer.writeValueAsBytes(message);
+        } catch (IOException e) {
+            throw new SerializationException("채팅 메시지 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public MessageResponseDto deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("채팅 메시지 역직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return MessageResponseDto.class;
+    }
+}
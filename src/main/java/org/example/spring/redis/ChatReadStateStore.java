@@ -0,0 +1,239 @@
+package org.example.spring.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 안 읽은 수와 읽은 위치를 보관하는 Redis 저장소입니다.
+ * <ul>
+ *     <li>{@code chat:unread:{memberId}} 회원별 hash. field 는 채팅방 id, 값은 안 읽은 수</li>
+ *     <li>{@code chat:read:{messageRoomId}} 채팅방별 hash. field 는 회원 id, 값은 마지막으로 읽은 message_id</li>
+ *     <li>{@code chat:room-last} 채팅방별 마지막 message_id</li>
+ *     <li>{@code chat:room-members:{messageRoomId}} 채팅방 참여 회원 id 캐시</li>
+ *     <li>{@code chat:read-dirty} 아직 message_member 에 반영하지 않은 읽은 위치 ("roomId:memberId")</li>
+ * </ul>
+ * 안 읽은 수 hash 는 DB 에서 한 번 채운 뒤에만 증가시키므로, 없거나 만료되면 다음 조회에서 DB 로 다시 채웁니다.
+ * 채우는 동안에는 hash 에 진행 중 표시만 두고, 그 사이에 온 증가분은 그대로 쌓았다가 DB 값에 더합니다.
+ * 채우는 동안 끝까지 읽은 채팅방은 {@code read:{messageRoomId}} field 로 표시해 DB 값을 더하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatReadStateStore {
+    private static final String UNREAD_KEY_PREFIX = "chat:unread:";
+    private static final String READ_KEY_PREFIX = "chat:read:";
+    private static final String ROOM_LAST_KEY = "chat:room-last";
+    private static final String ROOM_MEMBERS_KEY_PREFIX = "chat:room-members:";
+    private static final String DIRTY_KEY = "chat:read-dirty";
+
+    // 채운 회원인데 채팅방이 하나도 없을 때도 hash 가 남아 있도록 넣는 field
+    private static final String SEEDED_FIELD = "_";
+    // DB 에서 채우는 중임을 나타내는 field. 채우던 노드가 실패하면 SEED_TIMEOUT 뒤 hash 와 함께 사라짐
+    private static final String SEEDING_FIELD = "_seeding";
+    private static final String READ_DURING_SEED_PREFIX = "read:";
+    private static final Duration SEED_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final RedisScript<Long> BEGIN_SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], '1') "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "return 1", Long.class);
+
+    // 채우는 동안 쌓인 증가분에 DB 값을 더함. 채우는 동안 끝까지 읽은 채팅방은 읽은 뒤의 증가분만 남김
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return 0 end "
+                    + "for i = 5, #ARGV, 2 do "
+                    + "if redis.call('HDEL', KEYS[1], ARGV[2] .. ARGV[i]) == 0 then "
+                    + "redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "end "
+                    + "for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do "
+                    + "if string.sub(field, 1, string.len(ARGV[2])) == ARGV[2] then redis.call('HDEL', KEYS[1], field) end "
+                    + "end "
+                    + "redis.call('HDEL', KEYS[1], ARGV[1]) "
+                    + "redis.call('HSET', KEYS[1], ARGV[3], '0') "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+                    + "return 1", Long.class);
+
+    private static final RedisScript<Long> INCREMENT_IF_SEEDED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) end "
+                    + "return -1", Long.class);
+
+    private static final RedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1])) "
+                    + "if current and current >= tonumber(ARGV[2]) then return 0 end "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "return 1", Long.class);
+
+    /*
+     * 읽은 위치를 앞으로 옮기고 flush 대상으로 표시. 채팅방의 마지막 메시지까지 읽었을 때만 안 읽은 수를 0 으로 만들고,
+     * 중간까지만 읽었으면 남은 수를 알 수 없으므로 그대로 둠
+     */
+    private static final RedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1])) "
+                    + "if current and current >= tonumber(ARGV[2]) then return 0 end "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "local last = tonumber(redis.call('HGET', KEYS[4], ARGV[3])) "
+                    + "if last and tonumber(ARGV[2]) >= last and redis.call('EXISTS', KEYS[2]) == 1 then "
+                    + "redis.call('HSET', KEYS[2], ARGV[3], 0) "
+                    + "if redis.call('HEXISTS', KEYS[2], ARGV[4]) == 1 then "
+                    + "redis.call('HSET', KEYS[2], ARGV[5] .. ARGV[3], '1') end "
+                    + "end "
+                    + "redis.call('SADD', KEYS[3], ARGV[3] .. ':' .. ARGV[1]) "
+                    + "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /* 채팅방 참여 회원 id. 캐시에 없으면 null */
+    public Set<Long> roomMembers(Long messageRoomId) {
+        Set<String> members = redisTemplate.opsForSet().members(ROOM_MEMBERS_KEY_PREFIX + messageRoomId);
+        if (members == null || members.isEmpty()) {
+            return null;
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    public void cacheRoomMembers(Long messageRoomId, Collection<Long> memberIds, Duration ttl) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        String key = ROOM_MEMBERS_KEY_PREFIX + messageRoomId;
+        redisTemplate.opsForSet().add(key, memberIds.stream().map(String::valueOf).toArray(String[]::new));
+        redisTemplate.expire(key, ttl);
+    }
+
+    /* 회원이 채팅방을 나가면 참여 회원 캐시를 지우고 그 회원의 읽음 상태를 정리 */
+    public void removeMember(Long messageRoomId, Long memberId) {
+        redisTemplate.delete(ROOM_MEMBERS_KEY_PREFIX + messageRoomId);
+        redisTemplate.opsForHash().delete(UNREAD_KEY_PREFIX + memberId, String.valueOf(messageRoomId));
+        redisTemplate.opsForHash().delete(READ_KEY_PREFIX + messageRoomId, String.valueOf(memberId));
+    }
+
+    /* 이미 채웠거나 채우는 중인 회원의 안 읽은 수만 증가 */
+    public void incrementUnread(Long memberId, Long messageRoomId, long count) {
+        redisTemplate.execute(INCREMENT_IF_SEEDED_SCRIPT, List.of(UNREAD_KEY_PREFIX + memberId),
+                String.valueOf(messageRoomId), String.valueOf(count));
+    }
+
+    /* 채팅방별 안 읽은 수. 아직 채우지 않았거나, 채우는 중이거나, 만료되었으면 null */
+    public Map<Long, Long> unreadCounts(Long memberId, Duration ttl) {
+        String key = UNREAD_KEY_PREFIX + memberId;
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+        if (!entries.containsKey(SEEDED_FIELD)) {
+            return null;
+        }
+        redisTemplate.expire(key, ttl);
+        return toLongMap(entries);
+    }
+
+    /**
+     * DB 에서 안 읽은 수를 채우기 시작합니다. 이후 {@link #incrementUnread} 는 증가분을 쌓아 두고,
+     * {@link #seedUnreadCounts} 에서 DB 값에 더해집니다.
+     *
+     * @return 이 호출이 채우기를 맡았으면 true. 이미 채웠거나 다른 곳에서 채우는 중이면 false
+     */
+    public boolean beginSeed(Long memberId) {
+        Long result = redisTemplate.execute(BEGIN_SEED_SCRIPT, List.of(UNREAD_KEY_PREFIX + memberId),
+                SEEDING_FIELD, String.valueOf(SEED_TIMEOUT.toMillis()));
+        return result != null && result > 0;
+    }
+
+    /* beginSeed 이후 DB 에서 센 값을 채우기 중 쌓인 증가분과 합쳐 한 번에 반영 */
+    public void seedUnreadCounts(Long memberId, Map<Long, Long> unreadCounts, Duration ttl) {
+        List<String> args = new ArrayList<>(4 + unreadCounts.size() * 2);
+        args.add(SEEDING_FIELD);
+        args.add(READ_DURING_SEED_PREFIX);
+        args.add(SEEDED_FIELD);
+        args.add(String.valueOf(ttl.toMillis()));
+        unreadCounts.forEach((messageRoomId, count) -> {
+            args.add(String.valueOf(messageRoomId));
+            args.add(String.valueOf(count));
+        });
+        redisTemplate.execute(SEED_SCRIPT, List.of(UNREAD_KEY_PREFIX + memberId), args.toArray());
+    }
+
+    public void advanceLastMessage(Long messageRoomId, Long messageId) {
+        redisTemplate.execute(ADVANCE_SCRIPT, List.of(ROOM_LAST_KEY), String.valueOf(messageRoomId),
+                String.valueOf(messageId));
+    }
+
+    /* 채팅방의 마지막 message_id. 모르면 null */
+    public Long lastMessageId(Long messageRoomId) {
+        Object value = redisTemplate.opsForHash().get(ROOM_LAST_KEY, String.valueOf(messageRoomId));
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+
+    /**
+     * 읽은 위치를 messageId 로 옮기고, 채팅방의 마지막 메시지까지 읽었으면 안 읽은 수를 0 으로 만듭니다.
+     * 이미 더 뒤까지 읽었으면 아무것도 하지 않습니다.
+     *
+     * @return 읽은 위치가 바뀌었으면 true
+     */
+    public boolean markRead(Long messageRoomId, Long memberId, Long messageId) {
+        Long result = redisTemplate.execute(MARK_READ_SCRIPT,
+                List.of(READ_KEY_PREFIX + messageRoomId, UNREAD_KEY_PREFIX + memberId, DIRTY_KEY, ROOM_LAST_KEY),
+                String.valueOf(memberId), String.valueOf(messageId), String.valueOf(messageRoomId), SEEDING_FIELD,
+                READ_DURING_SEED_PREFIX);
+        return result != null && result > 0;
+    }
+
+    /* 채팅방 회원별 마지막으로 읽은 message_id */
+    public Map<Long, Long> readPositions(Long messageRoomId) {
+        return toLongMap(redisTemplate.opsForHash().entries(READ_KEY_PREFIX + messageRoomId));
+    }
+
+    /**
+     * flush 대상 읽은 위치를 최대 count 개 꺼냅니다. 꺼낸 항목은 다른 노드가 다시 꺼내지 않습니다.
+     */
+    public List<ReadPosition> popDirty(int count) {
+        List<String> dirty = redisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        if (dirty == null || dirty.isEmpty()) {
+            return List.of();
+        }
+        List<ReadPosition> positions = new ArrayList<>(dirty.size());
+        for (String entry : dirty) {
+            int separator = entry.indexOf(':');
+            Long messageRoomId = Long.valueOf(entry.substring(0, separator));
+            Long memberId = Long.valueOf(entry.substring(separator + 1));
+            Object messageId = redisTemplate.opsForHash().get(READ_KEY_PREFIX + messageRoomId, String.valueOf(memberId));
+            if (messageId != null) {
+                positions.add(new ReadPosition(messageRoomId, memberId, Long.valueOf(messageId.toString())));
+            }
+        }
+        return positions;
+    }
+
+    /* flush 에 실패한 항목을 다시 표시 */
+    public void markDirty(Collection<ReadPosition> positions) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_KEY, positions.stream()
+                .map(position -> position.messageRoomId() + ":" + position.memberId())
+                .toArray(String[]::new));
+    }
+
+    private static Map<Long, Long> toLongMap(Map<Object, Object> entries) {
+        Map<Long, Long> result = new HashMap<>();
+        entries.forEach((field, value) -> {
+            String name = field.toString();
+            if (!name.startsWith("_") && !name.startsWith(READ_DURING_SEED_PREFIX)) {
+                result.put(Long.valueOf(name), Long.valueOf(value.toString()));
+            }
+        });
+        return result;
+    }
+
+    public record ReadPosition(Long messageRoomId, Long memberId, Long messageId) {
+    }
+}
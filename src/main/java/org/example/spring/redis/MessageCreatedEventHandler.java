@@ -0,0 +1,47 @@
+package org.example.spring.redis;
+
+import org.example.spring.config.WebSocketConfig;
+import org.example.spring.domain.message.messageDto.MessageResponseDto;
+import org.example.spring.outbox.OutboxEventHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/*
+ * 커밋된 메시지를 채팅방 구독자에게 전달 (outbox 경유).
+ * simple broker 모드에서는 Redis 채널로 발행해 모든 노드가 받게 하고, relay 모드에서는 외부 브로커로 바로 보냄
+ */
+@Component
+public class MessageCreatedEventHandler implements OutboxEventHandler<MessageResponseDto> {
+    public static final String EVENT_TYPE = "MessageCreated";
+
+    private final RedisPublisher redisPublisher;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final boolean relayMode;
+
+    public MessageCreatedEventHandler(RedisPublisher redisPublisher, SimpMessageSendingOperations messagingTemplate,
+                                      @Value("${websocket.broker.mode:simple}") String brokerMode) {
+        this.redisPublisher = redisPublisher;
+        this.messagingTemplate = messagingTemplate;
+        this.relayMode = WebSocketConfig.RELAY_MODE.equals(brokerMode);
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<MessageResponseDto> payloadType() {
+        return MessageResponseDto.class;
+    }
+
+    @Override
+    public void handle(MessageResponseDto message) {
+        if (relayMode) {
+            messagingTemplate.convertAndSend(RedisSubscriber.destinationOf(message.getMessageRoomId()), message);
+            return;
+        }
+        redisPublisher.publish(RedisSubscriber.topicOf(message.getMessageRoomId()), message);
+    }
+}
@@ -1,20 +1,23 @@
 package org.example.spring.redis;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.spring.domain.message.messageDto.MessageResponseDto;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class RedisPublisher {
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, MessageResponseDto> chatRedisTemplate;
+
+    public RedisPublisher(@Qualifier("chatRedisTemplate") RedisTemplate<String, MessageResponseDto> chatRedisTemplate) {
+        this.chatRedisTemplate = chatRedisTemplate;
+    }
 
     public void publish(ChannelTopic topic, MessageResponseDto message){
-        redisTemplate.convertAndSend(topic.getTopic(), message);
-        log.info("메세지 보냄");
+        chatRedisTemplate.convertAndSend(topic.getTopic(), message);
+        log.debug("메세지 보냄 channel={}", topic.getTopic());
     }
 }
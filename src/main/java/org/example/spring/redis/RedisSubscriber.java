@@ -1,39 +1,89 @@
 package org.example.spring.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.spring.domain.message.messageDto.MessageResponseDto;
+import org.example.spring.websocket.BoundedOutboundSession;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 모든 채팅방 채널을 패턴 구독 하나({@code messageRoom*})로 받아 이 노드의 STOMP 구독자에게 전달합니다.
+ * 채팅방마다 리스너를 등록하지 않으므로 노드의 구독 수와 메모리는 채팅방 수와 관계없이 일정합니다.
+ * 본문은 {@link ChatMessageSerializer} 등이 만든 JSON 이며 다시 파싱하지 않습니다.
+ * 채널이 {@code messageRoom{id}#{key}} 형태이면 key 를 coalesce 헤더로 붙여 세션 전송 큐에서 같은 key 의 이전 메시지를 대체하게 합니다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class RedisSubscriber implements MessageListener {
-    private final ObjectMapper objectMapper;
-    private final RedisTemplate redisTemplate;
+    public static final String CHANNEL_PREFIX = "messageRoom";
+    public static final PatternTopic ALL_ROOMS = new PatternTopic(CHANNEL_PREFIX + "*");
+
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/room/";
+    private static final char COALESCE_SEPARATOR = '#';
+
     private final SimpMessageSendingOperations messagingTemplate;
 
+    /* 채팅방 id 에 해당하는 STOMP 구독 destination */
+    public static String destinationOf(Long messageRoomId) {
+        return ROOM_DESTINATION_PREFIX + messageRoomId;
+    }
+
+    /* 채팅방 id 에 해당하는 Redis 채널 */
+    public static ChannelTopic topicOf(Long messageRoomId) {
+        return ChannelTopic.of(CHANNEL_PREFIX + messageRoomId);
+    }
+
+    /* 최신 것만 의미가 있는 메시지(읽음 표시, 접속 상태 등)를 보낼 채널. coalesceKey 가 없으면 topicOf 와 같음 */
+    public static ChannelTopic topicOf(Long messageRoomId, String coalesceKey) {
+        if (coalesceKey == null) {
+            return topicOf(messageRoomId);
+        }
+        return ChannelTopic.of(CHANNEL_PREFIX + messageRoomId + COALESCE_SEPARATOR + coalesceKey);
+    }
+
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        int separator = channel.indexOf(COALESCE_SEPARATOR);
+        Long messageRoomId = messageRoomIdOf(separator < 0 ? channel : channel.substring(0, separator));
+        if (messageRoomId == null) {
+            log.warn("채팅방 채널이 아닌 메시지 무시: {}", channel);
+            return;
+        }
         try {
-            String publishMessage = String.valueOf(
-                    redisTemplate
-                            .getStringSerializer()
-                            .deserialize(message.getBody()));
-
-            MessageResponseDto dto = objectMapper.readValue(publishMessage, MessageResponseDto.class);
-            log.info("message = {}", dto);
-            messagingTemplate.convertAndSend("/sub/room/" + dto.getMessageRoomId(), dto);
-            log.info("메세지 받음");
+            // ChatMessageSerializer 가 만든 JSON 바이트를 파싱하지 않고 그대로 전달
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            if (separator >= 0) {
+                accessor.setNativeHeader(BoundedOutboundSession.COALESCE_HEADER, channel.substring(separator + 1));
+            }
+            messagingTemplate.send(destinationOf(messageRoomId),
+                    MessageBuilder.createMessage(message.getBody(), accessor.getMessageHeaders()));
         }
         catch (Exception e){
-            log.error(e.getMessage());
+            log.error("채팅 메시지 전달 실패 channel={}", channel, e);
         }
     }
 
+    /* 패턴이 messageRoom12x 같은 채널도 받으므로 숫자 id 인 채널만 채팅방으로 취급 */
+    private static Long messageRoomIdOf(String channel) {
+        if (!channel.startsWith(CHANNEL_PREFIX) || channel.length() == CHANNEL_PREFIX.length()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package org.example.spring.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.spring.config.WebSocketConfig;
+import org.example.spring.websocket.BoundedOutboundSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/*
+ * 채팅 메시지가 아닌 채팅방 이벤트(읽음 표시 등)를 방 구독자 전체에게 전달.
+ * simple broker 모드에서는 채팅 메시지와 같은 Redis 채널로 보내 모든 노드가 받게 하고, relay 모드에서는 외부 브로커로 바로 보냄
+ */
+@Slf4j
+@Component
+public class RoomBroadcaster {
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean relayMode;
+
+    public RoomBroadcaster(StringRedisTemplate redisTemplate, SimpMessageSendingOperations messagingTemplate,
+                           ObjectMapper objectMapper, @Value("${websocket.broker.mode:simple}") String brokerMode) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.relayMode = WebSocketConfig.RELAY_MODE.equals(brokerMode);
+    }
+
+    /**
+     * 채팅방 구독자에게 payload 를 JSON 으로 보냅니다.
+     *
+     * @param messageRoomId 채팅방 id
+     * @param payload 보낼 객체
+     * @param coalesceKey 같은 key 의 아직 못 보낸 이전 메시지를 대체할 때 사용 (없으면 null)
+     */
+    public void broadcast(Long messageRoomId, Object payload, String coalesceKey) {
+        if (relayMode) {
+            Map<String, Object> headers = coalesceKey != null
+                    ? Map.of(BoundedOutboundSession.COALESCE_HEADER, coalesceKey) : null;
+            messagingTemplate.convertAndSend(RedisSubscriber.destinationOf(messageRoomId), payload, headers);
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(RedisSubscriber.topicOf(messageRoomId, coalesceKey).getTopic(),
+                    objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            log.error("채팅방 이벤트 직렬화 실패 room={}", messageRoomId, e);
+        }
+    }
+}
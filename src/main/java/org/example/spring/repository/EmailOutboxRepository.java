@@ -0,0 +1,43 @@
+package org.example.spring.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.example.spring.domain.mail.EmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+	// 같은 dedupe_key 로 아직 발송되지 않은 메일이 있으면 새로 쌓지 않고 내용과 재시도 상태만 교체
+	// MySQL 은 새로 삽입한 경우 1, 기존 row 를 갱신한 경우 2 를 반환
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO email_outbox "
+		+ "(dedupe_key, recipient, subject, body, version, attempts, next_attempt_at, created_at) "
+		+ "VALUES (:dedupeKey, :recipient, :subject, :body, 0, 0, :now, :now) "
+		+ "ON DUPLICATE KEY UPDATE subject = VALUES(subject), body = VALUES(body), version = version + 1, "
+		+ "attempts = 0, next_attempt_at = VALUES(next_attempt_at), last_error = NULL", nativeQuery = true)
+	int enqueue(@Param("dedupeKey") String dedupeKey, @Param("recipient") String recipient,
+		@Param("subject") String subject, @Param("body") String body, @Param("now") Timestamp now);
+
+	@Query("SELECT e FROM EmailOutbox e WHERE e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+	List<EmailOutbox> findDue(@Param("now") Timestamp now, Pageable pageable);
+
+	// 발송 도중 내용이 교체되었다면(version 변경) 새 내용은 남겨 다음 주기에 발송
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM EmailOutbox e WHERE e.id = :id AND e.version = :version")
+	int deleteByIdAndVersion(@Param("id") Long id, @Param("version") int version);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE EmailOutbox e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, "
+		+ "e.lastError = :lastError WHERE e.id = :id AND e.version = :version")
+	int reschedule(@Param("id") Long id, @Param("version") int version,
+		@Param("nextAttemptAt") Timestamp nextAttemptAt, @Param("lastError") String lastError);
+}
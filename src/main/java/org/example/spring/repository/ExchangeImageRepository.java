@@ -2,6 +2,17 @@ package org.example.spring.repository;
 
 import org.example.spring.domain.exchangeImage.ExchangeImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ExchangeImageRepository extends JpaRepository<ExchangeImage, Long> {
+
+	// 비동기로 생성된 썸네일/압축 변환본 url 반영
+	@Transactional
+	@Modifying
+	@Query("UPDATE ExchangeImage i SET i.thumbnailUrl = :thumbnailUrl, i.displayUrl = :displayUrl WHERE i.id = :id")
+	int updateVariants(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl,
+		@Param("displayUrl") String displayUrl);
 }
@@ -0,0 +1,28 @@
+package org.example.spring.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.example.spring.domain.outbox.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	// 같은 aggregate 에 재시도를 기다리는 앞선 이벤트가 있으면 뒤의 이벤트도 가져오지 않아 순서를 유지
+	@Query("SELECT e FROM OutboxEvent e WHERE e.nextAttemptAt <= :now AND NOT EXISTS ("
+		+ "SELECT 1 FROM OutboxEvent p WHERE p.aggregateType = e.aggregateType AND p.aggregateId = e.aggregateId "
+		+ "AND p.id < e.id AND p.nextAttemptAt > :now) ORDER BY e.id")
+	List<OutboxEvent> findDue(@Param("now") Timestamp now, Pageable pageable);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, "
+		+ "e.lastError = :lastError WHERE e.id = :id")
+	int reschedule(@Param("id") Long id, @Param("nextAttemptAt") Timestamp nextAttemptAt,
+		@Param("lastError") String lastError);
+}
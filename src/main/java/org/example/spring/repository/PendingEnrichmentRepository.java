@@ -0,0 +1,51 @@
+package org.example.spring.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.spring.domain.enrichment.PendingEnrichment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 정가 조회 대기 작업을 관리합니다. 상태 변경은 모두 title 조건을 포함하여,
+ * 처리 도중 게시글 제목이 바뀌어 다시 예약된 작업을 덮어쓰지 않도록 합니다.
+ */
+public interface PendingEnrichmentRepository extends JpaRepository<PendingEnrichment, Long> {
+
+	Optional<PendingEnrichment> findByExchangeId(Long exchangeId);
+
+	// 실행 시각이 된 작업 id
+	@Query("SELECT p.id FROM PendingEnrichment p WHERE p.nextAttemptAt <= :now ORDER BY p.nextAttemptAt")
+	List<Long> findDueIds(@Param("now") Timestamp now, Pageable pageable);
+
+	// 실행 시각이 된 작업을 lease 시각까지 선점. 다른 워커/서버가 먼저 가져간 경우 0 반환
+	@Transactional
+	@Modifying
+	@Query("UPDATE PendingEnrichment p SET p.nextAttemptAt = :leaseUntil WHERE p.id = :id AND p.nextAttemptAt <= :now")
+	int claim(@Param("id") Long id, @Param("now") Timestamp now, @Param("leaseUntil") Timestamp leaseUntil);
+
+	// 실패한 작업의 재시도 예약
+	@Transactional
+	@Modifying
+	@Query("UPDATE PendingEnrichment p SET p.attempts = p.attempts + 1, p.nextAttemptAt = :nextAttemptAt, "
+		+ "p.lastError = :lastError WHERE p.id = :id AND p.title = :title")
+	int reschedule(@Param("id") Long id, @Param("title") String title,
+		@Param("nextAttemptAt") Timestamp nextAttemptAt, @Param("lastError") String lastError);
+
+	// 시도하지 않은 작업의 실행 연기 (재시도 횟수는 유지)
+	@Transactional
+	@Modifying
+	@Query("UPDATE PendingEnrichment p SET p.nextAttemptAt = :nextAttemptAt WHERE p.id = :id AND p.title = :title")
+	int postpone(@Param("id") Long id, @Param("title") String title, @Param("nextAttemptAt") Timestamp nextAttemptAt);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM PendingEnrichment p WHERE p.id = :id AND p.title = :title")
+	int deleteByIdAndTitle(@Param("id") Long id, @Param("title") String title);
+}
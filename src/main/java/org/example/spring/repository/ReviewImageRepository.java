@@ -2,9 +2,20 @@ package org.example.spring.repository;
 
 import org.example.spring.domain.reviewImage.ReviewImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long> {
     int countByReview_Id(Long reviewId);
+
+    // 비동기로 생성된 썸네일/압축 변환본 url 반영
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReviewImage i SET i.thumbnailUrl = :thumbnailUrl, i.displayUrl = :displayUrl WHERE i.id = :id")
+    int updateVariants(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl,
+        @Param("displayUrl") String displayUrl);
 }
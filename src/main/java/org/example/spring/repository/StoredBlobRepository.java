@@ -0,0 +1,49 @@
+package org.example.spring.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.spring.domain.blob.StoredBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.LockModeType;
+
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, Long> {
+
+	// 객체 row 가 없으면 이미 그 url 을 가리키는 이미지 row 수를 참조 수로 생성하고, 있으면 updated_at 만 갱신
+	// (참조 수 관리 이전에 저장된 객체도 남은 참조가 있으면 삭제되지 않도록 함)
+	// 같은 트랜잭션에서 삭제한 이미지 row 가 세어지지 않도록 먼저 flush
+	// MySQL 은 새로 삽입한 경우 1, 기존 row 를 갱신한 경우 2 를 반환
+	@Transactional
+	@Modifying(flushAutomatically = true)
+	@Query(value = "INSERT INTO stored_blob (blob_key, ref_count, created_at, updated_at) "
+		+ "SELECT :blobKey, (SELECT COUNT(*) FROM exchange_image WHERE url = :url) "
+		+ "+ (SELECT COUNT(*) FROM review_image WHERE url = :url), :now, :now FROM DUAL "
+		+ "ON DUPLICATE KEY UPDATE updated_at = :now", nativeQuery = true)
+	int upsert(@Param("blobKey") String blobKey, @Param("url") String url, @Param("now") Timestamp now);
+
+	@Modifying
+	@Query("UPDATE StoredBlob b SET b.refCount = b.refCount + 1, b.updatedAt = :now WHERE b.blobKey = :blobKey")
+	int incrementRefCount(@Param("blobKey") String blobKey, @Param("now") Timestamp now);
+
+	@Modifying
+	@Query("UPDATE StoredBlob b SET b.refCount = b.refCount - 1, b.updatedAt = :now "
+		+ "WHERE b.blobKey = :blobKey AND b.refCount > 0")
+	int decrementRefCount(@Param("blobKey") String blobKey, @Param("now") Timestamp now);
+
+	// 참조가 없고 유예 기간이 지난 객체 후보
+	@Query("SELECT b.id FROM StoredBlob b WHERE b.refCount = 0 AND b.updatedAt < :cutoff ORDER BY b.id")
+	List<Long> findSweepCandidates(@Param("cutoff") Timestamp cutoff, Pageable pageable);
+
+	// 삭제하는 동안 같은 key 의 upsert 가 끼어들지 않도록 row 를 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT b FROM StoredBlob b WHERE b.id = :id")
+	Optional<StoredBlob> findByIdForUpdate(@Param("id") Long id);
+}
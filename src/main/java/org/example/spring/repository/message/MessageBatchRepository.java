@@ -0,0 +1,19 @@
+package org.example.spring.repository.message;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/* JPA 로는 IDENTITY id 때문에 INSERT 를 묶을 수 없어 JDBC 로 직접 저장하는 메시지 저장소 */
+public interface MessageBatchRepository {
+
+    /**
+     * 메시지 여러 개를 multi-row INSERT 한 번으로 저장합니다.
+     *
+     * @param rows 저장할 메시지
+     * @return rows 와 같은 순서의 message_id
+     */
+    List<Long> insertAll(List<NewMessage> rows);
+
+    record NewMessage(Long messageRoomId, Long memberId, String messageContent, Timestamp createdAt) {
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.spring.repository.message;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MessageBatchRepositoryImpl implements MessageBatchRepository {
+    private static final String INSERT = "INSERT INTO message (message_room_id, member_id, message_content, created_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /*
+     * VALUES 목록으로 행 수가 정해진 INSERT 는 MySQL 이 auto-increment 값을 한 번에 연속으로 할당하므로
+     * 드라이버가 돌려주는 generated key 가 행 순서와 같음
+     */
+    @Override
+    public List<Long> insertAll(List<NewMessage> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        String sql = INSERT + String.join(", ", Collections.nCopies(rows.size(), ROW));
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                int index = 1;
+                for (NewMessage row : rows) {
+                    statement.setLong(index++, row.messageRoomId());
+                    statement.setLong(index++, row.memberId());
+                    statement.setString(index++, row.messageContent());
+                    statement.setTimestamp(index++, row.createdAt());
+                }
+                statement.executeUpdate();
+
+                List<Long> ids = new ArrayList<>(rows.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+}
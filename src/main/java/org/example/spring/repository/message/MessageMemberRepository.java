@@ -2,24 +2,75 @@ package org.example.spring.repository.message;
 
 import org.example.spring.domain.member.Member;
 import org.example.spring.domain.message.MessageMember;
-import org.example.spring.repository.message.custom.CustomMessageRoomRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.List;
 
 @Repository
-public interface MessageMemberRepository extends JpaRepository<MessageMember, Long>, CustomMessageRoomRepository {
+public interface MessageMemberRepository extends JpaRepository<MessageMember, Long> {
 
     @Query("SELECT mm FROM MessageMember mm WHERE mm.messageRoom.id = :messageRoomId AND mm.member.id = :memberId")
     List<MessageMember> findByMessageRoomIdAndMemberId(@Param("messageRoomId") Long messageRoomId, @Param("memberId") Long memberId);
 
     List<MessageMember> findByMessageRoomId(Long messageRoomId);
 
+    boolean existsByMessageRoomIdAndMemberId(Long messageRoomId, Long memberId);
+
     @Query("SELECT mm.member FROM MessageMember mm WHERE mm.messageRoom.id = :messageRoomId")
     List<Member> findMembersByMessageRoomId(@Param("messageRoomId") Long messageRoomId);
+
+    @Query("SELECT mm.member.id FROM MessageMember mm WHERE mm.messageRoom.id = :messageRoomId")
+    List<Long> findMemberIdsByMessageRoomId(@Param("messageRoomId") Long messageRoomId);
+
+    /*
+     * 회원의 채팅방 목록을 최근 메시지 순으로 한 번에 조회.
+     * (member_id, last_message_at) 인덱스를 역순으로 읽어 정렬 없이 한 페이지만 읽고, 마지막 메시지는 message_room.last_message_id 로 조회.
+     * 안 읽은 수는 포함하지 않음 (MessageReadService.getUnreadCounts 에서 Redis 로 조회)
+     */
+    @Query(value = "SELECT r.message_room_id AS messageRoomId, r.created_at AS createdAt, "
+            + "mm.last_message_at AS lastMessageAt, "
+            + "(SELECT GROUP_CONCAT(m.nickname ORDER BY m.nickname SEPARATOR '\\n') FROM message_member om "
+            + "JOIN member m ON m.member_id = om.member_id "
+            + "WHERE om.message_room_id = r.message_room_id AND om.member_id <> :memberId) AS participantNicknames, "
+            + "lm.message_content AS lastMessageContent "
+            + "FROM message_member mm "
+            + "JOIN message_room r ON r.message_room_id = mm.message_room_id "
+            + "LEFT JOIN message lm ON lm.message_id = r.last_message_id "
+            + "WHERE mm.member_id = :memberId "
+            + "ORDER BY mm.last_message_at DESC, mm.message_room_id DESC",
+            countQuery = "SELECT COUNT(*) FROM message_member WHERE member_id = :memberId",
+            nativeQuery = true)
+    Page<MessageRoomSummary> findRoomSummaries(@Param("memberId") Long memberId, Pageable pageable);
+
+    /* Redis 안 읽은 수가 없을 때 채우기 위한 조회. 내가 읽은 위치 이후에 온 다른 회원의 메시지 수 */
+    @Query(value = "SELECT mm.message_room_id AS messageRoomId, "
+            + "(SELECT COUNT(*) FROM message u WHERE u.message_room_id = mm.message_room_id "
+            + "AND u.message_id > COALESCE(mm.last_read_message_id, 0) AND u.member_id <> :memberId) AS unreadCount "
+            + "FROM message_member mm WHERE mm.member_id = :memberId",
+            nativeQuery = true)
+    List<MessageRoomUnreadCount> findUnreadCounts(@Param("memberId") Long memberId);
+
+    /* 채팅방 참여자 모두의 마지막 메시지 시각을 갱신. MessageRoomRepository.updateLastMessage 와 함께 호출하며 뒤로 이동하지 않음 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MessageMember mm SET mm.lastMessageAt = :messageAt "
+            + "WHERE mm.messageRoom.id = :messageRoomId AND (mm.lastMessageAt IS NULL OR mm.lastMessageAt < :messageAt)")
+    int updateLastMessageAt(@Param("messageRoomId") Long messageRoomId, @Param("messageAt") Timestamp messageAt);
+
+    /* 읽은 위치는 앞으로만 이동 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MessageMember mm SET mm.lastReadMessageId = :messageId "
+            + "WHERE mm.messageRoom.id = :messageRoomId AND mm.member.id = :memberId "
+            + "AND (mm.lastReadMessageId IS NULL OR mm.lastReadMessageId < :messageId)")
+    int markRead(@Param("messageRoomId") Long messageRoomId, @Param("memberId") Long memberId,
+            @Param("messageId") Long messageId);
 }
@@ -1,10 +1,20 @@
 package org.example.spring.repository.message;
 
 import org.example.spring.domain.message.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface MessageRepository extends JpaRepository<Message, Long> {
+public interface MessageRepository extends JpaRepository<Message, Long>, MessageBatchRepository {
 
-}
\ No newline at end of file
+    /* (message_room_id, message_id) 인덱스를 따라 before 보다 오래된 메시지를 최신순으로 조회. 보낸 회원은 함께 로딩 */
+    @Query("SELECT m FROM Message m JOIN FETCH m.member "
+            + "WHERE m.messageRoom.id = :messageRoomId AND m.id < :before ORDER BY m.id DESC")
+    List<Message> findHistoryBefore(@Param("messageRoomId") Long messageRoomId, @Param("before") Long before,
+            Pageable pageable);
+}
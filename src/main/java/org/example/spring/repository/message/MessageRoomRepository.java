@@ -2,9 +2,22 @@ package org.example.spring.repository.message;
 
 import org.example.spring.domain.message.MessageRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
 
 @Repository
 public interface MessageRoomRepository extends JpaRepository<MessageRoom, Long> {
 
-}
\ No newline at end of file
+    /* 방의 메시지를 읽지 않고 마지막 메시지 정보를 UPDATE 한 번으로 갱신. 동시에 저장된 메시지끼리는 id 가 큰 쪽이 남음 */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MessageRoom r SET r.lastMessageId = :messageId, r.lastMessageAt = :messageAt "
+            + "WHERE r.id = :messageRoomId AND (r.lastMessageId IS NULL OR r.lastMessageId < :messageId)")
+    int updateLastMessage(@Param("messageRoomId") Long messageRoomId, @Param("messageId") Long messageId,
+            @Param("messageAt") Timestamp messageAt);
+}
@@ -0,0 +1,18 @@
+package org.example.spring.repository.message;
+
+import java.time.LocalDateTime;
+
+/* 채팅방 목록 한 줄. MessageMemberRepository.findRoomSummaries 의 결과 (안 읽은 수는 Redis 에서 따로 조회) */
+public interface MessageRoomSummary {
+
+    Long getMessageRoomId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getLastMessageAt();
+
+    /* 나를 제외한 참여자 닉네임, 줄바꿈으로 구분 */
+    String getParticipantNicknames();
+
+    String getLastMessageContent();
+}
@@ -0,0 +1,9 @@
+package org.example.spring.repository.message;
+
+/* 채팅방별 안 읽은 수. MessageMemberRepository.findUnreadCounts 의 결과 */
+public interface MessageRoomUnreadCount {
+
+    Long getMessageRoomId();
+
+    long getUnreadCount();
+}
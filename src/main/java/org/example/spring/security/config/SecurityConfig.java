@@ -72,6 +72,8 @@ public class SecurityConfig {
 				.permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/reviews")
 				.permitAll()
+				.requestMatchers(HttpMethod.GET, "/uploads/**")
+				.permitAll()
 				.requestMatchers("/ws/**", "/stomp/content", "/stomp/content/**")
 				.permitAll()
 
@@ -70,6 +70,8 @@ public class SecurityDevConfig {
                         .permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/reviews")
                         .permitAll()
+                        .requestMatchers(HttpMethod.GET, "/uploads/**")
+                        .permitAll()
                         .requestMatchers("/ws/**", "/stomp/content", "/stomp/content/**")
                         .permitAll()
 
@@ -0,0 +1,141 @@
+package org.example.spring.security.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.example.spring.domain.mail.EmailOutbox;
+import org.example.spring.lock.SchedulerLock;
+import org.example.spring.repository.EmailOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * email_outbox 에 쌓인 메일을 백그라운드에서 발송합니다.
+ * <p>
+ * 한 번에 batchSize 개씩 꺼내 {@link JavaMailSender#send(SimpleMailMessage...)} 로 보내므로 배치당 SMTP 연결은 한 번만 맺습니다.
+ * 실패한 메일만 지수 백오프 + jitter 로 다시 예약하고, maxAttempts 를 넘기면 포기합니다.
+ */
+@Slf4j
+@Service
+public class EmailDispatcher {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final EmailOutboxRepository emailOutboxRepository;
+	private final JavaMailSender mailSender;
+
+	@Value("${email.outbox.batch-size:50}")
+	private int batchSize;
+
+	@Value("${email.outbox.max-attempts:8}")
+	private int maxAttempts;
+
+	@Value("${email.outbox.backoff-base:PT1M}")
+	private Duration backoffBase;
+
+	@Value("${email.outbox.backoff-max:PT1H}")
+	private Duration backoffMax;
+
+	// 한 번의 실행에서 새 배치를 시작하는 최대 시간. 임대(lockAtMostFor = 5m)가 만료되어
+	// 다른 노드가 같은 메일을 다시 보내지 않도록, 마지막 배치의 발송 시간을 더해도 5분보다 충분히 짧아야 함
+	@Value("${email.outbox.max-run:PT1M}")
+	private Duration maxRun;
+
+	public EmailDispatcher(EmailOutboxRepository emailOutboxRepository, JavaMailSender mailSender) {
+		this.emailOutboxRepository = emailOutboxRepository;
+		this.mailSender = mailSender;
+	}
+
+	/**
+	 * 발송 시각이 된 메일을 배치 단위로 발송합니다. 배치가 가득 차 있으면 이어서 발송하되,
+	 * max-run 이 지나면 새 배치를 시작하지 않고 남은 메일은 다음 실행에서 발송합니다.
+	 */
+	@Scheduled(fixedDelayString = "${email.outbox.poll-interval:PT5S}")
+	@SchedulerLock(name = "dispatchEmailOutbox", lockAtMostFor = "5m")
+	public void dispatchPending() {
+		long deadline = System.nanoTime() + maxRun.toNanos();
+		List<EmailOutbox> batch;
+		do {
+			batch = emailOutboxRepository.findDue(new Timestamp(System.currentTimeMillis()),
+				PageRequest.of(0, batchSize));
+			if (!batch.isEmpty()) {
+				dispatch(batch);
+			}
+		} while (batch.size() == batchSize && System.nanoTime() - deadline < 0);
+	}
+
+	void dispatch(List<EmailOutbox> batch) {
+		Map<SimpleMailMessage, EmailOutbox> outboxByMessage = new IdentityHashMap<>();
+		for (EmailOutbox outbox : batch) {
+			SimpleMailMessage message = new SimpleMailMessage();
+			message.setTo(outbox.getRecipient());
+			message.setSubject(outbox.getSubject());
+			message.setText(outbox.getBody());
+			outboxByMessage.put(message, outbox);
+		}
+
+		Map<Object, Exception> failedMessages = Map.of();
+		try {
+			mailSender.send(outboxByMessage.keySet().toArray(SimpleMailMessage[]::new));
+		} catch (MailSendException e) {
+			// 연결 실패 시에는 모든 메일이, 일부 수신자 거부 시에는 해당 메일만 담겨 있음
+			failedMessages = e.getFailedMessages().isEmpty() ? allFailed(outboxByMessage, e) : e.getFailedMessages();
+		} catch (MailException e) {
+			// 인증 실패 등 배치 전체가 실패한 경우
+			failedMessages = allFailed(outboxByMessage, e);
+		}
+
+		for (Map.Entry<SimpleMailMessage, EmailOutbox> entry : outboxByMessage.entrySet()) {
+			EmailOutbox outbox = entry.getValue();
+			Exception failure = failedMessages.get(entry.getKey());
+			if (failure == null) {
+				emailOutboxRepository.deleteByIdAndVersion(outbox.getId(), outbox.getVersion());
+			} else {
+				retryOrGiveUp(outbox, failure);
+			}
+		}
+	}
+
+	private void retryOrGiveUp(EmailOutbox outbox, Exception failure) {
+		int attempts = outbox.getAttempts() + 1;
+		if (attempts >= maxAttempts) {
+			log.error("Giving up email '{}' to {} after {} attempts: {}", outbox.getSubject(), outbox.getRecipient(),
+				attempts, failure.getMessage());
+			emailOutboxRepository.deleteByIdAndVersion(outbox.getId(), outbox.getVersion());
+			return;
+		}
+
+		Duration backoff = backoffBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+		if (backoff.compareTo(backoffMax) > 0) {
+			backoff = backoffMax;
+		}
+		long millis = Math.max(backoff.toMillis(), 2);
+		long delay = millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2);
+		log.warn("Email '{}' to {} failed (attempt {}), retrying in {} ms: {}", outbox.getSubject(),
+			outbox.getRecipient(), attempts, delay, failure.getMessage());
+		emailOutboxRepository.reschedule(outbox.getId(), outbox.getVersion(),
+			new Timestamp(System.currentTimeMillis() + delay), truncate(String.valueOf(failure.getMessage())));
+	}
+
+	private Map<Object, Exception> allFailed(Map<SimpleMailMessage, EmailOutbox> outboxByMessage, Exception e) {
+		Map<Object, Exception> failed = new IdentityHashMap<>();
+		outboxByMessage.keySet().forEach(message -> failed.put(message, e));
+		return failed;
+	}
+
+	private String truncate(String message) {
+		return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+	}
+}
@@ -1,12 +1,12 @@
 package org.example.spring.security.service;
 
+import java.sql.Timestamp;
 import java.util.Date;
 
+import org.example.spring.repository.EmailOutboxRepository;
 import org.example.spring.security.utils.JwtUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Jwts;
@@ -15,51 +15,47 @@ import io.jsonwebtoken.SignatureAlgorithm;
 /**
  * 이메일 관련 기능을 제공하는 서비스 클래스입니다.
  * 이메일 인증, 비밀번호 재설정 등의 이메일 발송 기능을 담당합니다.
+ * <p>
+ * 메일은 호출한 트랜잭션 안에서 email_outbox 에 기록만 하고, 실제 발송은 {@link EmailDispatcher} 가 커밋 이후 수행합니다.
+ * 따라서 SMTP 서버가 느리거나 장애가 나도 가입 요청은 지연되거나 롤백되지 않습니다.
  */
 @Service
 public class EmailService {
 
-	private final JavaMailSender mailSender;
+	private final EmailOutboxRepository emailOutboxRepository;
 	private final JwtUtils jwtUtils;
 
 	@Value("${app.fe-url}")
 	private String feUrl;
 
 	@Autowired
-	public EmailService(JavaMailSender mailSender, JwtUtils jwtUtils) {
-		this.mailSender = mailSender;
+	public EmailService(EmailOutboxRepository emailOutboxRepository, JwtUtils jwtUtils) {
+		this.emailOutboxRepository = emailOutboxRepository;
 		this.jwtUtils = jwtUtils;
 	}
 
 	/**
-	 * 이메일 인증을 위한 이메일을 발송합니다.
+	 * 이메일 인증을 위한 이메일 발송을 예약합니다.
+	 * 아직 발송되지 않은 인증 메일이 있으면 새 토큰으로 내용만 교체하여 중복 발송을 막습니다.
 	 *
 	 * @param email 수신자 이메일 주소
 	 * @param token 인증 토큰
 	 */
-
 	public void sendVerificationEmail(String email, String token) {
-		SimpleMailMessage message = new SimpleMailMessage();
-		message.setTo(email);
-		message.setSubject("Play_Baseball 이메일 인증");
-		message.setText("다음 링크를 클릭하여 이메일을 인증하세요: " +
-			feUrl + "/verify-email?token=" + token);
-		mailSender.send(message);
+		enqueue("verify:" + email, email, "Play_Baseball 이메일 인증",
+			"다음 링크를 클릭하여 이메일을 인증하세요: " + feUrl + "/verify-email?token=" + token);
 	}
 
 	/**
-	 * 비밀번호 재설정을 위한 이메일을 발송합니다.
+	 * 비밀번호 재설정을 위한 이메일 발송을 예약합니다.
+	 * 아직 발송되지 않은 재설정 메일이 있으면 새 토큰으로 내용만 교체하여 중복 발송을 막습니다.
 	 *
 	 * @param email 수신자 이메일 주소
 	 * @param token 비밀번호 재설정 토큰
 	 */
 	public void sendPasswordResetEmail(String email, String token) {
-		SimpleMailMessage message = new SimpleMailMessage();
-		message.setTo(email);
-		message.setSubject("Play_Baseball 비밀번호 재설정");
-		message.setText("다음 링크를 클릭하여 비밀번호를 재설정하세요: " +
-			feUrl + "/forgot-password?token=" + token);
-		mailSender.send(message);
+		enqueue("password-reset:" + email, email, "Play_Baseball 비밀번호 재설정",
+			"다음 링크를 클릭하여 비밀번호를 재설정하세요: " + feUrl + "/forgot-password?token=" + token);
 	}
 
 	/**
@@ -77,4 +73,8 @@ public class EmailService {
 			.compact();
 	}
 
+	private void enqueue(String dedupeKey, String recipient, String subject, String body) {
+		emailOutboxRepository.enqueue(dedupeKey, recipient, subject, body, new Timestamp(System.currentTimeMillis()));
+	}
+
 }
@@ -1,16 +1,17 @@
 package org.example.spring.service;
 
-import org.example.spring.repository.ExchangeRepository;
+import java.io.IOException;
+import java.io.InputStream;
+
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Service
@@ -24,30 +25,24 @@ public class AlanAPIService {
 	private String host;
 	@Value("${alan.key}")
 	private String client_id;
-	private RestTemplate restTemplate;
-	private final ApplicationEventPublisher eventPublisher;
-	private final ExchangeRepository exchangeRepository;
-
-	public AlanAPIService(RestTemplate restTemplate, ApplicationEventPublisher eventPublisher,
-		ExchangeRepository exchangeRepository) {
+	private final RestTemplate restTemplate;
+	private final ObjectMapper objectMapper;
 
+	public AlanAPIService(RestTemplate restTemplate, ObjectMapper objectMapper) {
 		this.restTemplate = restTemplate;
-		this.eventPublisher = eventPublisher;
-		this.exchangeRepository = exchangeRepository;
+		this.objectMapper = objectMapper;
 	}
 
-	@Async
-	@Transactional
-	public void fetchRegularPriceAndUpdateExchange(String title, Long exchangeId) {
-		try {
-			String regularPriceStr = getDataAsString(title + REGULAR_PRICE_PROMPT);
-			int regularPrice = Integer.parseInt(regularPriceStr);
-
-			exchangeRepository.updateRegularPrice(exchangeId, regularPrice);
-
-		} catch (RuntimeException e) {
-			throw new RuntimeException("Failed to fetch regular price for exchangeId: " + exchangeId);
-		}
+	/**
+	 * 상품명으로 Alan 에 출시 가격을 질의합니다. 재시도/차단 처리는 {@link PriceEnrichmentService} 에서 담당합니다.
+	 *
+	 * @param title 상품명 (게시글 제목)
+	 * @return 출시 가격
+	 * @throws NumberFormatException 응답이 숫자가 아닌 경우
+	 * @throws org.springframework.web.client.RestClientException 통신에 실패하거나 시간이 초과된 경우
+	 */
+	public int fetchRegularPrice(String title) {
+		return Integer.parseInt(getDataAsString(title + REGULAR_PRICE_PROMPT).trim());
 	}
 
 	public String getDataAsString(String content) {
@@ -56,23 +51,29 @@ public class AlanAPIService {
 			.queryParam("client_id", client_id)
 			.toUriString();
 
-		ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-
-		if (response.getStatusCode().is2xxSuccessful()) {
+		// 응답 전체를 문자열로 만들지 않고 스트림에서 바로 content 필드만 읽음
+		return restTemplate.execute(url, HttpMethod.GET, null, response -> {
+			if (!response.getStatusCode().is2xxSuccessful()) {
+				throw new RuntimeException("API 요청에 실패했습니다. 상태 코드:  " + response.getStatusCode());
+			}
 			return extractContentFromResponse(response.getBody());
-		} else {
-			throw new RuntimeException("API 요청에 실패했습니다. 상태 코드:  " + response.getStatusCode());
-		}
+		});
 	}
 
-	private String extractContentFromResponse(String responseBody) {
-		try {
-			ObjectMapper objectMapper = new ObjectMapper();
-			JsonNode rootNode = objectMapper.readTree(responseBody);
-			JsonNode contentNode = rootNode.path("content");  // "content" 필드 추출
-			return contentNode.asText();  // String 값으로 반환
-		} catch (Exception e) {
-			throw new RuntimeException("JSON 파싱 중 오류가 발생했습니다.", e);
+	private String extractContentFromResponse(InputStream responseBody) throws IOException {
+		try (JsonParser parser = objectMapper.getFactory().createParser(responseBody)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "JSON 파싱 중 오류가 발생했습니다.");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.currentName();
+				parser.nextToken();
+				if ("content".equals(fieldName)) {  // "content" 필드 추출
+					return parser.getValueAsString("");  // String 값으로 반환
+				}
+				parser.skipChildren();
+			}
+			return "";
 		}
 	}
 }
@@ -0,0 +1,133 @@
+package org.example.spring.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+
+import org.example.spring.domain.blob.StoredBlob;
+import org.example.spring.lock.SchedulerLock;
+import org.example.spring.repository.StoredBlobRepository;
+import org.example.spring.storage.BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 콘텐츠 해시로 저장된 객체의 참조 수를 관리하고, 더 이상 참조되지 않는 객체를 정리합니다.
+ * <p>
+ * 업로드 시 이미 그 객체를 가리키는 이미지 row 수(새 객체는 0)로 등록되고,
+ * 이미지 row 가 저장/삭제될 때 같은 트랜잭션에서 참조 수가 증감합니다. 저장소 객체는 sweeper 만 삭제합니다.
+ * 업로드 후 저장에 실패한 객체나 모든 참조가 사라진 객체는 유예 기간이 지나면 sweeper 가 삭제합니다.
+ */
+@Slf4j
+@Service
+public class BlobReferenceService {
+
+	private final StoredBlobRepository storedBlobRepository;
+	private final BlobStore blobStore;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${storage.sweep.grace-period:PT1H}")
+	private Duration gracePeriod;
+
+	@Value("${storage.sweep.batch-size:100}")
+	private int batchSize;
+
+	public BlobReferenceService(StoredBlobRepository storedBlobRepository, BlobStore blobStore,
+		TransactionTemplate transactionTemplate) {
+		this.storedBlobRepository = storedBlobRepository;
+		this.blobStore = blobStore;
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	/**
+	 * 업로드할 객체를 등록합니다. 이미 등록된 객체는 유예 기간만 갱신합니다.
+	 * 참조 수 관리 이전에 저장되어 row 가 없는 객체는 그 객체를 가리키는 이미지 row 수로 등록합니다.
+	 *
+	 * @param key 객체 key
+	 */
+	public void register(String key) {
+		storedBlobRepository.upsert(key, blobStore.urlOf(key), now());
+	}
+
+	/**
+	 * 객체 참조 수를 증가시킵니다. 이미지 row 를 저장하는 트랜잭션 안에서 호출해야 합니다.
+	 *
+	 * @param keys 객체 key 목록 (같은 key 가 여러 번 있으면 그만큼 증가)
+	 */
+	public void acquire(List<String> keys) {
+		Timestamp now = now();
+		keys.forEach(key -> storedBlobRepository.incrementRefCount(key, now));
+	}
+
+	/**
+	 * 객체 참조 수를 감소시킵니다. 이미지 row 를 삭제한 뒤 같은 트랜잭션 안에서 호출해야 합니다.
+	 * row 가 없는 객체(참조 수 관리 이전에 저장된 객체)는 바로 삭제하지 않고 남은 이미지 row 수로 등록하여,
+	 * 다른 row 가 아직 가리키고 있으면 유지하고 남은 참조가 없으면 유예 기간 이후 sweeper 가 삭제하도록 합니다.
+	 *
+	 * @param keys 객체 key 목록
+	 */
+	public void release(List<String> keys) {
+		Timestamp now = now();
+		for (String key : keys) {
+			if (storedBlobRepository.decrementRefCount(key, now) == 0) {
+				storedBlobRepository.upsert(key, blobStore.urlOf(key), now);
+			}
+		}
+	}
+
+	/**
+	 * 참조가 없고 유예 기간이 지난 객체와 그 변환본을 저장소에서 삭제합니다.
+	 * 한 번에 batch-size 만큼 처리하고, 남은 객체는 다음 실행에서 처리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${storage.sweep.interval:PT10M}")
+	@SchedulerLock(name = "sweepUnreferencedBlobs", lockAtMostFor = "30m", lockAtLeastFor = "1m")
+	public void sweepUnreferencedBlobs() {
+		Timestamp cutoff = new Timestamp(System.currentTimeMillis() - gracePeriod.toMillis());
+		List<Long> candidates = storedBlobRepository.findSweepCandidates(cutoff, PageRequest.of(0, batchSize));
+
+		int deleted = 0;
+		for (Long id : candidates) {
+			try {
+				if (Boolean.TRUE.equals(transactionTemplate.execute(status -> sweep(id, cutoff)))) {
+					deleted++;
+				}
+			} catch (RuntimeException e) {
+				log.warn("Failed to sweep blob {}: {}", id, e.getMessage());
+			}
+		}
+		if (deleted > 0) {
+			log.info("Swept {} unreferenced blobs", deleted);
+		}
+	}
+
+	/*
+	 * row 를 잠근 상태에서 조건을 다시 확인하고 객체를 삭제합니다.
+	 * 같은 key 를 다시 업로드하는 요청은 잠금이 풀릴 때까지 대기한 뒤 새 row 로 등록되어 다시 업로드됩니다.
+	 */
+	private boolean sweep(Long id, Timestamp cutoff) {
+		StoredBlob blob = storedBlobRepository.findByIdForUpdate(id).orElse(null);
+		if (blob == null || blob.getRefCount() > 0 || !blob.getUpdatedAt().before(cutoff)) {
+			return false;
+		}
+
+		try {
+			blobStore.delete(blob.getBlobKey());
+			blobStore.deleteByPrefix(BlobStorageService.variantPrefix(blob.getBlobKey()));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		storedBlobRepository.delete(blob);
+		return true;
+	}
+
+	private Timestamp now() {
+		return new Timestamp(System.currentTimeMillis());
+	}
+}
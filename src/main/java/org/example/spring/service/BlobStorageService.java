@@ -0,0 +1,156 @@
+package org.example.spring.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+import org.example.spring.storage.BlobStore;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드 이미지와 변환본을 {@link BlobStore} 에 저장하는 서비스입니다.
+ * <p>
+ * 원본 이미지는 내용의 SHA-256 해시를 key 로 사용하므로 같은 사진을 다시 올리면 업로드를 생략하고 기존 객체를 재사용합니다.
+ * 여러 이미지 row 가 같은 객체를 가리킬 수 있으므로 객체는 직접 삭제하지 않고
+ * {@link BlobReferenceService} 의 참조 수로 관리하며, 참조가 없어진 객체는 sweeper 가 삭제합니다.
+ */
+@Service
+public class BlobStorageService {
+
+	private static final String IMAGE_PREFIX = "images/";
+	private static final String VARIANT_PREFIX = "variants/";
+
+	private final BlobStore blobStore;
+	private final BlobReferenceService blobReferenceService;
+
+	public BlobStorageService(BlobStore blobStore, BlobReferenceService blobReferenceService) {
+		this.blobStore = blobStore;
+		this.blobReferenceService = blobReferenceService;
+	}
+
+	/**
+	 * 업로드된 파일을 저장합니다. 같은 내용의 객체가 이미 있으면 업로드를 생략합니다.
+	 * 저장된 객체는 {@link #acquire(List)} 로 참조를 등록하기 전까지 유예 기간 동안만 유지됩니다.
+	 *
+	 * @param file 요청받은 file 정보
+	 * @return 저장된 객체 url
+	 * @throws IOException 저장 관련 이슈가 생길 시 반환하는 Exception
+	 */
+	public String store(MultipartFile file) throws IOException {
+		// 업로드 파일은 디스크에 spool 되어 있으므로 해시 계산과 전송을 위해 두 번 읽음
+		String key = IMAGE_PREFIX + contentHash(file) + extensionOf(file.getOriginalFilename());
+
+		blobReferenceService.register(key);
+		if (!blobStore.exists(key)) {
+			try (InputStream in = file.getInputStream()) {
+				blobStore.put(key, in, file.getSize(), file.getContentType());
+			}
+		}
+		return blobStore.urlOf(key);
+	}
+
+	/**
+	 * 이미지 row 가 객체를 참조하기 시작했음을 기록합니다. 이미지 row 를 저장하는 트랜잭션 안에서 호출해야 합니다.
+	 *
+	 * @param urls 저장된 이미지 url 목록
+	 */
+	public void acquire(List<String> urls) {
+		blobReferenceService.acquire(urls.stream().map(blobStore::keyOf).toList());
+	}
+
+	/**
+	 * 이미지 row 가 더 이상 객체를 참조하지 않음을 기록합니다. 이미지 row 를 삭제하는 트랜잭션 안에서 호출해야 합니다.
+	 * 객체는 여기서 삭제하지 않으며, 남은 참조가 없으면 유예 기간 이후 sweeper 가 삭제합니다.
+	 *
+	 * @param urls 삭제된 이미지 url 목록
+	 */
+	public void release(List<String> urls) {
+		blobReferenceService.release(urls.stream().map(blobStore::keyOf).toList());
+	}
+
+	/**
+	 * 원본 이미지에서 파생된 변환본(썸네일 등)을 저장합니다.
+	 * 변환본은 원본 key 뒤에 접미사를 붙인 key 로 저장되며, 원본이 삭제될 때 함께 삭제됩니다.
+	 *
+	 * @param originalUrl 원본 이미지 url
+	 * @param suffix 변환본 구분 접미사 (예: w320)
+	 * @param bytes 인코딩된 변환본
+	 * @param extension 확장자
+	 * @param contentType 변환본 content type
+	 * @return 저장된 변환본 url
+	 * @throws IOException 저장 관련 이슈가 생길 시 반환하는 Exception
+	 */
+	public String storeVariant(String originalUrl, String suffix, byte[] bytes, String extension,
+		String contentType) throws IOException {
+		String key = variantKey(originalUrl, suffix, extension);
+		blobStore.put(key, new ByteArrayInputStream(bytes), bytes.length, contentType);
+		return blobStore.urlOf(key);
+	}
+
+	/**
+	 * 같은 원본으로 이미 만들어진 변환본을 찾습니다.
+	 *
+	 * @param originalUrl 원본 이미지 url
+	 * @param suffix 변환본 구분 접미사
+	 * @param extension 확장자
+	 * @return 변환본 url, 없으면 null
+	 */
+	public String findVariant(String originalUrl, String suffix, String extension) {
+		String key = variantKey(originalUrl, suffix, extension);
+		return blobStore.exists(key) ? blobStore.urlOf(key) : null;
+	}
+
+	/**
+	 * 저장된 객체를 스트림으로 읽습니다. 호출한 쪽에서 스트림을 닫아야 합니다.
+	 *
+	 * @param url 저장된 객체 url
+	 * @return 객체 스트림
+	 * @throws IOException 객체를 읽을 수 없는 경우
+	 */
+	public InputStream open(String url) throws IOException {
+		return blobStore.open(blobStore.keyOf(url));
+	}
+
+	/* 원본 key 로 만들어진 변환본 key 의 공통 prefix */
+	static String variantPrefix(String key) {
+		return VARIANT_PREFIX + key + "_";
+	}
+
+	private String variantKey(String originalUrl, String suffix, String extension) {
+		return variantPrefix(blobStore.keyOf(originalUrl)) + suffix + "." + extension;
+	}
+
+	private String contentHash(MultipartFile file) throws IOException {
+		MessageDigest digest = sha256();
+		try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/* 원본 파일명의 확장자만 key 에 사용 (파일명 자체는 key 에 포함하지 않음) */
+	private String extensionOf(String originalFilename) {
+		String extension = StringUtils.getFilenameExtension(originalFilename);
+		if (extension == null || !extension.matches("[A-Za-z0-9]{1,10}")) {
+			return "";
+		}
+		return "." + extension.toLowerCase(Locale.ROOT);
+	}
+}
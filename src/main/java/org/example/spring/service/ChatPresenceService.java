@@ -0,0 +1,201 @@
+package org.example.spring.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.spring.constant.ErrorCode;
+import org.example.spring.domain.message.messageDto.MessagePresenceDto;
+import org.example.spring.exception.MessageException;
+import org.example.spring.redis.RoomBroadcaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 접속 상태와 입력 중 표시를 관리하는 서비스입니다.
+ * <p>
+ * STOMP 세션이 보내는 heartbeat 와 입력 중 이벤트는 Redis 의 TTL 키({@code chat:online:{roomId}:{memberId}},
+ * {@code chat:typing:{roomId}:{memberId}})로만 기록하며 DB 에는 아무것도 저장하지 않습니다.
+ * 상태가 바뀐 채팅방은 broadcast-interval 마다 한 번만 현재 상태 전체를 /sub/room/{id} 로 보내고,
+ * 같은 coalesce key 를 사용하므로 느린 세션에는 마지막 상태만 남습니다.
+ * TTL 이 지나 사라진 상태도 알리기 위해, 마지막으로 보낸 상태가 비어 있지 않은 채팅방은 매번 다시 확인합니다.
+ * 여러 노드가 같은 채팅방을 확인하더라도 보내기 전에 Redis 의 채팅방별 잠금({@code chat:presence-lock:{roomId}},
+ * broadcast-interval 동안 유지)을 잡은 노드만 보내므로, 채팅방마다 broadcast-interval 에 한 번만 전송됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatPresenceService {
+
+	private static final String ONLINE_KEY_PREFIX = "chat:online:";
+	private static final String TYPING_KEY_PREFIX = "chat:typing:";
+	private static final String BROADCAST_LOCK_KEY_PREFIX = "chat:presence-lock:";
+	private static final String COALESCE_KEY = "presence";
+
+	private final StringRedisTemplate redisTemplate;
+	private final MessageReadService messageReadService;
+	private final RoomBroadcaster roomBroadcaster;
+
+	@Value("${chat.presence.online-ttl:PT30S}")
+	private Duration onlineTtl;
+
+	@Value("${chat.presence.typing-ttl:PT5S}")
+	private Duration typingTtl;
+
+	@Value("${chat.presence.broadcast-interval:PT1S}")
+	private Duration broadcastInterval;
+
+	// 다음 broadcast 에서 상태를 다시 확인할 채팅방
+	private final Set<Long> dirtyRooms = ConcurrentHashMap.newKeySet();
+
+	// 이 노드가 마지막으로 보낸 채팅방별 상태. 비어 있지 않은 동안은 TTL 만료를 확인하기 위해 계속 확인
+	private final Map<Long, Presence> lastBroadcast = new ConcurrentHashMap<>();
+
+	// 세션별 heartbeat 를 보낸 채팅방. 연결이 끊기면 TTL 을 기다리지 않고 바로 나감 처리
+	private final Map<String, Set<Long>> roomsBySession = new ConcurrentHashMap<>();
+
+	/**
+	 * 채팅방 접속 heartbeat. online-ttl 안에 다시 보내지 않으면 나간 것으로 봅니다.
+	 *
+	 * @param memberId 회원 id
+	 * @param sessionId STOMP 세션 id
+	 * @param messageRoomId 채팅방 id
+	 */
+	public void heartbeat(Long memberId, String sessionId, Long messageRoomId) {
+		requireMember(messageRoomId, memberId);
+		roomsBySession.computeIfAbsent(sessionId, key -> ConcurrentHashMap.newKeySet()).add(messageRoomId);
+		touch(ONLINE_KEY_PREFIX + messageRoomId + ":" + memberId, onlineTtl, messageRoomId);
+	}
+
+	/**
+	 * 입력 중 표시. typing 이 true 이면 typing-ttl 동안 입력 중으로 표시하고, false 이면 바로 지웁니다.
+	 *
+	 * @param memberId 회원 id
+	 * @param messageRoomId 채팅방 id
+	 * @param typing 입력 중 여부
+	 */
+	public void typing(Long memberId, Long messageRoomId, boolean typing) {
+		requireMember(messageRoomId, memberId);
+		String key = TYPING_KEY_PREFIX + messageRoomId + ":" + memberId;
+		if (typing) {
+			touch(key, typingTtl, messageRoomId);
+		} else if (Boolean.TRUE.equals(redisTemplate.delete(key))) {
+			dirtyRooms.add(messageRoomId);
+		}
+	}
+
+	/* 같은 회원의 다른 세션이 있으면 그 세션의 다음 heartbeat 에서 다시 접속 중으로 표시됨 */
+	@EventListener
+	public void onDisconnect(SessionDisconnectEvent event) {
+		Set<Long> rooms = roomsBySession.remove(event.getSessionId());
+		if (rooms == null || event.getUser() == null) {
+			return;
+		}
+		String memberId = event.getUser().getName();
+		for (Long messageRoomId : rooms) {
+			redisTemplate.delete(List.of(ONLINE_KEY_PREFIX + messageRoomId + ":" + memberId,
+				TYPING_KEY_PREFIX + messageRoomId + ":" + memberId));
+			dirtyRooms.add(messageRoomId);
+		}
+	}
+
+	/**
+	 * 상태가 바뀌었을 수 있는 채팅방의 현재 상태를 확인하고, 마지막으로 보낸 상태와 다르면 채팅방 구독자에게 보냅니다.
+	 * 채팅방마다 모든 노드를 통틀어 broadcast-interval 에 최대 한 번만 보냅니다.
+	 */
+	@Scheduled(fixedDelayString = "${chat.presence.broadcast-interval:PT1S}")
+	public void broadcastChanges() {
+		Set<Long> rooms = new HashSet<>(lastBroadcast.keySet());
+		for (Long messageRoomId : Set.copyOf(dirtyRooms)) {
+			dirtyRooms.remove(messageRoomId);
+			rooms.add(messageRoomId);
+		}
+		for (Long messageRoomId : rooms) {
+			try {
+				broadcastIfChanged(messageRoomId);
+			} catch (RuntimeException e) {
+				log.warn("Presence broadcast for room {} failed: {}", messageRoomId, e.getMessage());
+			}
+		}
+	}
+
+	private void broadcastIfChanged(Long messageRoomId) {
+		Presence current = currentPresence(messageRoomId);
+		Presence previous = lastBroadcast.getOrDefault(messageRoomId, Presence.EMPTY);
+		if (current.equals(previous)) {
+			return;
+		}
+		// 이번 interval 에 다른 노드가 이미 보냈으면 다음 broadcast 에서 다시 확인 (그 사이 바뀐 상태를 놓치지 않도록)
+		if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+			.setIfAbsent(BROADCAST_LOCK_KEY_PREFIX + messageRoomId, "1", broadcastInterval))) {
+			dirtyRooms.add(messageRoomId);
+			return;
+		}
+		if (current.isEmpty()) {
+			lastBroadcast.remove(messageRoomId);
+		} else {
+			lastBroadcast.put(messageRoomId, current);
+		}
+		roomBroadcaster.broadcast(messageRoomId, MessagePresenceDto.of(messageRoomId,
+			List.copyOf(current.online()), List.copyOf(current.typing())), COALESCE_KEY);
+	}
+
+	/* 참여 회원의 접속/입력 중 키를 MGET 한 번으로 확인 */
+	private Presence currentPresence(Long messageRoomId) {
+		List<Long> memberIds = new ArrayList<>(messageReadService.roomMembers(messageRoomId));
+		List<String> keys = new ArrayList<>(memberIds.size() * 2);
+		for (Long memberId : memberIds) {
+			keys.add(ONLINE_KEY_PREFIX + messageRoomId + ":" + memberId);
+		}
+		for (Long memberId : memberIds) {
+			keys.add(TYPING_KEY_PREFIX + messageRoomId + ":" + memberId);
+		}
+		List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+		Set<Long> online = new HashSet<>();
+		Set<Long> typing = new HashSet<>();
+		for (int i = 0; values != null && i < memberIds.size(); i++) {
+			if (values.get(i) != null) {
+				online.add(memberIds.get(i));
+			}
+			if (values.get(memberIds.size() + i) != null) {
+				typing.add(memberIds.get(i));
+			}
+		}
+		return new Presence(online, typing);
+	}
+
+	/* 새로 생긴 키만 상태 변경으로 보고, 이미 있으면 TTL 만 연장 */
+	private void touch(String key, Duration ttl, Long messageRoomId) {
+		if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, "1", ttl))) {
+			dirtyRooms.add(messageRoomId);
+		} else {
+			redisTemplate.expire(key, ttl);
+		}
+	}
+
+	private void requireMember(Long messageRoomId, Long memberId) {
+		if (!messageReadService.isMember(messageRoomId, memberId)) {
+			throw new MessageException(ErrorCode.MEMBER_NOT_FOUND_IN_ROOM);
+		}
+	}
+
+	private record Presence(Set<Long> online, Set<Long> typing) {
+		static final Presence EMPTY = new Presence(Set.of(), Set.of());
+
+		boolean isEmpty() {
+			return online.isEmpty() && typing.isEmpty();
+		}
+	}
+}
@@ -3,9 +3,17 @@ package org.example.spring.service;
 import java.nio.file.AccessDeniedException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.example.spring.common.FanOutExecutor;
 import org.example.spring.constants.SalesStatus;
 import org.example.spring.domain.exchange.Exchange;
 import org.example.spring.domain.exchange.dto.ExchangeAddRequestDto;
@@ -14,6 +22,7 @@ import org.example.spring.domain.exchange.dto.ExchangeModifyRequestDto;
 import org.example.spring.domain.exchange.dto.ExchangeNavigationResponseDto;
 import org.example.spring.domain.exchange.dto.ExchangeResponseDto;
 import org.example.spring.domain.exchangeImage.ExchangeImage;
+import org.example.spring.domain.exchangeImage.dto.ExchangeImageOrderDto;
 import org.example.spring.domain.like.ExchangeLike;
 import org.example.spring.domain.likeOverview.LikeOverview;
 import org.example.spring.domain.member.Member;
@@ -25,12 +34,14 @@ import org.example.spring.repository.ExchangeRepository;
 import org.example.spring.repository.LikeOverviewRepository;
 import org.example.spring.repository.ReviewOverviewRepository;
 import org.example.spring.security.jwt.JwtTokenValidator;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -49,69 +60,79 @@ public class ExchangeService {
 	private final ReviewOverviewRepository reviewOverviewRepository;
 	private final LikeOverviewRepository likeOverviewRepository;
 	private final ExchangeLikeRepository exchangeLikeRepository;
-	private final S3Service s3Service;
-	private final AlanAPIService alanAPIService;
+	private final ImageUploadService imageUploadService;
+	private final ImageVariantService imageVariantService;
+	private final BlobStorageService blobStorageService;
+	private final PriceEnrichmentService priceEnrichmentService;
 	private final JwtTokenValidator jwtTokenValidator;
+	private final TransactionTemplate transactionTemplate;
+	private final FanOutExecutor fanOutExecutor;
 
 	@SuppressWarnings("checkstyle:AbbreviationAsWordInName")
 	public ExchangeService(ExchangeRepository exchangeRepository, ExchangeImageRepository exchangeImageRepository,
 		ExchangeLikeRepository exchangeLikeRepository,
-		JwtTokenValidator jwtTokenValidator, S3Service s3Service, ReviewOverviewRepository reviewOverviewRepository,
-		LikeOverviewRepository likeOverviewRepository, AlanAPIService alanAPIService) {
+		JwtTokenValidator jwtTokenValidator, ImageUploadService imageUploadService,
+		ImageVariantService imageVariantService, BlobStorageService blobStorageService,
+		ReviewOverviewRepository reviewOverviewRepository,
+		LikeOverviewRepository likeOverviewRepository, PriceEnrichmentService priceEnrichmentService,
+		TransactionTemplate transactionTemplate, FanOutExecutor fanOutExecutor) {
 		this.exchangeRepository = exchangeRepository;
 		this.exchangeImageRepository = exchangeImageRepository;
 		this.exchangeLikeRepository = exchangeLikeRepository;
 		this.reviewOverviewRepository = reviewOverviewRepository;
 		this.likeOverviewRepository = likeOverviewRepository;
-		this.s3Service = s3Service;
+		this.imageUploadService = imageUploadService;
+		this.imageVariantService = imageVariantService;
+		this.blobStorageService = blobStorageService;
 		this.jwtTokenValidator = jwtTokenValidator;
-		this.alanAPIService = alanAPIService;
+		this.priceEnrichmentService = priceEnrichmentService;
+		this.transactionTemplate = transactionTemplate;
+		this.fanOutExecutor = fanOutExecutor;
 	}
 
 	/**
 	 * 게시물을 추가합니다.
+	 * <p>
+	 * 이미지는 트랜잭션을 열기 전에 병렬로 업로드하고, 게시글과 이미지 row는 하나의 짧은 트랜잭션에서 저장합니다.
+	 * 저장에 실패해 참조되지 않은 이미지는 sweeper 가 정리합니다.
 	 *
 	 * @param request 요청이 들어온 http 정보로 요청한 자의 정보와 권한을 검사하기 위해 사용. 비회원은 게시물을 발행할 수 없습니다.
 	 * @param exchangeAddRequestDto 작성할 글 정보
 	 * @param images 작성할 글에 해당하는 이미지 정보
 	 * @return 작성이 정상적으로 진행될 경우 글의 정보를 반환합니다.
 	 */
-	@Transactional
 	public ExchangeResponseDto addExchange(HttpServletRequest request, ExchangeAddRequestDto exchangeAddRequestDto,
 		List<MultipartFile> images) {
 
 		// token 유효성 검사 후 요청한 member 정보
 		Member member = jwtTokenValidator.validateTokenAndGetMember(jwtTokenValidator.extractTokenFromHeader(request));
 
-		// Exchange 엔티티 저장 (regularPrice는 나중에 비동기로 업데이트)
-		Exchange exchange = Exchange.builder()
-			.member(member)
-			.title(exchangeAddRequestDto.getTitle())
-			.price(exchangeAddRequestDto.getPrice())
-			.regularPrice(0)
-			.content(exchangeAddRequestDto.getContent())
-			.status(SalesStatus.SALE)
-			.build();
-
-		exchangeRepository.save(exchange);
-
-		// 비동기적으로 regularPrice 업데이트 (응답은 즉시 반환)
-		alanAPIService.fetchRegularPriceAndUpdateExchange(exchangeAddRequestDto.getTitle(), exchange.getId());
-
-		// 이미지 처리
-		if (images != null) {
-			for (MultipartFile image : images) {
-				try {
-					String fileUrl = s3Service.uploadFile(image);
-					ExchangeImage exchangeImage = ExchangeImage.builder().url(fileUrl).exchange(exchange).build();
-					exchange.addImage(exchangeImage);
-					exchangeImageRepository.save(exchangeImage);
-				} catch (Exception e) {
-					log.error("이미지 업로드 중 오류 발생: {}", e.getMessage());
-					throw new RuntimeException("Image upload failed");
-				}
+		// 이미지 처리 (트랜잭션 밖에서 병렬 업로드)
+		List<String> imageUrls = imageUploadService.uploadAll(images);
+
+		Exchange exchange = transactionTemplate.execute(status -> {
+			// Exchange 엔티티 저장 (regularPrice는 나중에 비동기로 업데이트)
+			Exchange newExchange = Exchange.builder()
+				.member(member)
+				.title(exchangeAddRequestDto.getTitle())
+				.price(exchangeAddRequestDto.getPrice())
+				.regularPrice(0)
+				.content(exchangeAddRequestDto.getContent())
+				.status(SalesStatus.SALE)
+				.build();
+
+			for (int order = 0; order < imageUrls.size(); order++) {
+				newExchange.addImage(ExchangeImage.builder().url(imageUrls.get(order)).sortOrder(order).build());
 			}
-		}
+
+			Exchange savedExchange = exchangeRepository.save(newExchange);
+			blobStorageService.acquire(imageUrls);
+			// 커밋 이후 썸네일/압축본 생성
+			imageVariantService.generateExchangeImageVariants(savedExchange.getImages());
+			// regularPrice 는 커밋 이후 비동기로 업데이트 (응답은 즉시 반환)
+			priceEnrichmentService.schedule(savedExchange.getId(), exchangeAddRequestDto.getTitle());
+			return savedExchange;
+		});
 
 		// 빠르게 응답 반환 (regularPrice 없이)
 		return ExchangeResponseDto.fromExchange(exchange);
@@ -206,67 +227,84 @@ public class ExchangeService {
 
 	/**
 	 * id에 해당하는 게시물 1개를 상세 조회합니다.
+	 * <p>
+	 * 게시글을 읽고 조회수를 올린 뒤, 작성자의 최근 게시글/후기 요약/좋아요 수/조회자의 좋아요 여부를 동시에 조회하므로
+	 * 응답 시간은 각 조회 시간의 합이 아니라 가장 느린 조회 시간에 가깝습니다.
 	 *
 	 * @param request 요청이 들어온 http 정보로 요청한 자가 게시글을 작성한 본인인지 판단 여부를 위해 사용
 	 * @param id 게시물 id
 	 * @return 게시물이 있고 삭제처리가 되어있지 않은 경우 게시물 정보와 작성자 여부를 반환합니다.
 	 */
-	@Transactional
 	public ExchangeDetailResponseDto getExchangeDetail(HttpServletRequest request, Long id) {
-
-		Exchange exchange = exchangeRepository.findByIdAndDeletedAtIsNull(id)
-			.orElseThrow(() -> new EntityNotFoundException("작성된 글이 아니거나 삭제되었습니다."));
-
-		Pageable pageable = PageRequest.of(0, 3);
-		List<ExchangeNavigationResponseDto> recentExchangesByMember = exchangeRepository.findByMemberIdAndDeletedAtIsNullOrderByCreatedAtDesc(
-				exchange.getMember().getId(), pageable)
-			.map(exchangeItem -> ExchangeNavigationResponseDto.fromExchange(exchangeItem, frontendBaseUrl + EXCHANGE))
-			.getContent();
-
-		boolean isWriter = isWriter(request, id);
-
-		ReviewOverview reviewOverview = reviewOverviewRepository.findByMemberId(exchange.getMember().getId())
-			.orElse(ReviewOverview.builder().count(0).average(0.0).build());
-
-		long reviewCount = reviewOverview.getCount();
-		double average = reviewOverview.getAverage();
-
-		LikeOverview likeOverview = likeOverviewRepository.findByExchangeId(id)
-			.orElse(LikeOverview.builder().count(0).build());
-
-		long likeCount = likeOverview.getCount();
-
-		exchangeRepository.incrementViewCount(id);
-
-		ExchangeLike exchangeLike;
-		try {
-			Member member = jwtTokenValidator.validateTokenAndGetMember(
-				jwtTokenValidator.extractTokenFromHeader(request));
-			exchangeLike = exchangeLikeRepository.findByExchangeAndMember(exchange, member
-				)
-				.orElse(ExchangeLike.builder()
-					.build());
-		} catch (NullPointerException e) {
-			exchangeLike = ExchangeLike.builder()
-				.build();
+		// 요청 객체는 다른 스레드에서 사용하지 않도록 토큰만 미리 꺼냄
+		String token = jwtTokenValidator.extractTokenFromHeader(request);
+
+		Exchange exchange = transactionTemplate.execute(status -> {
+			Exchange found = exchangeRepository.findByIdAndDeletedAtIsNull(id)
+				.orElseThrow(() -> new EntityNotFoundException("작성된 글이 아니거나 삭제되었습니다."));
+			exchangeRepository.incrementViewCount(id);
+			// 트랜잭션 밖에서 응답을 만들 때 필요한 연관 엔티티를 미리 로딩
+			Hibernate.initialize(found.getMember());
+			Hibernate.initialize(found.getImages());
+			return found;
+		});
+		Long writerId = exchange.getMember().getId();
+
+		try (FanOutExecutor.Scope scope = fanOutExecutor.open()) {
+			Supplier<List<ExchangeNavigationResponseDto>> recentExchangesByMember = scope.fork(() ->
+				exchangeRepository.findByMemberIdAndDeletedAtIsNullOrderByCreatedAtDesc(writerId, PageRequest.of(0, 3))
+					.map(exchangeItem -> ExchangeNavigationResponseDto.fromExchange(exchangeItem,
+						frontendBaseUrl + EXCHANGE))
+					.getContent());
+			Supplier<ReviewOverview> reviewOverview = scope.fork(() ->
+				reviewOverviewRepository.findByMemberId(writerId)
+					.orElse(ReviewOverview.builder().count(0).average(0.0).build()));
+			Supplier<LikeOverview> likeOverview = scope.fork(() ->
+				likeOverviewRepository.findByExchangeId(id)
+					.orElse(LikeOverview.builder().count(0).build()));
+			Supplier<Viewer> viewer = scope.fork(() -> findViewer(token, exchange));
+			scope.join();
+
+			return ExchangeDetailResponseDto.fromExchange(exchange, recentExchangesByMember.get(),
+				viewer.get().isWriter(), reviewOverview.get().getCount(), reviewOverview.get().getAverage(),
+				likeOverview.get().getCount(), viewer.get().isLike());
 		}
+	}
 
-		boolean isLike = exchangeLike.getCanceledAt() != null;
+	/**
+	 * 게시물 상세 조회 영역에서 조회자가 본인 글을 조회했는지, 좋아요를 눌렀는지 판단합니다.
+	 * 다른 스레드의 트랜잭션에서 실행되므로 엔티티는 동일성 대신 id 로 비교합니다.
+	 *
+	 * @param token 요청한 자의 토큰, 비회원이면 null
+	 * @param exchange 대상 글
+	 * @return 비회원이면 둘 다 false
+	 */
+	private Viewer findViewer(String token, Exchange exchange) {
+		if (token == null) {
+			return new Viewer(false, false);
+		}
+		Member member = jwtTokenValidator.validateTokenAndGetMember(token);
+		boolean isWriter = member.getId().equals(exchange.getMember().getId());
+		ExchangeLike exchangeLike = exchangeLikeRepository.findByExchangeAndMember(exchange, member)
+			.orElse(ExchangeLike.builder().build());
+		return new Viewer(isWriter, exchangeLike.getCanceledAt() != null);
+	}
 
-		return ExchangeDetailResponseDto.fromExchange(exchange, recentExchangesByMember, isWriter, reviewCount,
-			average, likeCount, isLike);
+	private record Viewer(boolean isWriter, boolean isLike) {
 	}
 
 	/**
 	 * 게시물을 수정합니다. 삭제처리된 글은 수정할 수 없습니다.
+	 * <p>
+	 * 작성자 확인 후 새 이미지를 트랜잭션 밖에서 병렬로 업로드하고, 게시글 변경은 하나의 짧은 트랜잭션에서 저장합니다.
+	 * 이미지는 요청의 imageOrder 기준으로 비교하여 빠진 이미지 삭제, 새 이미지 추가, 순서가 바뀐 이미지의 순서 변경만 반영합니다.
 	 *
 	 * @param request 요청이 들어온 http 정보로 요청한 자의 정보와 권한을 검사하기 위해 사용. 작성자가 아니라면 수정이 불가능합니다.
 	 * @param id 글 id
 	 * @param exchangeModifyRequestDto 수정할 글의 정보
-	 * @param images 글에 첨부할 이미지
+	 * @param images 새로 추가할 이미지 (imageOrder 의 newImageIndex 로 참조)
 	 * @return 수정이 정상적으로 진행될 경우 수정된 글의 정보를 반환합니다.
 	 */
-	@Transactional
 	public ExchangeResponseDto modifyExchange(HttpServletRequest request, Long id,
 		ExchangeModifyRequestDto exchangeModifyRequestDto, List<MultipartFile> images) {
 
@@ -280,48 +318,115 @@ public class ExchangeService {
 			if (!member.equals(exchange.getMember())) {
 				throw new AccessDeniedException("Warning: Another user attempted to modify the post.");
 			}
+		} catch (AccessDeniedException e) {
+			log.error("{} [{} -> {}]", e.getMessage(), member.getEmail(), exchange.getTitle());
+			throw new AuthenticationFailedException(
+				"Warning: Access denied. You do not have permission to modify the post.");
+		}
 
-			List<ExchangeImage> imagesCopy = new ArrayList<>(exchange.getImages());
-			for (ExchangeImage image : imagesCopy) {
-				exchange.removeImage(image);
+		boolean titleChanged = !exchangeModifyRequestDto.getTitle().equals(exchange.getTitle());
+
+		List<ExchangeImageOrderDto> imageOrder = resolveImageOrder(exchangeModifyRequestDto.getImageOrder(), images);
+
+		// 이미지 처리 (새로 추가된 이미지만 트랜잭션 밖에서 병렬 업로드)
+		List<String> imageUrls = imageUploadService.uploadAll(images);
+
+		Exchange modifiedExchange = transactionTemplate.execute(status -> {
+			Exchange target = exchangeRepository.findByIdAndDeletedAtIsNull(id)
+				.orElseThrow(() -> new RuntimeException("게시글을 찾을수 없습니다."));
+
+			Map<Long, ExchangeImage> existingImages = target.getImages().stream()
+				.collect(Collectors.toMap(ExchangeImage::getId, Function.identity()));
+			Set<Long> keptImageIds = new HashSet<>();
+			List<ExchangeImage> addedImages = new ArrayList<>();
+
+			for (int order = 0; order < imageOrder.size(); order++) {
+				ExchangeImageOrderDto slot = imageOrder.get(order);
+				if (slot.getImageId() != null) {
+					ExchangeImage image = existingImages.get(slot.getImageId());
+					if (image == null || !keptImageIds.add(image.getId())) {
+						throw new IllegalArgumentException("게시글에 속하지 않은 이미지입니다: " + slot.getImageId());
+					}
+					// 값이 같으면 dirty checking 에 걸리지 않으므로 순서가 바뀐 이미지만 UPDATE 됨
+					image.changeSortOrder(order);
+				} else {
+					ExchangeImage image = ExchangeImage.builder()
+						.url(imageUrls.get(slot.getNewImageIndex()))
+						.sortOrder(order)
+						.build();
+					target.addImage(image);
+					addedImages.add(image);
+				}
 			}
 
-			// 만일 제목이 달라진 경우라도 응답 반환을 우선으로 하고 정가 업데이트는 비동기로 처리
-			if (!exchangeModifyRequestDto.getTitle().equals(exchange.getTitle())) {
-				alanAPIService.fetchRegularPriceAndUpdateExchange(exchangeModifyRequestDto.getTitle(),
-					exchange.getId());
+			List<String> removedUrls = new ArrayList<>();
+			for (ExchangeImage image : existingImages.values()) {
+				if (!keptImageIds.contains(image.getId())) {
+					target.removeImage(image);
+					removedUrls.add(image.getUrl());
+				}
 			}
+			target.getImages().sort(Comparator.comparing(ExchangeImage::getSortOrder));
 
-			Exchange updateExchange = exchange.toBuilder()
+			if (!addedImages.isEmpty()) {
+				imageVariantService.generateExchangeImageVariants(exchangeImageRepository.saveAll(addedImages));
+			}
+			// 새 참조를 먼저 늘린 뒤 기존 참조를 줄여, 같은 사진을 다시 올린 경우 참조 수가 0 이 되지 않도록 함
+			blobStorageService.acquire(imageUrls);
+			if (!removedUrls.isEmpty()) {
+				blobStorageService.release(removedUrls);
+			}
+
+			Exchange updateExchange = target.toBuilder()
 				.title(exchangeModifyRequestDto.getTitle())
 				.price(exchangeModifyRequestDto.getPrice())
-				.regularPrice(exchange.getRegularPrice())
+				.regularPrice(target.getRegularPrice())
 				.content(exchangeModifyRequestDto.getContent())
 				.updatedAt(new Timestamp(System.currentTimeMillis()))
 				.status(exchangeModifyRequestDto.getStatus())
 				.build();
 
-			if (images != null) {
-				for (MultipartFile image : images) {
-					try {
-						String fileUrl = s3Service.uploadFile(image);
-						ExchangeImage exchangeImage = ExchangeImage.builder().url(fileUrl).exchange(exchange).build();
-
-						exchange.addImage(exchangeImage);
-						exchangeImageRepository.save(exchangeImage);
-					} catch (Exception e) {
-						log.error("이미지 업로드 중 오류 발생: {}", e.getMessage());
-						throw new RuntimeException("Image upload failed");
-					}
-				}
+			// 만일 제목이 달라진 경우라도 응답 반환을 우선으로 하고 정가 업데이트는 커밋 이후 비동기로 처리
+			if (titleChanged) {
+				priceEnrichmentService.schedule(id, exchangeModifyRequestDto.getTitle());
 			}
 
-			return ExchangeResponseDto.fromExchange(exchangeRepository.save(updateExchange));
-		} catch (AccessDeniedException e) {
-			log.error("{} [{} -> {}]", e.getMessage(), member.getEmail(), exchange.getTitle());
-			throw new AuthenticationFailedException(
-				"Warning: Access denied. You do not have permission to modify the post.");
+			return exchangeRepository.save(updateExchange);
+		});
+
+		return ExchangeResponseDto.fromExchange(modifiedExchange);
+	}
+
+	/**
+	 * 수정 요청의 이미지 순서를 검증합니다. 순서가 없으면 기존 이미지를 모두 업로드한 이미지로 교체합니다.
+	 *
+	 * @param imageOrder 요청한 이미지 순서 (null 허용)
+	 * @param images 새로 추가할 이미지
+	 * @return 검증된 이미지 순서
+	 */
+	private List<ExchangeImageOrderDto> resolveImageOrder(List<ExchangeImageOrderDto> imageOrder,
+		List<MultipartFile> images) {
+		int newImageCount = images == null ? 0 : images.size();
+		if (imageOrder == null) {
+			return IntStream.range(0, newImageCount)
+				.mapToObj(index -> ExchangeImageOrderDto.builder().newImageIndex(index).build())
+				.toList();
 		}
+
+		Set<Integer> usedIndexes = new HashSet<>();
+		for (ExchangeImageOrderDto slot : imageOrder) {
+			Integer index = slot.getNewImageIndex();
+			if ((slot.getImageId() == null) == (index == null)) {
+				throw new IllegalArgumentException("이미지 순서에는 imageId와 newImageIndex 중 하나만 지정해야 합니다.");
+			}
+			if (index != null && (index < 0 || index >= newImageCount || !usedIndexes.add(index))) {
+				throw new IllegalArgumentException("잘못된 newImageIndex 입니다: " + index);
+			}
+		}
+		if (usedIndexes.size() != newImageCount) {
+			throw new IllegalArgumentException("업로드한 이미지는 모두 이미지 순서에 포함되어야 합니다.");
+		}
+		return imageOrder;
 	}
 
 	/**
@@ -355,24 +460,4 @@ public class ExchangeService {
 				"Warning: Access denied. You do not have permission to delete the post.");
 		}
 	}
-
-	/**
-	 * 게시물 상세 조회 영역에서 작성자가 본인 글을 조회했는지 판단합니다.
-	 *
-	 * @param request 요청한 자의 정보
-	 * @param id 대상 글 id
-	 * @return 본인이 작성한 글로 판단될 경우 true를 반환합니다.
-	 */
-	private boolean isWriter(HttpServletRequest request, Long id) {
-		try {
-			Member member = jwtTokenValidator.validateTokenAndGetMember(
-				jwtTokenValidator.extractTokenFromHeader(request));
-
-			Exchange exchange = exchangeRepository.findByIdAndDeletedAtIsNull(id)
-				.orElseThrow(() -> new RuntimeException("게시글을 찾을수 없습니다."));
-			return member.equals(exchange.getMember());
-		} catch (NullPointerException e) {
-			return false;
-		}
-	}
 }
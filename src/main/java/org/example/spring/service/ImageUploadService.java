@@ -0,0 +1,68 @@
+package org.example.spring.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 이미지를 저장소에 병렬로 업로드하는 서비스입니다.
+ * <p>
+ * 업로드는 DB 트랜잭션을 열기 전에 수행합니다. 업로드 이후 저장에 실패하거나 일부 업로드가 실패해
+ * 참조되지 않은 객체는 {@link BlobReferenceService} 의 sweeper 가 유예 기간 이후 삭제합니다.
+ */
+@Slf4j
+@Service
+public class ImageUploadService {
+
+	private final BlobStorageService blobStorageService;
+	private final Executor imageUploadExecutor;
+
+	public ImageUploadService(BlobStorageService blobStorageService,
+		@Qualifier("imageUploadExecutor") Executor imageUploadExecutor) {
+		this.blobStorageService = blobStorageService;
+		this.imageUploadExecutor = imageUploadExecutor;
+	}
+
+	/**
+	 * 이미지를 병렬로 업로드합니다.
+	 *
+	 * @param images 업로드할 이미지 목록 (null 허용)
+	 * @return 요청 순서와 동일한 순서의 업로드 url 목록
+	 * @throws RuntimeException 하나라도 업로드에 실패한 경우
+	 */
+	public List<String> uploadAll(List<MultipartFile> images) {
+		if (images == null || images.isEmpty()) {
+			return List.of();
+		}
+
+		List<CompletableFuture<String>> uploads = images.stream()
+			.map(image -> CompletableFuture.supplyAsync(() -> upload(image), imageUploadExecutor))
+			.toList();
+
+		try {
+			CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			log.error("이미지 업로드 중 오류 발생: {}", e.getCause().getMessage());
+			throw new RuntimeException("Image upload failed", e.getCause());
+		}
+
+		return uploads.stream().map(CompletableFuture::join).toList();
+	}
+
+	private String upload(MultipartFile image) {
+		try {
+			return blobStorageService.store(image);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,190 @@
+package org.example.spring.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.example.spring.domain.exchangeImage.ExchangeImage;
+import org.example.spring.domain.reviewImage.ReviewImage;
+import org.example.spring.repository.ExchangeImageRepository;
+import org.example.spring.repository.ReviewImageRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드된 원본 이미지로부터 고정 폭 썸네일과 화면 표시용 압축본을 생성합니다.
+ * 변환은 요청 스레드가 아닌 제한된 크기의 풀에서 비동기로 수행되며,
+ * 실패하거나 아직 생성되지 않은 경우 클라이언트는 원본 url 을 사용합니다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+	private static final String WEBP = "webp";
+	private static final String JPEG = "jpeg";
+
+	private final BlobStorageService blobStorageService;
+	private final ExchangeImageRepository exchangeImageRepository;
+	private final ReviewImageRepository reviewImageRepository;
+	private final Executor imageProcessingExecutor;
+
+	@Value("${image.variant.thumbnail-width:320}")
+	private int thumbnailWidth;
+
+	@Value("${image.variant.display-width:1280}")
+	private int displayWidth;
+
+	@Value("${image.variant.quality:0.8}")
+	private float quality;
+
+	public ImageVariantService(BlobStorageService blobStorageService, ExchangeImageRepository exchangeImageRepository,
+		ReviewImageRepository reviewImageRepository,
+		@Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor) {
+		this.blobStorageService = blobStorageService;
+		this.exchangeImageRepository = exchangeImageRepository;
+		this.reviewImageRepository = reviewImageRepository;
+		this.imageProcessingExecutor = imageProcessingExecutor;
+	}
+
+	/**
+	 * 판매글 이미지의 변환본 생성을 예약합니다. 트랜잭션 안에서 호출되면 커밋 이후에 실행됩니다.
+	 *
+	 * @param images 저장된(id 가 할당된) 판매글 이미지
+	 */
+	public void generateExchangeImageVariants(List<ExchangeImage> images) {
+		for (ExchangeImage image : images) {
+			Long id = image.getId();
+			schedule(image.getUrl(), variants ->
+				exchangeImageRepository.updateVariants(id, variants.thumbnailUrl(), variants.displayUrl()));
+		}
+	}
+
+	/**
+	 * 리뷰 이미지의 변환본 생성을 예약합니다. 트랜잭션 안에서 호출되면 커밋 이후에 실행됩니다.
+	 *
+	 * @param images 저장된(id 가 할당된) 리뷰 이미지
+	 */
+	public void generateReviewImageVariants(List<ReviewImage> images) {
+		for (ReviewImage image : images) {
+			Long id = image.getId();
+			schedule(image.getUrl(), variants ->
+				reviewImageRepository.updateVariants(id, variants.thumbnailUrl(), variants.displayUrl()));
+		}
+	}
+
+	private void schedule(String originalUrl, Consumer<Variants> onGenerated) {
+		Runnable submit = () -> imageProcessingExecutor.execute(() -> generate(originalUrl, onGenerated));
+
+		// 롤백된 이미지에 대해 변환본이 만들어지지 않도록 커밋 이후에 작업을 제출
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					submit.run();
+				}
+			});
+		} else {
+			submit.run();
+		}
+	}
+
+	private void generate(String originalUrl, Consumer<Variants> onGenerated) {
+		try {
+			String format = variantFormat();
+			String extension = WEBP.equals(format) ? "webp" : "jpg";
+			String contentType = "image/" + format;
+
+			// 같은 내용의 원본은 같은 key 를 쓰므로, 이미 만들어진 변환본이 있으면 재사용
+			String existingThumbnailUrl = blobStorageService.findVariant(originalUrl, "w" + thumbnailWidth, extension);
+			String existingDisplayUrl = blobStorageService.findVariant(originalUrl, "w" + displayWidth, extension);
+			if (existingThumbnailUrl != null && existingDisplayUrl != null) {
+				onGenerated.accept(new Variants(existingThumbnailUrl, existingDisplayUrl));
+				return;
+			}
+
+			BufferedImage original;
+			try (InputStream in = blobStorageService.open(originalUrl)) {
+				original = ImageIO.read(in);
+			}
+			if (original == null) {
+				log.warn("Unsupported image format, variant generation skipped: {}", originalUrl);
+				return;
+			}
+
+			String thumbnailUrl = blobStorageService.storeVariant(originalUrl, "w" + thumbnailWidth,
+				encode(resize(original, thumbnailWidth), format), extension, contentType);
+			String displayUrl = blobStorageService.storeVariant(originalUrl, "w" + displayWidth,
+				encode(resize(original, displayWidth), format), extension, contentType);
+
+			onGenerated.accept(new Variants(thumbnailUrl, displayUrl));
+		} catch (Exception e) {
+			log.warn("Failed to generate image variants for {}: {}", originalUrl, e.getMessage());
+		}
+	}
+
+	/* 지정한 폭으로 비율을 유지하며 축소 (원본보다 크게 확대하지 않음) */
+	private BufferedImage resize(BufferedImage source, int targetWidth) {
+		int width = Math.min(targetWidth, source.getWidth());
+		int height = Math.max(1, (int)Math.round((double)source.getHeight() * width / source.getWidth()));
+
+		// JPEG 은 알파 채널을 지원하지 않으므로 RGB 로 그리면서 투명 영역은 흰색으로 채움
+		BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = resized.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+		} finally {
+			graphics.dispose();
+		}
+		return resized;
+	}
+
+	private byte[] encode(BufferedImage image, String format) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+			writer.setOutput(ios);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if (param.canWriteCompressed()) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				if (param.getCompressionType() == null && param.getCompressionTypes().length > 0) {
+					param.setCompressionType(param.getCompressionTypes()[0]);
+				}
+				param.setCompressionQuality(quality);
+			}
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return out.toByteArray();
+	}
+
+	/* WebP 인코더(ImageIO 플러그인)가 클래스패스에 있으면 WebP, 없으면 JPEG 으로 인코딩 */
+	private String variantFormat() {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(WEBP);
+		return writers.hasNext() ? WEBP : JPEG;
+	}
+
+	private record Variants(String thumbnailUrl, String displayUrl) {
+	}
+}
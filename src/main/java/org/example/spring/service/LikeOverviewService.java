@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.example.spring.domain.exchange.Exchange;
 import org.example.spring.domain.like.ExchangeLike;
 import org.example.spring.domain.likeOverview.LikeOverview;
+import org.example.spring.lock.SchedulerLock;
 import org.example.spring.repository.ExchangeLikeRepository;
 import org.example.spring.repository.ExchangeRepository;
 import org.example.spring.repository.LikeOverviewRepository;
@@ -33,7 +34,8 @@ public class LikeOverviewService {
      * 중고 거래 게시글별 좋아요 개요(LikeOverview)를 업데이트합니다
      */
     @Scheduled(cron = "0 * * * * ?")
-    @Transactional
+    @SchedulerLock(name = "updateLikeOverviews", lockAtMostFor = "50s", lockAtLeastFor = "10s")
+    @Transactional(timeout = 40) // 잠금 임대(50초) 안에 끝나지 않으면 롤백
     public void updateLikeOverviews() {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime oneMinuteAgo = now.minusMinutes(1);
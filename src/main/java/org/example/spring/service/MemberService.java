@@ -20,6 +20,7 @@ import org.example.spring.exception.EmailVerificationTokenExpiredException;
 import org.example.spring.exception.InvalidTokenException;
 import org.example.spring.exception.MemberNotFoundException;
 import org.example.spring.exception.ResourceNotFoundException;
+import org.example.spring.lock.SchedulerLock;
 import org.example.spring.repository.MemberRepository;
 import org.example.spring.security.jwt.JwtTokenValidator;
 import org.example.spring.security.service.AccountManagementService;
@@ -216,8 +217,11 @@ public class MemberService {
 
 	/**
 	 * 매일 자정에 삭제된지 3일된 계정을 폐기합니다.
+	 * 잠금 임대(30분)가 끝난 뒤 다른 노드와 함께 삭제하지 않도록 트랜잭션을 10분 안에 끝내지 못하면 롤백합니다.
 	 */
 	@Scheduled(cron = "0 0 0 * * ?") // 매일 자정에 실행
+	@SchedulerLock(name = "deleteExpiredAccounts", lockAtMostFor = "30m", lockAtLeastFor = "1m")
+	@Transactional(timeout = 600)
 	public void deleteExpiredAccounts() {
 		Timestamp expirationThreshold = Timestamp.from(Instant.now().minus(Duration.ofDays(3)));
 		List<Member> expiredAccounts = memberRepository.findByDeletedAtBeforeAndDeletedAtIsNotNull(expirationThreshold);
@@ -0,0 +1,274 @@
+package org.example.spring.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.example.spring.constant.ErrorCode;
+import org.example.spring.domain.member.dto.MemberMessageResponseDto;
+import org.example.spring.domain.message.messageDto.MessageAckResponseDto;
+import org.example.spring.domain.message.messageDto.MessageResponseDto;
+import org.example.spring.domain.message.messageDto.MessageRetractedDto;
+import org.example.spring.redis.MessageCreatedEventHandler;
+import org.example.spring.redis.RoomBroadcaster;
+import org.example.spring.repository.message.MessageBatchRepository.NewMessage;
+import org.example.spring.repository.message.MessageMemberRepository;
+import org.example.spring.repository.message.MessageRepository;
+import org.example.spring.repository.message.MessageRoomRepository;
+import org.example.spring.websocket.ChatPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 로 받은 채팅 메시지를 모아서 저장하는 ingest 파이프라인입니다.
+ * <p>
+ * 메시지는 방 id 로 고른 shard 큐에 들어가고, shard 마다 하나의 가상 스레드가 큐에 쌓인 메시지를 배치로 꺼내
+ * 먼저 구독자에게 전달(낙관적 fan-out)한 뒤 multi-row INSERT 한 번과 방별 마지막 메시지 UPDATE 를 한 트랜잭션으로 커밋합니다.
+ * 같은 방의 메시지는 항상 같은 스레드가 받은 순서대로 전달하고 저장하므로 전달 순서와 message_id 순서가 같습니다.
+ * 한 세션이 보낸 SEND 는 인바운드 채널이 받은 순서대로 넘겨주므로(WebSocketConfig) 보낸 순서도 그대로 유지됩니다.
+ * 보낸 사람은 커밋 이후 /user/queue/messages 로 저장 결과(ack)를 받고, 다른 참여자의 안 읽은 수가 늘어납니다.
+ * 먼저 전달한 메시지를 끝내 저장하지 못하면 채팅방 구독자에게 {@link MessageRetractedDto} 를 보내 화면에서 지우게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageIngestService {
+
+	public static final String ACK_DESTINATION = "/queue/messages";
+
+	private final MessageRepository messageRepository;
+	private final MessageRoomRepository messageRoomRepository;
+	private final MessageMemberRepository messageMemberRepository;
+	private final MessageCreatedEventHandler messageCreatedEventHandler;
+	private final MessageReadService messageReadService;
+	private final RoomBroadcaster roomBroadcaster;
+	private final SimpMessageSendingOperations messagingTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${chat.ingest.shards:4}")
+	private int shardCount;
+
+	@Value("${chat.ingest.batch-size:100}")
+	private int batchSize;
+
+	@Value("${chat.ingest.queue-capacity:10000}")
+	private int queueCapacity;
+
+	// 배치를 채우려고 기다리는 시간만큼 전달과 ack 가 늦어짐
+	@Value("${chat.ingest.linger:PT0.002S}")
+	private Duration linger;
+
+	private List<BlockingQueue<PendingMessage>> shards;
+	private ExecutorService workers;
+	private volatile boolean running;
+
+	@PostConstruct
+	void start() {
+		running = true;
+		shards = new ArrayList<>(shardCount);
+		workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chat-ingest-", 0).factory());
+		for (int i = 0; i < shardCount; i++) {
+			BlockingQueue<PendingMessage> queue = new ArrayBlockingQueue<>(queueCapacity);
+			shards.add(queue);
+			workers.execute(() -> workLoop(queue));
+		}
+	}
+
+	/* 새 메시지는 받지 않고, 이미 큐에 들어간 메시지는 저장한 뒤 종료 */
+	@PreDestroy
+	void stop() throws InterruptedException {
+		running = false;
+		workers.shutdown();
+		if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+			workers.shutdownNow();
+		}
+	}
+
+	/**
+	 * 메시지를 저장 큐에 넣습니다. 전달과 저장은 shard 스레드가 처리하고, 결과는 보낸 사람에게 ack 로 전달됩니다.
+	 * 보낸 사람이 채팅방 참여자가 아니면 큐에 넣지 않습니다. 참여 여부는 Redis 의 참여 회원 캐시로 확인하며,
+	 * 없는 채팅방은 참여 회원이 없으므로 같은 확인에서 거절됩니다.
+	 * 참여자가 아니거나 큐가 가득 차서(종료 중 포함) 거절한 메시지는 예외 대신 보낸 사람에게 실패 ack 로 알립니다.
+	 *
+	 * @param sender CONNECT 에서 인증한 보낸 사람
+	 * @param messageRoomId 메시지 방 id
+	 * @param messageContent 메시지 내용
+	 * @param clientMessageId ack 와 짝지을 클라이언트 임시 id (없으면 null)
+	 */
+	public void submit(ChatPrincipal sender, Long messageRoomId, String messageContent, String clientMessageId) {
+		MessageResponseDto message = MessageResponseDto.builder()
+			.messageRoomId(messageRoomId)
+			.member(MemberMessageResponseDto.builder().id(sender.memberId()).nickname(sender.nickname()).build())
+			.messageContent(messageContent)
+			.createdAt(new Timestamp(System.currentTimeMillis()))
+			.clientMessageId(clientMessageId)
+			.build();
+		PendingMessage pending = new PendingMessage(sender, message);
+
+		if (!messageReadService.isMember(messageRoomId, sender.memberId())) {
+			reject(pending, ErrorCode.MEMBER_NOT_FOUND_IN_ROOM);
+			return;
+		}
+		if (!running || !shards.get(Math.floorMod(messageRoomId, shards.size())).offer(pending)) {
+			reject(pending, ErrorCode.MESSAGE_QUEUE_FULL);
+		}
+	}
+
+	/* @MessageMapping 에서 던진 예외는 보낸 사람에게 전달되지 않으므로 실패 ack 로 알림 */
+	private void reject(PendingMessage pending, ErrorCode errorCode) {
+		log.debug("Chat message from member {} to room {} rejected: {}", pending.sender().memberId(),
+			pending.message().getMessageRoomId(), errorCode);
+		ack(pending, MessageAckResponseDto.failed(pending.message()));
+	}
+
+	private void workLoop(BlockingQueue<PendingMessage> queue) {
+		List<PendingMessage> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingMessage first = queue.poll(200, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				fill(queue, batch);
+				process(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				log.error("Chat ingest worker failed", e);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/* 쌓여 있는 메시지를 가져오고, 배치가 덜 찼으면 linger 동안 더 기다림 */
+	private void fill(BlockingQueue<PendingMessage> queue, List<PendingMessage> batch) throws InterruptedException {
+		queue.drainTo(batch, batchSize - batch.size());
+		long deadline = System.nanoTime() + linger.toNanos();
+		while (batch.size() < batchSize) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return;
+			}
+			PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				return;
+			}
+			batch.add(next);
+			queue.drainTo(batch, batchSize - batch.size());
+		}
+	}
+
+	/**
+	 * 배치 하나를 전달하고 저장합니다. 배치 INSERT 가 실패하면 문제가 된 메시지만 실패하도록 하나씩 다시 저장합니다.
+	 *
+	 * @param batch 한 shard 에서 받은 순서대로의 메시지
+	 */
+	void process(List<PendingMessage> batch) {
+		// 저장을 기다리지 않고 먼저 전달. 실패해도 저장은 계속 진행
+		for (PendingMessage pending : batch) {
+			try {
+				messageCreatedEventHandler.handle(pending.message());
+			} catch (RuntimeException e) {
+				log.warn("Chat fan-out failed for room {}: {}", pending.message().getMessageRoomId(), e.getMessage());
+			}
+		}
+
+		List<Long> ids;
+		try {
+			ids = transactionTemplate.execute(status -> persist(batch));
+		} catch (RuntimeException e) {
+			log.warn("Chat batch insert of {} messages failed, retrying one by one: {}", batch.size(), e.getMessage());
+			batch.forEach(this::persistAlone);
+			return;
+		}
+		for (int i = 0; i < batch.size(); i++) {
+			ack(batch.get(i), MessageAckResponseDto.persisted(batch.get(i).message(), ids.get(i)));
+		}
+		recordUnread(batch, ids);
+	}
+
+	private void persistAlone(PendingMessage pending) {
+		try {
+			Long id = transactionTemplate.execute(status -> persist(List.of(pending))).get(0);
+			ack(pending, MessageAckResponseDto.persisted(pending.message(), id));
+			recordUnread(List.of(pending), List.of(id));
+		} catch (RuntimeException e) {
+			log.warn("Chat message for room {} from member {} was not saved: {}",
+				pending.message().getMessageRoomId(), pending.sender().memberId(), e.getMessage());
+			ack(pending, MessageAckResponseDto.failed(pending.message()));
+			retract(pending);
+		}
+	}
+
+	/* 이미 전달한 메시지를 다른 참여자 화면에서 지우도록 알림 */
+	private void retract(PendingMessage pending) {
+		try {
+			roomBroadcaster.broadcast(pending.message().getMessageRoomId(), MessageRetractedDto.of(pending.message()),
+				null);
+		} catch (RuntimeException e) {
+			log.warn("Chat retraction for room {} failed: {}", pending.message().getMessageRoomId(), e.getMessage());
+		}
+	}
+
+	private List<Long> persist(List<PendingMessage> batch) {
+		List<Long> ids = messageRepository.insertAll(batch.stream()
+			.map(pending -> new NewMessage(pending.message().getMessageRoomId(), pending.sender().memberId(),
+				pending.message().getMessageContent(), pending.message().getCreatedAt()))
+			.toList());
+
+		// 방마다 배치 안의 마지막 메시지로 한 번만 갱신
+		Map<Long, Integer> lastIndexByRoom = new LinkedHashMap<>();
+		for (int i = 0; i < batch.size(); i++) {
+			lastIndexByRoom.put(batch.get(i).message().getMessageRoomId(), i);
+		}
+		lastIndexByRoom.forEach((messageRoomId, index) -> {
+			Timestamp messageAt = batch.get(index).message().getCreatedAt();
+			messageRoomRepository.updateLastMessage(messageRoomId, ids.get(index), messageAt);
+			messageMemberRepository.updateLastMessageAt(messageRoomId, messageAt);
+		});
+		return ids;
+	}
+
+	/* 커밋된 메시지를 방마다 한 번에 안 읽은 수에 반영 */
+	private void recordUnread(List<PendingMessage> saved, List<Long> ids) {
+		Map<Long, List<Long>> senderIdsByRoom = new LinkedHashMap<>();
+		Map<Long, Long> lastIdByRoom = new HashMap<>();
+		for (int i = 0; i < saved.size(); i++) {
+			Long messageRoomId = saved.get(i).message().getMessageRoomId();
+			senderIdsByRoom.computeIfAbsent(messageRoomId, key -> new ArrayList<>()).add(saved.get(i).sender().memberId());
+			lastIdByRoom.put(messageRoomId, ids.get(i));
+		}
+		senderIdsByRoom.forEach((messageRoomId, senderIds) ->
+			messageReadService.onMessagesSaved(messageRoomId, senderIds, lastIdByRoom.get(messageRoomId)));
+	}
+
+	private void ack(PendingMessage pending, MessageAckResponseDto ack) {
+		try {
+			messagingTemplate.convertAndSendToUser(pending.sender().getName(), ACK_DESTINATION, ack);
+		} catch (RuntimeException e) {
+			log.debug("Chat ack to member {} failed: {}", pending.sender().memberId(), e.getMessage());
+		}
+	}
+
+	record PendingMessage(ChatPrincipal sender, MessageResponseDto message) {
+	}
+}
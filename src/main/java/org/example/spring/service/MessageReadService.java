@@ -0,0 +1,230 @@
+package org.example.spring.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.example.spring.constant.ErrorCode;
+import org.example.spring.domain.message.MessageMember;
+import org.example.spring.domain.message.MessageRoom;
+import org.example.spring.domain.message.messageDto.MessageReadReceiptDto;
+import org.example.spring.exception.MessageException;
+import org.example.spring.redis.ChatReadStateStore;
+import org.example.spring.redis.ChatReadStateStore.ReadPosition;
+import org.example.spring.redis.RoomBroadcaster;
+import org.example.spring.repository.message.MessageMemberRepository;
+import org.example.spring.repository.message.MessageRoomRepository;
+import org.example.spring.repository.message.MessageRoomUnreadCount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 안 읽은 수와 읽음 표시를 관리하는 서비스입니다.
+ * <p>
+ * 안 읽은 수와 읽은 위치는 {@link ChatReadStateStore}(Redis)에서 관리하므로 뱃지 조회는 메시지 테이블을 읽지 않습니다.
+ * 읽은 위치는 flush-interval 마다 message_member.last_read_message_id 에 반영되며,
+ * 안 읽은 수가 Redis 에 없을 때만 DB 에서 한 번 계산해 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageReadService {
+
+	private static final String RECEIPT_COALESCE_PREFIX = "read:";
+
+	private final ChatReadStateStore chatReadStateStore;
+	private final MessageMemberRepository messageMemberRepository;
+	private final MessageRoomRepository messageRoomRepository;
+	private final RoomBroadcaster roomBroadcaster;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${chat.read.flush-batch-size:500}")
+	private int flushBatchSize;
+
+	@Value("${chat.read.unread-ttl:P7D}")
+	private Duration unreadTtl;
+
+	@Value("${chat.read.room-members-ttl:P1D}")
+	private Duration roomMembersTtl;
+
+	/**
+	 * 저장된 메시지를 채팅방 참여자의 안 읽은 수에 반영합니다. 보낸 사람 자신의 수는 늘리지 않습니다.
+	 * 트랜잭션 안에서 호출하면 커밋 이후에 반영하며, Redis 오류는 기록만 하고 메시지 저장에는 영향을 주지 않습니다.
+	 *
+	 * @param messageRoomId 채팅방 id
+	 * @param senderIds 저장된 메시지마다의 보낸 회원 id
+	 * @param lastMessageId 저장된 메시지 중 마지막 message_id
+	 */
+	public void onMessagesSaved(Long messageRoomId, List<Long> senderIds, Long lastMessageId) {
+		afterCommit(() -> {
+			try {
+				chatReadStateStore.advanceLastMessage(messageRoomId, lastMessageId);
+				Map<Long, Long> sentByMember = senderIds.stream()
+					.collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+				for (Long memberId : roomMembers(messageRoomId)) {
+					long unread = senderIds.size() - sentByMember.getOrDefault(memberId, 0L);
+					if (unread > 0) {
+						chatReadStateStore.incrementUnread(memberId, messageRoomId, unread);
+					}
+				}
+			} catch (RuntimeException e) {
+				log.warn("Unread counters for room {} not updated: {}", messageRoomId, e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * 채팅방을 messageId 까지 읽음 처리하고 다른 참여자에게 읽음 표시를 보냅니다.
+	 *
+	 * @param memberId 읽은 회원 id
+	 * @param messageRoomId 채팅방 id
+	 * @param messageId 여기까지 읽음. null 이면 채팅방의 마지막 메시지까지
+	 */
+	public void markRead(Long memberId, Long messageRoomId, Long messageId) {
+		if (!isMember(messageRoomId, memberId)) {
+			throw new MessageException(ErrorCode.MEMBER_NOT_FOUND_IN_ROOM);
+		}
+		// 아직 없는 메시지까지 읽음 처리되지 않도록 마지막 메시지로 제한
+		Long lastMessageId = lastMessageId(messageRoomId);
+		Long readUpTo = messageId == null || (lastMessageId != null && messageId > lastMessageId)
+			? lastMessageId : messageId;
+		if (readUpTo == null) {
+			return;
+		}
+		if (chatReadStateStore.markRead(messageRoomId, memberId, readUpTo)) {
+			roomBroadcaster.broadcast(messageRoomId, MessageReadReceiptDto.of(messageRoomId, memberId, readUpTo),
+				RECEIPT_COALESCE_PREFIX + memberId);
+		}
+	}
+
+	public boolean isMember(Long messageRoomId, Long memberId) {
+		return roomMembers(messageRoomId).contains(memberId);
+	}
+
+	/**
+	 * 회원의 채팅방별 안 읽은 수를 조회합니다.
+	 * Redis 에 없으면 DB 로 계산하고, 채우기를 맡은 호출만 그 값을 Redis 에 반영합니다.
+	 * 계산하는 동안 저장된 메시지의 증가분은 Redis 에 쌓였다가 DB 값과 합쳐지므로 잃어버리지 않습니다.
+	 *
+	 * @param memberId 회원 id
+	 * @return 채팅방 id 별 안 읽은 수
+	 */
+	public Map<Long, Long> getUnreadCounts(Long memberId) {
+		Map<Long, Long> cached = chatReadStateStore.unreadCounts(memberId, unreadTtl);
+		if (cached != null) {
+			return cached;
+		}
+		boolean seeding = chatReadStateStore.beginSeed(memberId);
+		Map<Long, Long> unreadCounts = messageMemberRepository.findUnreadCounts(memberId).stream()
+			.collect(Collectors.toMap(MessageRoomUnreadCount::getMessageRoomId, MessageRoomUnreadCount::getUnreadCount));
+		if (seeding) {
+			chatReadStateStore.seedUnreadCounts(memberId, unreadCounts, unreadTtl);
+		}
+		return unreadCounts;
+	}
+
+	/**
+	 * 채팅방 참여자별로 마지막으로 읽은 message_id 를 조회합니다. 아직 DB 에 반영되지 않은 위치도 포함합니다.
+	 *
+	 * @param memberId 조회하는 회원 id (참여자만 조회 가능)
+	 * @param messageRoomId 채팅방 id
+	 * @return 회원 id 별 마지막으로 읽은 message_id
+	 */
+	public Map<Long, Long> getReadPositions(Long memberId, Long messageRoomId) {
+		if (!isMember(messageRoomId, memberId)) {
+			throw new MessageException(ErrorCode.MEMBER_NOT_FOUND_IN_ROOM);
+		}
+		Map<Long, Long> positions = new HashMap<>();
+		for (MessageMember messageMember : messageMemberRepository.findByMessageRoomId(messageRoomId)) {
+			if (messageMember.getLastReadMessageId() != null) {
+				positions.put(messageMember.getMember().getId(), messageMember.getLastReadMessageId());
+			}
+		}
+		chatReadStateStore.readPositions(messageRoomId)
+			.forEach((reader, messageId) -> positions.merge(reader, messageId, Math::max));
+		return positions;
+	}
+
+	/* 트랜잭션 안에서 호출하면 커밋 이후에 참여 회원 캐시와 읽음 상태를 정리 */
+	public void onMemberLeft(Long messageRoomId, Long memberId) {
+		afterCommit(() -> chatReadStateStore.removeMember(messageRoomId, memberId));
+	}
+
+	/**
+	 * Redis 의 읽은 위치를 message_member 에 반영합니다. 항목을 SPOP 으로 꺼내므로 여러 노드가 동시에 실행해도 됩니다.
+	 */
+	@Scheduled(fixedDelayString = "${chat.read.flush-interval:PT5S}")
+	public void flushReadPositions() {
+		List<ReadPosition> positions;
+		do {
+			positions = chatReadStateStore.popDirty(flushBatchSize);
+			if (positions.isEmpty()) {
+				return;
+			}
+			List<ReadPosition> batch = positions;
+			try {
+				transactionTemplate.executeWithoutResult(status -> batch.forEach(position ->
+					messageMemberRepository.markRead(position.messageRoomId(), position.memberId(), position.messageId())));
+			} catch (RuntimeException e) {
+				log.warn("Flushing {} read positions failed, will retry: {}", batch.size(), e.getMessage());
+				chatReadStateStore.markDirty(batch);
+				return;
+			}
+		} while (positions.size() == flushBatchSize);
+	}
+
+	@PreDestroy
+	void flushOnShutdown() {
+		flushReadPositions();
+	}
+
+	/* 채팅방 참여 회원 id. Redis 캐시에 없으면 message_member 에서 읽어 채움 */
+	public Set<Long> roomMembers(Long messageRoomId) {
+		Set<Long> cached = chatReadStateStore.roomMembers(messageRoomId);
+		if (cached != null) {
+			return cached;
+		}
+		Set<Long> memberIds = Set.copyOf(messageMemberRepository.findMemberIdsByMessageRoomId(messageRoomId));
+		chatReadStateStore.cacheRoomMembers(messageRoomId, memberIds, roomMembersTtl);
+		return memberIds;
+	}
+
+	private Long lastMessageId(Long messageRoomId) {
+		Long cached = chatReadStateStore.lastMessageId(messageRoomId);
+		if (cached != null) {
+			return cached;
+		}
+		Long lastMessageId = messageRoomRepository.findById(messageRoomId)
+			.map(MessageRoom::getLastMessageId)
+			.orElse(null);
+		if (lastMessageId != null) {
+			chatReadStateStore.advanceLastMessage(messageRoomId, lastMessageId);
+		}
+		return lastMessageId;
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+}
@@ -1,35 +1,37 @@
 package org.example.spring.service;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.example.spring.common.FanOutExecutor;
 import org.example.spring.constant.ErrorCode;
 import org.example.spring.domain.member.Member;
 import org.example.spring.domain.member.MemberRole;
+import org.example.spring.domain.member.dto.MemberMessageResponseDto;
 import org.example.spring.domain.member.dto.MemberResponseDto;
 import org.example.spring.domain.message.Message;
 import org.example.spring.domain.message.MessageMember;
 import org.example.spring.domain.message.MessageRoom;
+import org.example.spring.domain.message.messageDto.MessageHistoryResponseDto;
 import org.example.spring.domain.message.messageDto.MessageRequestDto;
 import org.example.spring.domain.message.messageDto.MessageResponseDto;
 import org.example.spring.domain.message.messageDto.MessageRoomResponseDto;
+import org.example.spring.domain.message.messageDto.MessageRoomSummaryResponseDto;
 import org.example.spring.exception.MessageException;
-import org.example.spring.redis.RedisPublisher;
-import org.example.spring.redis.RedisSubscriber;
+import org.example.spring.outbox.OutboxEventPublisher;
+import org.example.spring.redis.MessageCreatedEventHandler;
 import org.example.spring.repository.MemberRepository;
 import org.example.spring.repository.message.MessageMemberRepository;
 import org.example.spring.repository.message.MessageRepository;
 import org.example.spring.repository.message.MessageRoomRepository;
+import org.example.spring.repository.message.MessageRoomSummary;
 import org.example.spring.security.jwt.JwtTokenValidator;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -43,6 +45,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MessageService {
 
+	private static final int DEFAULT_HISTORY_SIZE = 30;
+
+	private static final int MAX_HISTORY_SIZE = 100;
+
 	private final MessageRepository messageRepository;
 
 	private final MessageRoomRepository messageRoomRepository;
@@ -51,18 +57,16 @@ public class MessageService {
 
 	private final MemberRepository memberRepository;
 
-	private final RedisPublisher redisPublisher;
-
-	private final Map<String, ChannelTopic> topics = new HashMap<>();
-
-	private final RedisMessageListenerContainer redisMessageListener;
-
-	private final RedisSubscriber redisSubscriber;
+	private final OutboxEventPublisher outboxEventPublisher;
 
 	private final JwtTokenValidator jwtTokenValidator;
 
 	private final HttpServletRequest request;
 
+	private final FanOutExecutor fanOutExecutor;
+
+	private final MessageReadService messageReadService;
+
 	public List<MemberResponseDto> getMembersByMessageRoom(Long messageRoomId) {
 		List<Member> members = messageMemberRepository.findMembersByMessageRoomId(messageRoomId);
 
@@ -75,23 +79,34 @@ public class MessageService {
 			.collect(Collectors.toList());
 	}
 
-	/* 새로운 메시지 생성, Redis 채널 발행 */
+	/* 새로운 메시지 생성 (REST). 보낸 사람은 요청 토큰의 회원이며 방 참여자여야 함. STOMP 로 보낸 메시지는 MessageIngestService 가 모아서 저장 */
 	public MessageResponseDto createMessage(MessageRequestDto mrd) {
-		MessageRoom messageRoom = verifiedMessageRoom(mrd.getMessageRoomId());
-		log.info("메세지 ssssss");
-		Member member = validateUserRole(mrd.getMemberId());
-
-		Message message = saveMessage(mrd, messageRoom, member);
+		Member member = validateUserRole(extractMemberIdFromJwt());
+		if (!messageReadService.isMember(mrd.getMessageRoomId(), member.getId())) {
+			throw new MessageException(ErrorCode.MEMBER_NOT_FOUND_IN_ROOM);
+		}
 
-		Message savedMessage = messageRepository.save(message);
+		return saveAndPublish(verifiedMessageRoom(mrd.getMessageRoomId()), member,
+			MemberMessageResponseDto.fromMember(member), mrd.getMessageContent());
+	}
 
-		messageRoom.updateLastMessageAt();
+	/* 메시지 저장 후 커밋 이후 Redis 채널 발행 */
+	private MessageResponseDto saveAndPublish(MessageRoom messageRoom, Member member, MemberMessageResponseDto sender,
+		String messageContent) {
+		Message savedMessage = messageRepository.save(Message.builder()
+			.messageContent(messageContent)
+			.member(member)
+			.messageRoom(messageRoom)
+			.build());
 
-		messageRoomRepository.save(messageRoom);
+		messageRoomRepository.updateLastMessage(messageRoom.getId(), savedMessage.getId(), savedMessage.getCreatedAt());
+		messageMemberRepository.updateLastMessageAt(messageRoom.getId(), savedMessage.getCreatedAt());
 
-		MessageResponseDto dto = MessageResponseDto.of(savedMessage);
+		MessageResponseDto dto = MessageResponseDto.of(savedMessage, sender);
 
-		redisPublisher.publish(ChannelTopic.of("messageRoom" + messageRoom.getId()), dto);
+		// Redis 발행은 커밋 이후 outbox 를 통해 수행 (롤백된 메시지가 발행되지 않도록)
+		outboxEventPublisher.publish("MessageRoom", messageRoom.getId(), MessageCreatedEventHandler.EVENT_TYPE, dto);
+		messageReadService.onMessagesSaved(messageRoom.getId(), List.of(member.getId()), savedMessage.getId());
 
 		return dto;
 	}
@@ -110,7 +125,6 @@ public class MessageService {
 			MessageRoom messageRoom = saveMessageRoom();
 			addMemberToMessageRoom(messageRoom, member);
 			addMemberToMessageRoom(messageRoom, targetMember);
-			sendTopic(messageRoom.getId());
 
 			return MessageRoomResponseDto.of(messageRoom);
 
@@ -120,29 +134,14 @@ public class MessageService {
 		}
 	}
 
-	/* 특정 멤버 방 목록 조회 */
-	public Page<MessageRoomResponseDto> getMessageRooms(Pageable pageable) {
-
+	/* 특정 멤버 방 목록 조회. 마지막 메시지 미리보기를 포함한 요약은 쿼리 한 번으로, 안 읽은 수는 Redis 에서 조회 */
+	public Page<MessageRoomSummaryResponseDto> getMessageRooms(Pageable pageable) {
 		Long memberId = extractMemberIdFromJwt();
-		Page<MessageMember> userMessageRooms = messageMemberRepository.findQueryMessageRoom(memberId, pageable);
-
-		List<MessageMember> messageMembers = userMessageRooms.getContent();
-
-		List<Long> messageRoomIds = messageMembers.stream()
-			.map(messageMember -> messageMember.getMessageRoom().getId())
-			.collect(Collectors.toList());
-
-		List<MessageRoom> messageRooms = messageRoomRepository.findAllById(messageRoomIds);
-
-		List<MessageRoomResponseDto> messageRoomResponseDtoList = messageRooms.stream()
-			.map(MessageRoomResponseDto::of)
-			.collect(Collectors.toList());
 
-		return new PageImpl<>(
-			messageRoomResponseDtoList,
-			pageable,
-			userMessageRooms.getTotalElements()
-		);
+		Page<MessageRoomSummary> summaries = messageMemberRepository.findRoomSummaries(memberId, pageable);
+		Map<Long, Long> unreadCounts = messageReadService.getUnreadCounts(memberId);
+		return summaries.map(summary -> MessageRoomSummaryResponseDto.of(summary,
+			unreadCounts.getOrDefault(summary.getMessageRoomId(), 0L)));
 	}
 
 	/* 메시지 방 삭제, 만약 참여자 모두 삭제한 경우는 메시지랑 방 전부 삭제 */
@@ -156,6 +155,7 @@ public class MessageService {
 
 		if (!messageMembers.isEmpty()) {
 			messageMemberRepository.deleteAll(messageMembers);
+			messageReadService.onMemberLeft(messageRoomId, memberId);
 		} else {
 			throw new MessageException(ErrorCode.MEMBER_NOT_FOUND_IN_ROOM);
 		}
@@ -171,33 +171,64 @@ public class MessageService {
 		}
 	}
 
-	/* 특정 메시지 방 정보 조회 */
+	/*
+	 * 특정 메시지 방 정보 조회. 회원 확인, 방 조회, 최근 메시지 한 페이지 조회를 각자의 읽기 전용 트랜잭션에서 동시에 실행.
+	 * 방 참여자만 조회 가능하며, 이전 메시지는 getMessageHistory 로 이어서 조회
+	 */
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
 	public MessageRoomResponseDto getMessageRoom(Long messageRoomId) {
-		Long memberId = extractMemberIdFromJwt();
-
-		MessageRoom findMessageRoom = verifiedMessageRoom(messageRoomId);
+		String token = extractToken();
+
+		Supplier<Long> memberId;
+		Supplier<MessageRoom> messageRoom;
+		Supplier<List<MessageResponseDto>> messages;
+		try (FanOutExecutor.Scope scope = fanOutExecutor.open()) {
+			// 회원이 없으면 fork 에서 던진 MessageException 이 join 에서 그대로 전파됨
+			memberId = scope.fork(() -> memberIdFromToken(token));
+			messageRoom = scope.fork(() -> verifiedMessageRoom(messageRoomId));
+			messages = scope.fork(() -> findHistory(messageRoomId, null, DEFAULT_HISTORY_SIZE));
+			scope.join();
+		}
 
-		List<Message> messages = new ArrayList<>(findMessageRoom.getMessages());
+		if (!messageReadService.isMember(messageRoomId, memberId.get())) {
+			throw new MessageException(ErrorCode.MEMBER_NOT_FOUND_IN_ROOM);
+		}
 
-		// boolean memberExistsInMessages = messages.stream()
-		//         .anyMatch(message -> message.getMember().getId().equals(memberId));
-		//
-		// if (!memberExistsInMessages) {
-		//     throw new MessageException(ErrorCode.MEMBER_NOT_FOUND_IN_ROOM);
-		// }
+		MessageRoom findMessageRoom = messageRoom.get();
+		List<MessageResponseDto> recentMessages = messages.get();
+		if (!recentMessages.isEmpty()) {
+			messageReadService.markRead(memberId.get(), messageRoomId, recentMessages.get(0).getMessageId());
+		}
 
-		MessageRoomResponseDto messageRoomResponseDto = MessageRoomResponseDto.builder()
+		return MessageRoomResponseDto.builder()
 			.messageRoomId(findMessageRoom.getId())
 			.createdAt(findMessageRoom.getCreatedAt())
 			.lastMessageAt(findMessageRoom.getLastMessageAt())
-			.messages(messages.stream()
-				.map(MessageResponseDto::of)
-				.collect(Collectors.toList()))
+			.messages(recentMessages.subList(0, Math.min(recentMessages.size(), DEFAULT_HISTORY_SIZE)))
 			.build();
+	}
 
-		sendTopic(findMessageRoom.getId());
+	/* 특정 메시지 방의 메시지를 before(message id) 이전부터 최신순으로 size 개 조회. 방 참여자만 조회 가능 */
+	public MessageHistoryResponseDto getMessageHistory(Long messageRoomId, Long before, int size) {
+		Long memberId = extractMemberIdFromJwt();
+		if (!messageMemberRepository.existsByMessageRoomIdAndMemberId(messageRoomId, memberId)) {
+			throw new MessageException(ErrorCode.MEMBER_NOT_FOUND_IN_ROOM);
+		}
 
-		return messageRoomResponseDto;
+		int pageSize = Math.clamp(size, 1, MAX_HISTORY_SIZE);
+		List<MessageResponseDto> messages = findHistory(messageRoomId, before, pageSize);
+		boolean hasNext = messages.size() > pageSize;
+
+		return MessageHistoryResponseDto.of(messageRoomId, hasNext ? messages.subList(0, pageSize) : messages, hasNext);
+	}
+
+	/* 다음 페이지 존재 여부를 알기 위해 size + 1 개를 조회 */
+	private List<MessageResponseDto> findHistory(Long messageRoomId, Long before, int size) {
+		return messageRepository.findHistoryBefore(messageRoomId, before != null ? before : Long.MAX_VALUE,
+				PageRequest.of(0, size + 1))
+			.stream()
+			.map(MessageResponseDto::of)
+			.collect(Collectors.toList());
 	}
 
 	/* 특정 메시지 방 -> 메시지 전송 */
@@ -215,22 +246,46 @@ public class MessageService {
 			.messageRoom(messageRoom)
 			.build();
 
-		messageRepository.save(sendMessage);
+		Message savedMessage = messageRepository.save(sendMessage);
+
+		messageRoomRepository.updateLastMessage(messageRoom.getId(), savedMessage.getId(), savedMessage.getCreatedAt());
+		messageMemberRepository.updateLastMessageAt(messageRoom.getId(), savedMessage.getCreatedAt());
+		messageReadService.onMessagesSaved(messageRoom.getId(), List.of(member.getId()), savedMessage.getId());
+	}
+
+	/* 특정 메시지 방을 messageId 까지 읽음 처리. messageId 가 없으면 마지막 메시지까지 */
+	public void markRead(Long messageRoomId, Long messageId) {
+		messageReadService.markRead(extractMemberIdFromJwt(), messageRoomId, messageId);
+	}
+
+	/* 로그인한 회원의 메시지 방별 안 읽은 수. Redis 에서 조회하며 메시지 테이블은 읽지 않음 */
+	public Map<Long, Long> getUnreadCounts() {
+		return messageReadService.getUnreadCounts(extractMemberIdFromJwt());
+	}
 
-		messageRoomRepository.save(messageRoom);
+	/* 특정 메시지 방 참여자별로 마지막으로 읽은 메시지 id (읽음 표시) */
+	public Map<Long, Long> getReadPositions(Long messageRoomId) {
+		return messageReadService.getReadPositions(extractMemberIdFromJwt(), messageRoomId);
 	}
 
 	//////////////////////////////////////////////////////////////////////////////////
 
 	/* 검증 및 유틸 로직 */
 	private Long extractMemberIdFromJwt() {
+		return memberIdFromToken(extractToken());
+	}
+
+	private String extractToken() {
 		String authHeader = request.getHeader("Authorization");
 		if (authHeader == null || !authHeader.startsWith("Bearer ")) {
 			throw new MessageException(ErrorCode.UNAUTHORIZED_MESSAGE_ACCESS);
 		}
 
-		String token = authHeader.substring("Bearer ".length());
+		return authHeader.substring("Bearer ".length());
+	}
 
+	/* request 프록시를 사용하지 않으므로 fan-out 작업 안에서도 호출 가능 */
+	private Long memberIdFromToken(String token) {
 		String email = jwtTokenValidator.extractUsername(token);
 
 		Optional<Member> optionalMember = memberRepository.findByEmail(email);
@@ -274,16 +329,6 @@ public class MessageService {
 			.orElseThrow(() -> new MessageException(ErrorCode.MESSAGE_NOT_FOUND));
 	}
 
-	private static Message saveMessage(MessageRequestDto mrd, MessageRoom messageRoom, Member member) {
-		Message message = Message.builder()
-			.messageContent(mrd.getMessageContent())
-			.member(member)
-			.messageRoom(messageRoom)
-			.build();
-
-		return message;
-	}
-
 	public MessageRoom saveMessageRoom() {
 		MessageRoom messageRoom = MessageRoom.builder()
 			.build();
@@ -297,17 +342,4 @@ public class MessageService {
 
 		return savedMessageRoom;
 	}
-
-	private void sendTopic(Long messageRoomId) {
-		String roomId = "messageRoom" + messageRoomId;
-		log.info("topics={}", topics);
-		if (!topics.containsKey(roomId)) {
-			log.info("메세지 토픽 만들어짐");
-			ChannelTopic topic = new ChannelTopic(roomId);
-			redisMessageListener.addMessageListener(redisSubscriber, topic);
-			topics.put(roomId, topic);
-			log.info("메세지 토픽 전송");
-			log.info("topics={}", topics);
-		}
-	}
 }
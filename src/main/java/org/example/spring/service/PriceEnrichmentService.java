@@ -0,0 +1,273 @@
+package org.example.spring.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.example.spring.common.CircuitBreaker;
+import org.example.spring.domain.enrichment.PendingEnrichment;
+import org.example.spring.repository.ExchangeRepository;
+import org.example.spring.repository.PendingEnrichmentRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 정가(regularPrice)를 Alan 으로 채우는 비동기 파이프라인입니다.
+ * <p>
+ * 작업은 게시글 저장과 같은 트랜잭션에서 pending_enrichment 테이블에 기록되고, 커밋 이후 제한된 크기의 큐에 들어갑니다.
+ * 가상 스레드 워커가 큐에서 작업을 꺼내 처리하며, 큐가 가득 찼거나 재시작으로 유실된 작업은 주기적인 poller 가 테이블에서 다시 가져옵니다.
+ * 일시적인 실패는 지수 백오프 + jitter 로 재시도하고, Alan 이 연속으로 실패하면 circuit breaker 가 열려 호출을 잠시 멈춥니다.
+ * 같은 상품명은 {@link RegularPriceCache} 에서 바로 채워 Alan 을 다시 호출하지 않습니다.
+ */
+@Slf4j
+@Service
+public class PriceEnrichmentService {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final PendingEnrichmentRepository pendingEnrichmentRepository;
+	private final ExchangeRepository exchangeRepository;
+	private final AlanAPIService alanAPIService;
+	private final RegularPriceCache regularPriceCache;
+	private final TransactionTemplate transactionTemplate;
+	private final CircuitBreaker circuitBreaker;
+
+	@Value("${alan.enrichment.workers:4}")
+	private int workerCount;
+
+	@Value("${alan.enrichment.queue-capacity:1000}")
+	private int queueCapacity;
+
+	@Value("${alan.enrichment.max-attempts:6}")
+	private int maxAttempts;
+
+	@Value("${alan.enrichment.backoff-base:PT30S}")
+	private Duration backoffBase;
+
+	@Value("${alan.enrichment.backoff-max:PT30M}")
+	private Duration backoffMax;
+
+	// 처리 중인 작업을 선점하는 시간. 서버가 처리 도중 종료되면 이 시간 이후 다른 서버가 다시 처리
+	@Value("${alan.enrichment.lease:PT2M}")
+	private Duration lease;
+
+	private BlockingQueue<Long> queue;
+	private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+	private ExecutorService workers;
+	private volatile boolean running;
+
+	public PriceEnrichmentService(PendingEnrichmentRepository pendingEnrichmentRepository,
+		ExchangeRepository exchangeRepository, AlanAPIService alanAPIService, RegularPriceCache regularPriceCache,
+		TransactionTemplate transactionTemplate, @Qualifier("alanCircuitBreaker") CircuitBreaker circuitBreaker) {
+		this.pendingEnrichmentRepository = pendingEnrichmentRepository;
+		this.exchangeRepository = exchangeRepository;
+		this.alanAPIService = alanAPIService;
+		this.regularPriceCache = regularPriceCache;
+		this.transactionTemplate = transactionTemplate;
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	@PostConstruct
+	void init() {
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+	}
+
+	/**
+	 * 게시글의 정가 조회를 예약합니다. 게시글을 저장하는 트랜잭션 안에서 호출해야 하며, 커밋 이후 처리가 시작됩니다.
+	 * 이미 예약된 작업이 있으면 새 제목으로 다시 예약합니다.
+	 *
+	 * @param exchangeId 게시글 id
+	 * @param title 정가를 조회할 게시글 제목
+	 */
+	public void schedule(Long exchangeId, String title) {
+		Timestamp now = now();
+		PendingEnrichment task = pendingEnrichmentRepository.findByExchangeId(exchangeId)
+			.map(existing -> {
+				existing.reschedule(title, now);
+				return existing;
+			})
+			.orElseGet(() -> pendingEnrichmentRepository.save(PendingEnrichment.builder()
+				.exchangeId(exchangeId)
+				.title(title)
+				.nextAttemptAt(now)
+				.createdAt(now)
+				.build()));
+
+		Long taskId = task.getId();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					offer(taskId);
+				}
+			});
+		} else {
+			offer(taskId);
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		running = true;
+		workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("price-enrichment-", 0).factory());
+		for (int i = 0; i < workerCount; i++) {
+			workers.execute(this::workLoop);
+		}
+		// 재시작 이전에 남아 있던 작업 재개
+		pollDueTasks();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		if (workers != null) {
+			workers.shutdownNow();
+		}
+	}
+
+	/**
+	 * 실행 시각이 된 작업을 테이블에서 가져와 큐에 넣습니다.
+	 */
+	@Scheduled(fixedDelayString = "${alan.enrichment.poll-interval:PT30S}")
+	public void pollDueTasks() {
+		if (!running || queue.remainingCapacity() == 0) {
+			return;
+		}
+		pendingEnrichmentRepository.findDueIds(now(), PageRequest.of(0, queue.remainingCapacity()))
+			.forEach(this::offer);
+	}
+
+	private void offer(Long taskId) {
+		// 큐가 가득 차면 버리고, 테이블에 남아 있으므로 poller 가 다시 가져감
+		if (queued.add(taskId) && !queue.offer(taskId)) {
+			queued.remove(taskId);
+		}
+	}
+
+	private void workLoop() {
+		while (running) {
+			try {
+				Long taskId = queue.take();
+				queued.remove(taskId);
+				process(taskId);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				log.error("Price enrichment worker failed", e);
+			}
+		}
+	}
+
+	/**
+	 * 작업 하나를 처리합니다. 다른 워커나 서버가 이미 선점한 작업은 건너뜁니다.
+	 *
+	 * @param taskId 작업 id
+	 */
+	void process(Long taskId) {
+		Timestamp now = now();
+		if (pendingEnrichmentRepository.claim(taskId, now, new Timestamp(now.getTime() + lease.toMillis())) == 0) {
+			return;
+		}
+		PendingEnrichment task = pendingEnrichmentRepository.findById(taskId).orElse(null);
+		if (task == null) {
+			return;
+		}
+
+		// 캐시에 있으면 circuit breaker 상태와 관계없이 바로 반영
+		Integer cachedPrice = regularPriceCache.getIfPresent(task.getTitle());
+		if (cachedPrice != null) {
+			complete(task, cachedPrice);
+			return;
+		}
+
+		if (!circuitBreaker.tryAcquirePermission()) {
+			Duration wait = circuitBreaker.remainingOpenDuration().plus(jitter(backoffBase));
+			pendingEnrichmentRepository.postpone(taskId, task.getTitle(), new Timestamp(now.getTime() + wait.toMillis()));
+			return;
+		}
+
+		try {
+			int regularPrice = regularPriceCache.get(task.getTitle(), alanAPIService::fetchRegularPrice);
+			circuitBreaker.onSuccess();
+			complete(task, regularPrice);
+		} catch (RuntimeException e) {
+			if (isRetryable(e)) {
+				circuitBreaker.onFailure();
+				retryOrGiveUp(task, e);
+			} else {
+				// Alan 은 응답했지만 재시도해도 결과가 같을 오류 (숫자가 아닌 답변, 잘못된 요청)
+				circuitBreaker.onSuccess();
+				log.warn("Price enrichment dropped for exchange {} ({}): {}", task.getExchangeId(), task.getTitle(),
+					e.getMessage());
+				pendingEnrichmentRepository.deleteByIdAndTitle(taskId, task.getTitle());
+			}
+		}
+	}
+
+	/* 조회하는 동안 제목이 바뀌었으면 작업이 새 제목으로 다시 예약되어 삭제되지 않으므로, 이전 제목의 정가는 반영하지 않음 */
+	private void complete(PendingEnrichment task, int regularPrice) {
+		transactionTemplate.executeWithoutResult(status -> {
+			if (pendingEnrichmentRepository.deleteByIdAndTitle(task.getId(), task.getTitle()) == 1) {
+				exchangeRepository.updateRegularPrice(task.getExchangeId(), regularPrice);
+			}
+		});
+	}
+
+	private void retryOrGiveUp(PendingEnrichment task, RuntimeException e) {
+		int attempts = task.getAttempts() + 1;
+		if (attempts >= maxAttempts) {
+			log.error("Price enrichment gave up for exchange {} after {} attempts: {}", task.getExchangeId(), attempts,
+				e.getMessage());
+			pendingEnrichmentRepository.deleteByIdAndTitle(task.getId(), task.getTitle());
+			return;
+		}
+
+		Duration backoff = backoffBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+		if (backoff.compareTo(backoffMax) > 0) {
+			backoff = backoffMax;
+		}
+		Timestamp nextAttemptAt = new Timestamp(System.currentTimeMillis() + jitter(backoff).toMillis());
+		pendingEnrichmentRepository.reschedule(task.getId(), task.getTitle(), nextAttemptAt, truncate(e.toString()));
+	}
+
+	private boolean isRetryable(RuntimeException e) {
+		if (e instanceof NumberFormatException) {
+			return false;
+		}
+		return !(e instanceof HttpClientErrorException clientError) || clientError.getStatusCode().value() == 429;
+	}
+
+	/* 여러 작업이 같은 시각에 몰리지 않도록 대기 시간을 [d/2, d) 범위에서 무작위로 선택 */
+	private Duration jitter(Duration duration) {
+		long millis = Math.max(duration.toMillis(), 2);
+		return Duration.ofMillis(millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2));
+	}
+
+	private String truncate(String message) {
+		return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+	}
+
+	private Timestamp now() {
+		return new Timestamp(System.currentTimeMillis());
+	}
+}
@@ -0,0 +1,171 @@
+package org.example.spring.service;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정규화된 상품명을 키로 하는 정가 캐시입니다.
+ * <p>
+ * 같은 글러브/배트 모델을 여러 사람이 올리는 경우가 많아, Alan 조회 결과를 Caffeine(L1)과 Redis(L2)에 오래 보관합니다.
+ * 같은 키에 대한 동시 조회는 하나의 Alan 호출로 합쳐지며, 나머지 호출은 그 결과를 기다립니다.
+ * Redis 장애는 캐시 miss 로 취급하여 정가 조회 자체는 계속 동작합니다.
+ */
+@Slf4j
+@Service
+public class RegularPriceCache {
+
+	private static final String KEY_PREFIX = "price:regular:";
+
+	// 상품 식별에 도움이 되지 않는 판매 문구
+	private static final Set<String> STOP_WORDS = Set.of("팝니다", "판매", "판매합니다", "급처", "급매", "새상품", "새제품", "미개봉",
+		"미사용", "정품", "중고", "택포", "무료배송", "sell", "new");
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Value("${alan.price-cache.local-size:10000}")
+	private long localSize;
+
+	@Value("${alan.price-cache.local-ttl:PT6H}")
+	private Duration localTtl;
+
+	@Value("${alan.price-cache.ttl:P30D}")
+	private Duration ttl;
+
+	private AsyncCache<String, Integer> localCache;
+
+	public RegularPriceCache(StringRedisTemplate redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	@PostConstruct
+	void init() {
+		localCache = Caffeine.newBuilder()
+			.maximumSize(localSize)
+			.expireAfterWrite(localTtl)
+			.buildAsync();
+	}
+
+	/**
+	 * 캐시에 저장된 정가를 조회합니다. Alan 은 호출하지 않습니다.
+	 *
+	 * @param title 게시글 제목
+	 * @return 캐시된 정가, 없으면 null
+	 */
+	public Integer getIfPresent(String title) {
+		String key = normalize(title);
+		if (key.isEmpty()) {
+			return null;
+		}
+		CompletableFuture<Integer> local = localCache.getIfPresent(key);
+		if (local != null && local.isDone() && !local.isCompletedExceptionally()) {
+			return local.join();
+		}
+
+		Integer remote = readRemote(key);
+		if (remote != null) {
+			localCache.put(key, CompletableFuture.completedFuture(remote));
+		}
+		return remote;
+	}
+
+	/**
+	 * 정가를 조회하고, 캐시에 없으면 loader 로 가져와 저장합니다.
+	 * 같은 키를 동시에 조회하면 loader 는 한 번만 호출되고 나머지는 그 결과를 공유합니다.
+	 *
+	 * @param title 게시글 제목
+	 * @param loader 캐시 miss 일 때 원래 제목으로 정가를 가져오는 함수
+	 * @return 정가
+	 */
+	public int get(String title, Function<String, Integer> loader) {
+		String key = normalize(title);
+		if (key.isEmpty()) {
+			return loader.apply(title);
+		}
+
+		CompletableFuture<Integer> mine = new CompletableFuture<>();
+		CompletableFuture<Integer> future = localCache.get(key, (k, executor) -> mine);
+		if (future == mine) {
+			// 이 스레드가 로딩 담당. 실패한 future 는 Caffeine 이 캐시에서 제거함
+			try {
+				Integer remote = readRemote(key);
+				int price = remote != null ? remote : loader.apply(title);
+				if (remote == null) {
+					writeRemote(key, price);
+				}
+				mine.complete(price);
+			} catch (RuntimeException e) {
+				mine.completeExceptionally(e);
+			}
+		}
+
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 상품명을 캐시 키로 정규화합니다.
+	 * <p>
+	 * 전각/반각 통일(NFKC), 소문자 변환, 모델명 안의 구분자 제거("A2000-1786" → "a20001786"),
+	 * 그 외 문장부호 제거, 판매 문구 제거 후 단어를 정렬하여 어순이 달라도 같은 키가 되도록 합니다.
+	 *
+	 * @param title 게시글 제목
+	 * @return 정규화된 키. 의미 있는 단어가 없으면 빈 문자열
+	 */
+	static String normalize(String title) {
+		if (title == null) {
+			return "";
+		}
+		String normalized = Normalizer.normalize(title, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		// 영문/숫자 사이의 구분자는 모델명의 일부로 보고 붙임
+		normalized = normalized.replaceAll("(?<=[a-z0-9])[-_./](?=[a-z0-9])", "");
+		normalized = normalized.replaceAll("[^\\p{L}\\p{N}]+", " ");
+
+		return Arrays.stream(normalized.trim().split(" "))
+			.filter(token -> !token.isEmpty() && !STOP_WORDS.contains(token))
+			.distinct()
+			.sorted()
+			.collect(Collectors.joining(" "));
+	}
+
+	private Integer readRemote(String key) {
+		try {
+			String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+			return value != null ? Integer.valueOf(value) : null;
+		} catch (DataAccessException | NumberFormatException e) {
+			log.warn("Failed to read regular price cache for '{}': {}", key, e.getMessage());
+			return null;
+		}
+	}
+
+	private void writeRemote(String key, int price) {
+		try {
+			redisTemplate.opsForValue().set(KEY_PREFIX + key, Integer.toString(price), ttl);
+		} catch (DataAccessException e) {
+			log.warn("Failed to write regular price cache for '{}': {}", key, e.getMessage());
+		}
+	}
+}
@@ -11,6 +11,7 @@ import org.example.spring.domain.exchange.Exchange;
 import org.example.spring.domain.member.Member;
 import org.example.spring.domain.review.Review;
 import org.example.spring.domain.reviewOverview.ReviewOverview;
+import org.example.spring.lock.SchedulerLock;
 import org.example.spring.repository.ExchangeRepository;
 import org.example.spring.repository.MemberRepository;
 import org.example.spring.repository.ReviewOverviewRepository;
@@ -34,9 +35,11 @@ public class ReviewOverviewService {
     /**
      * 매일 자정(00:00:00)에 실행되어 지난 24시간 동안 완료된 리뷰 정보를 기반으로
      * 회원별 리뷰 개요(ReviewOverview)를 업데이트합니다.
+     * 잠금 임대(30분)가 끝난 뒤 다른 노드와 함께 쓰지 않도록 트랜잭션을 10분 안에 끝내지 못하면 롤백합니다.
      */
     @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
+    @SchedulerLock(name = "updateReviewOverviews", lockAtMostFor = "30m", lockAtLeastFor = "1m")
+    @Transactional(timeout = 600)
     public void updateReviewOverviews() {
         LocalDate today = LocalDate.now();
         LocalDate yesterday = today.minusDays(1);
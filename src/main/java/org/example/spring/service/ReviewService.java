@@ -25,7 +25,9 @@ import org.example.spring.security.jwt.JwtTokenValidator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -43,8 +45,11 @@ public class ReviewService {
 	private final ExchangeRepository exchangeRepository;
 	private final ReviewRepository reviewRepository;
 	private final ReviewImageRepository reviewImageRepository;
-	private final S3Service s3Service;
+	private final BlobStorageService blobStorageService;
+	private final ImageUploadService imageUploadService;
+	private final ImageVariantService imageVariantService;
 	private final JwtTokenValidator jwtTokenValidator;
+	private final TransactionTemplate transactionTemplate;
 
 	/**
 	 * HTTP 요청으로부터 인증된 사용자 정보를 추출합니다.
@@ -60,6 +65,8 @@ public class ReviewService {
 
 	/**
 	 * 새로운 리뷰를 등록합니다.
+	 * <p>
+	 * 이미지는 트랜잭션을 열기 전에 병렬로 업로드하고, 리뷰와 이미지 row는 하나의 짧은 트랜잭션에서 저장합니다.
 	 *
 	 * @param request                   HTTP 요청 객체 (인증된 사용자 정보 추출용)
 	 * @param createReviewRequest       새로운 리뷰 등록 요청 데이터
@@ -69,7 +76,7 @@ public class ReviewService {
 	 * @throws RuntimeException         교환 정보를 찾을 수 없는 경우
 	 * @throws IllegalArgumentException 이미지 개수가 최대 허용 개수(5개)를 초과한 경우
 	 */
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public Review addReview(HttpServletRequest request, CreateReviewRequest createReviewRequest,
 		List<MultipartFile> images) throws IOException {
 		Member member = getAuthenticatedMember(request);
@@ -77,35 +84,23 @@ public class ReviewService {
 		Exchange exchange = exchangeRepository.findById(createReviewRequest.getExchangeId())
 			.orElseThrow(() -> new RuntimeException());
 
-		Review review = createReviewRequest.toEntity(exchange, member);
-		Review savedReview = reviewRepository.save(review);
+		if (images != null && images.size() > MAX_IMAGES) {
+			throw new IllegalArgumentException("리뷰 이미지는 최대 " + MAX_IMAGES + "장까지 등록 가능합니다.");
+		}
 
-		exchange.markAsReviewed();
-		exchangeRepository.save(exchange);
+		List<String> imageUrls = imageUploadService.uploadAll(images);
 
-		if (images != null && !images.isEmpty()) {
-			if (images.size() > MAX_IMAGES) {
-				throw new IllegalArgumentException("리뷰 이미지는 최대 " + MAX_IMAGES + "장까지 등록 가능합니다.");
-			}
+		return transactionTemplate.execute(status -> {
+			Review savedReview = reviewRepository.save(createReviewRequest.toEntity(exchange, member));
 
-			for (MultipartFile image : images) {
-				try {
-					String imageUrl = s3Service.uploadFile(image);
-					ReviewImage reviewImage = ReviewImage.builder()
-						.review(savedReview)
-						.url(imageUrl)
-						.createdAt(new Timestamp(System.currentTimeMillis()))
-						.build();
-
-					reviewImageRepository.save(reviewImage);
-				} catch (Exception e) {
-					log.error("이미지 업로드 중 오류 발생: {}", e.getMessage());
-					throw new RuntimeException("Image upload failed");
-				}
-			}
-		}
+			exchange.markAsReviewed();
+			exchangeRepository.save(exchange);
 
-		return review;
+			imageVariantService.generateReviewImageVariants(
+				reviewImageRepository.saveAll(toReviewImages(savedReview, imageUrls)));
+			blobStorageService.acquire(imageUrls);
+			return savedReview;
+		});
 	}
 
 	/**
@@ -120,7 +115,7 @@ public class ReviewService {
 	 * @throws IllegalArgumentException 이미지 개수가 최대 허용 개수(5개)를 초과한 경우
 	 * @throws SecurityException        리뷰 작성자와 현재 인증된 사용자가 일치하지 않는 경우
 	 */
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void modifyReview(Long reviewId, HttpServletRequest request, ModifyReviewRequest modifyReviewRequest,
 		List<MultipartFile> images) throws IOException {
 		Member member = getAuthenticatedMember(request);
@@ -131,36 +126,27 @@ public class ReviewService {
 			throw new SecurityException("리뷰 작성자 정보와 일치하지 않은 사용자입니다..");
 		}
 
-		if (modifyReviewRequest != null) {
-			String content = modifyReviewRequest.getContent();
-			if (content != null) {
-				review.modifyContent(content);
-			}
-		}
-
 		int reviewImageCount = reviewImageRepository.countByReview_Id(reviewId);
 
-		if (images != null && !images.isEmpty()) {
-			if ((reviewImageCount + images.size()) > MAX_IMAGES) {
-				throw new IllegalArgumentException("리뷰 이미지는 최대 " + MAX_IMAGES + "장까지 등록 가능합니다.");
-			}
+		if (images != null && (reviewImageCount + images.size()) > MAX_IMAGES) {
+			throw new IllegalArgumentException("리뷰 이미지는 최대 " + MAX_IMAGES + "장까지 등록 가능합니다.");
+		}
+
+		List<String> imageUrls = imageUploadService.uploadAll(images);
 
-			for (MultipartFile image : images) {
-				try {
-					String imageUrl = s3Service.uploadFile(image);
-					ReviewImage reviewImage = ReviewImage.builder()
-						.review(review)
-						.url(imageUrl)
-						.createdAt(new Timestamp(System.currentTimeMillis()))
-						.build();
-
-					reviewImageRepository.save(reviewImage);
-				} catch (Exception e) {
-					log.error("이미지 업로드 중 오류 발생: {}", e.getMessage());
-					throw new RuntimeException("Image upload failed");
+		transactionTemplate.executeWithoutResult(status -> {
+			if (modifyReviewRequest != null) {
+				String content = modifyReviewRequest.getContent();
+				if (content != null) {
+					review.modifyContent(content);
+					reviewRepository.save(review);
 				}
 			}
-		}
+
+			imageVariantService.generateReviewImageVariants(
+				reviewImageRepository.saveAll(toReviewImages(review, imageUrls)));
+			blobStorageService.acquire(imageUrls);
+		});
 	}
 
 	/**
@@ -197,7 +183,25 @@ public class ReviewService {
 			throw new SecurityException("리뷰 작성자 정보와 일치하지 않은 사용자입니다.");
 		}
 
-		s3Service.deleteFile(image.getUrl());
 		reviewImageRepository.delete(image);
+		blobStorageService.release(List.of(image.getUrl()));
+	}
+
+	/**
+	 * 업로드된 이미지 url 목록을 리뷰 이미지 엔티티로 변환합니다.
+	 *
+	 * @param review    이미지가 속한 리뷰
+	 * @param imageUrls 업로드된 이미지 url 목록
+	 * @return 저장할 리뷰 이미지 목록
+	 */
+	private List<ReviewImage> toReviewImages(Review review, List<String> imageUrls) {
+		Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+		return imageUrls.stream()
+			.map(imageUrl -> ReviewImage.builder()
+				.review(review)
+				.url(imageUrl)
+				.createdAt(createdAt)
+				.build())
+			.toList();
 	}
 }
@@ -0,0 +1,69 @@
+package org.example.spring.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 이미지 등 바이너리 객체를 저장하는 저장소 SPI 입니다.
+ * <p>
+ * 구현체는 key 단위로 객체를 저장/조회/삭제하고, key 와 외부에 노출되는 url 사이의 변환을 담당합니다.
+ * key 의 생성 규칙(콘텐츠 해시 등)은 {@link org.example.spring.service.BlobStorageService} 에서 결정합니다.
+ */
+public interface BlobStore {
+
+	/**
+	 * @param key 객체 key
+	 * @return 객체 존재 여부
+	 */
+	boolean exists(String key);
+
+	/**
+	 * 객체를 저장합니다. 같은 key 가 이미 있으면 덮어씁니다.
+	 *
+	 * @param key 객체 key
+	 * @param content 저장할 내용. 호출한 쪽에서 닫습니다.
+	 * @param size 내용의 byte 크기
+	 * @param contentType content type
+	 * @throws IOException 저장 중 오류가 발생한 경우
+	 */
+	void put(String key, InputStream content, long size, String contentType) throws IOException;
+
+	/**
+	 * 객체를 스트림으로 엽니다. 호출한 쪽에서 스트림을 닫아야 합니다.
+	 *
+	 * @param key 객체 key
+	 * @return 객체 스트림
+	 * @throws IOException 객체가 없거나 읽을 수 없는 경우
+	 */
+	InputStream open(String key) throws IOException;
+
+	/**
+	 * 객체를 삭제합니다. 객체가 없으면 아무 것도 하지 않습니다.
+	 *
+	 * @param key 객체 key
+	 * @throws IOException 삭제 중 오류가 발생한 경우
+	 */
+	void delete(String key) throws IOException;
+
+	/**
+	 * key 가 주어진 prefix 로 시작하는 모든 객체를 삭제합니다.
+	 *
+	 * @param prefix key prefix
+	 * @throws IOException 삭제 중 오류가 발생한 경우
+	 */
+	void deleteByPrefix(String prefix) throws IOException;
+
+	/**
+	 * @param key 객체 key
+	 * @return 클라이언트에 노출할 url
+	 */
+	String urlOf(String key);
+
+	/**
+	 * {@link #urlOf(String)} 로 만든 url 에서 key 를 추출합니다.
+	 *
+	 * @param url 객체 url
+	 * @return 객체 key
+	 */
+	String keyOf(String url);
+}
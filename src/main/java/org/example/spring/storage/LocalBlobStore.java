@@ -0,0 +1,112 @@
+package org.example.spring.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 파일 시스템 디렉토리를 사용하는 {@link BlobStore} 구현체입니다.
+ * <p>
+ * AWS 없이 개발하거나 부하 테스트를 할 때 사용합니다. 객체는 임시 파일에 채널 전송으로 기록한 뒤
+ * 원자적으로 이동하므로, 쓰는 도중의 파일이 조회되지 않습니다.
+ */
+public class LocalBlobStore implements BlobStore {
+
+	private final Path root;
+	private final String baseUrl;
+
+	/**
+	 * @param root 객체를 저장할 디렉토리
+	 * @param baseUrl 객체 url 의 prefix (예: http://localhost:8080/uploads)
+	 */
+	public LocalBlobStore(Path root, String baseUrl) {
+		this.root = root.toAbsolutePath().normalize();
+		this.baseUrl = baseUrl;
+	}
+
+	@Override
+	public boolean exists(String key) {
+		return Files.exists(resolve(key));
+	}
+
+	@Override
+	public void put(String key, InputStream content, long size, String contentType) throws IOException {
+		Path target = resolve(key);
+		Files.createDirectories(target.getParent());
+
+		Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+		try {
+			try (ReadableByteChannel source = Channels.newChannel(content);
+				 FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				long position = 0;
+				while (position < size) {
+					long transferred = channel.transferFrom(source, position, size - position);
+					if (transferred <= 0) {
+						break;
+					}
+					position += transferred;
+				}
+			}
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	@Override
+	public InputStream open(String key) throws IOException {
+		return Files.newInputStream(resolve(key));
+	}
+
+	@Override
+	public void delete(String key) throws IOException {
+		Files.deleteIfExists(resolve(key));
+	}
+
+	@Override
+	public void deleteByPrefix(String prefix) throws IOException {
+		// prefix 의 마지막 '/' 까지를 디렉토리로, 나머지를 파일명 prefix 로 사용
+		int slash = prefix.lastIndexOf('/');
+		Path directory = slash < 0 ? root : resolve(prefix.substring(0, slash));
+		String namePrefix = prefix.substring(slash + 1);
+		if (!Files.isDirectory(directory)) {
+			return;
+		}
+
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+			file -> file.getFileName().toString().startsWith(namePrefix))) {
+			for (Path file : files) {
+				if (Files.isRegularFile(file)) {
+					Files.deleteIfExists(file);
+				}
+			}
+		}
+	}
+
+	@Override
+	public String urlOf(String key) {
+		return baseUrl + "/" + key;
+	}
+
+	@Override
+	public String keyOf(String url) {
+		String prefix = baseUrl + "/";
+		return url.startsWith(prefix) ? url.substring(prefix.length()) : url;
+	}
+
+	/* key 가 저장소 디렉토리 밖을 가리키지 않도록 검사 */
+	private Path resolve(String key) {
+		Path path = root.resolve(key).normalize();
+		if (!path.startsWith(root) || path.equals(root)) {
+			throw new IllegalArgumentException("Invalid blob key: " + key);
+		}
+		return path;
+	}
+}
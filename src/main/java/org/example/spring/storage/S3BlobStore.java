@@ -0,0 +1,136 @@
+package org.example.spring.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.unit.DataSize;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+/**
+ * S3 Bucket 을 사용하는 {@link BlobStore} 구현체입니다.
+ * <p>
+ * 객체는 메모리에 전부 올리지 않고 스트림으로 전송합니다. part 크기보다 큰 객체는
+ * 고정 크기 버퍼 하나를 재사용하는 S3 multipart upload 로 나누어 전송합니다.
+ */
+public class S3BlobStore implements BlobStore {
+
+	// key 가 콘텐츠 해시로 만들어져 내용이 바뀌지 않으므로 CDN/브라우저 캐시를 길게 유지
+	private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+	private final AmazonS3 amazonS3;
+	private final String bucket;
+	private final String baseUrl;
+	private final DataSize partSize;
+
+	/**
+	 * @param amazonS3 S3 client
+	 * @param bucket bucket 이름
+	 * @param baseUrl 객체 url 의 prefix (CDN 도메인 등)
+	 * @param partSize multipart upload 의 part 크기이자 part 버퍼 크기 (S3 최소 part 크기는 5MB)
+	 */
+	public S3BlobStore(AmazonS3 amazonS3, String bucket, String baseUrl, DataSize partSize) {
+		this.amazonS3 = amazonS3;
+		this.bucket = bucket;
+		this.baseUrl = baseUrl;
+		this.partSize = partSize;
+	}
+
+	@Override
+	public boolean exists(String key) {
+		return amazonS3.doesObjectExist(bucket, key);
+	}
+
+	@Override
+	public void put(String key, InputStream content, long size, String contentType) throws IOException {
+		if (size <= partSize.toBytes()) {
+			ObjectMetadata metadata = metadata(contentType);
+			metadata.setContentLength(size);
+			amazonS3.putObject(new PutObjectRequest(bucket, key, content, metadata));
+		} else {
+			multipartUpload(key, content, contentType);
+		}
+	}
+
+	private void multipartUpload(String key, InputStream in, String contentType) throws IOException {
+		String uploadId = amazonS3.initiateMultipartUpload(
+			new InitiateMultipartUploadRequest(bucket, key, metadata(contentType))).getUploadId();
+
+		try {
+			byte[] buffer = new byte[(int)partSize.toBytes()];
+			List<PartETag> partETags = new ArrayList<>();
+			int partNumber = 1;
+			int read;
+			while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+				UploadPartRequest partRequest = new UploadPartRequest()
+					.withBucketName(bucket)
+					.withKey(key)
+					.withUploadId(uploadId)
+					.withPartNumber(partNumber++)
+					.withInputStream(new ByteArrayInputStream(buffer, 0, read))
+					.withPartSize(read);
+				// SDK 가 버퍼를 다시 읽지 않도록 part 전송이 끝난 뒤에 다음 part 를 채움
+				partETags.add(amazonS3.uploadPart(partRequest).getPartETag());
+			}
+			amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+		} catch (IOException | RuntimeException e) {
+			// 중단된 upload 의 part 가 bucket 에 남지 않도록 정리
+			amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+			throw e;
+		}
+	}
+
+	private ObjectMetadata metadata(String contentType) {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentType(contentType);
+		metadata.setCacheControl(CACHE_CONTROL);
+		return metadata;
+	}
+
+	@Override
+	public InputStream open(String key) {
+		return amazonS3.getObject(bucket, key).getObjectContent();
+	}
+
+	@Override
+	public void delete(String key) {
+		amazonS3.deleteObject(bucket, key);
+	}
+
+	@Override
+	public void deleteByPrefix(String prefix) {
+		ObjectListing listing = amazonS3.listObjects(bucket, prefix);
+		while (true) {
+			for (S3ObjectSummary summary : listing.getObjectSummaries()) {
+				amazonS3.deleteObject(bucket, summary.getKey());
+			}
+			if (!listing.isTruncated()) {
+				return;
+			}
+			listing = amazonS3.listNextBatchOfObjects(listing);
+		}
+	}
+
+	@Override
+	public String urlOf(String key) {
+		return baseUrl + "/" + key;
+	}
+
+	@Override
+	public String keyOf(String url) {
+		String prefix = baseUrl + "/";
+		return url.startsWith(prefix) ? url.substring(prefix.length()) : url;
+	}
+}
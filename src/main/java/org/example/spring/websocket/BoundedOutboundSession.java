@@ -0,0 +1,199 @@
+package org.example.spring.websocket;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션마다 크기가 정해진 전송 큐를 두는 WebSocket 세션입니다.
+ * <p>
+ * {@link #sendMessage} 는 큐에 넣고 바로 반환하며, 실제 전송은 세션별로 하나의 가상 스레드가 순서대로 처리합니다.
+ * 따라서 느린 클라이언트가 있어도 clientOutboundChannel 스레드는 묶이지 않고 다른 세션 전송에 영향이 없습니다.
+ * <ul>
+ *     <li>{@value #COALESCE_HEADER} 헤더가 있는 STOMP 프레임(입력 중, 접속 상태 등)은 같은 key 의 이전 프레임을 대체하며,
+ *     한도를 넘으면 버립니다.</li>
+ *     <li>일반 메시지가 한도를 넘거나 한 번의 전송이 sendTimeLimit 을 넘기면 느린 구독자로 보고 세션을 닫습니다.
+ *     클라이언트는 재접속 후 이전 메시지 API 로 빠진 메시지를 다시 받습니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class BoundedOutboundSession extends WebSocketSessionDecorator {
+
+	/** 같은 값끼리 최신 프레임 하나만 전달하면 되는 메시지에 붙이는 STOMP 헤더 */
+	public static final String COALESCE_HEADER = "x-coalesce-key";
+
+	private static final String COALESCE_HEADER_LINE = "\n" + COALESCE_HEADER + ":";
+	private static final CloseStatus SLOW_CONSUMER = CloseStatus.SESSION_NOT_RELIABLE.withReason("slow consumer");
+
+	private final Executor sendExecutor;
+	private final int capacity;
+	private final int coalescedCapacity;
+	private final long sendTimeLimitNanos;
+	private final OutboundDeliveryMetrics metrics;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final ArrayDeque<WebSocketMessage<?>> queue = new ArrayDeque<>();
+	private final Map<String, WebSocketMessage<?>> coalesced = new LinkedHashMap<>();
+	private boolean draining;
+	private boolean closing;
+	private volatile long sendStartedAt;
+
+	public BoundedOutboundSession(WebSocketSession delegate, Executor sendExecutor, int capacity,
+		int coalescedCapacity, long sendTimeLimitMillis, OutboundDeliveryMetrics metrics) {
+		super(delegate);
+		this.sendExecutor = sendExecutor;
+		this.capacity = capacity;
+		this.coalescedCapacity = coalescedCapacity;
+		this.sendTimeLimitNanos = sendTimeLimitMillis * 1_000_000;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public void sendMessage(WebSocketMessage<?> message) {
+		String coalesceKey = coalesceKeyOf(message);
+		boolean slowConsumer = false;
+		boolean startDrain = false;
+		lock.lock();
+		try {
+			if (closing) {
+				return;
+			}
+			if (isSendStuck()) {
+				slowConsumer = true;
+			} else if (coalesceKey != null) {
+				enqueueCoalesced(coalesceKey, message);
+			} else if (queue.size() >= capacity) {
+				slowConsumer = true;
+			} else {
+				queue.add(message);
+				metrics.enqueued();
+			}
+			if (slowConsumer) {
+				closing = true;
+				discardPending();
+			} else if (!draining) {
+				draining = true;
+				startDrain = true;
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (slowConsumer) {
+			metrics.slowConsumerDisconnected();
+			log.info("느린 WebSocket 구독자 연결 종료 session={}", getId());
+			sendExecutor.execute(() -> closeQuietly(SLOW_CONSUMER));
+		} else if (startDrain) {
+			sendExecutor.execute(this::drain);
+		}
+	}
+
+	/** 연결이 끝난 세션의 남은 메시지를 버립니다. */
+	void discard() {
+		lock.lock();
+		try {
+			closing = true;
+			discardPending();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void enqueueCoalesced(String coalesceKey, WebSocketMessage<?> message) {
+		if (coalesced.remove(coalesceKey) != null) {
+			metrics.dropped("coalesced");
+		} else if (coalesced.size() >= coalescedCapacity) {
+			metrics.dropped("overflow");
+			return;
+		} else {
+			metrics.enqueued();
+		}
+		coalesced.put(coalesceKey, message);
+	}
+
+	private void drain() {
+		while (true) {
+			WebSocketMessage<?> next;
+			lock.lock();
+			try {
+				next = closing ? null : poll();
+				if (next == null) {
+					draining = false;
+					return;
+				}
+			} finally {
+				lock.unlock();
+			}
+			metrics.dequeued(1);
+
+			sendStartedAt = System.nanoTime();
+			try {
+				getDelegate().sendMessage(next);
+			} catch (IOException | RuntimeException e) {
+				log.debug("WebSocket 전송 실패 session={}", getId(), e);
+				discard();
+				closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+			} finally {
+				sendStartedAt = 0;
+			}
+		}
+	}
+
+	/* 일반 메시지를 먼저 보내고, 대체 가능한 메시지는 그 뒤에 최신 상태만 보냄 */
+	private WebSocketMessage<?> poll() {
+		WebSocketMessage<?> next = queue.poll();
+		if (next == null && !coalesced.isEmpty()) {
+			Iterator<WebSocketMessage<?>> iterator = coalesced.values().iterator();
+			next = iterator.next();
+			iterator.remove();
+		}
+		return next;
+	}
+
+	private void discardPending() {
+		metrics.dequeued(queue.size() + coalesced.size());
+		queue.clear();
+		coalesced.clear();
+	}
+
+	private boolean isSendStuck() {
+		long startedAt = sendStartedAt;
+		return startedAt != 0 && System.nanoTime() - startedAt > sendTimeLimitNanos;
+	}
+
+	private void closeQuietly(CloseStatus status) {
+		try {
+			getDelegate().close(status);
+		} catch (IOException | RuntimeException e) {
+			log.debug("WebSocket 세션 종료 실패 session={}", getId(), e);
+		}
+	}
+
+	/* STOMP 프레임의 헤더 영역(빈 줄 전까지)에서 coalesce key 를 찾음 */
+	static String coalesceKeyOf(WebSocketMessage<?> message) {
+		if (!(message instanceof TextMessage textMessage)) {
+			return null;
+		}
+		String payload = textMessage.getPayload();
+		int headerEnd = payload.indexOf("\n\n");
+		int start = payload.indexOf(COALESCE_HEADER_LINE, 0, headerEnd < 0 ? payload.length() : headerEnd);
+		if (start < 0) {
+			return null;
+		}
+		int valueStart = start + COALESCE_HEADER_LINE.length();
+		int valueEnd = payload.indexOf('\n', valueStart);
+		return payload.substring(valueStart, valueEnd < 0 ? payload.length() : valueEnd);
+	}
+}
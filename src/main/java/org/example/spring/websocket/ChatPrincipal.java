@@ -0,0 +1,23 @@
+package org.example.spring.websocket;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * STOMP CONNECT 에서 한 번 인증한 회원 정보입니다. 세션에 묶여 이후 프레임의 인가에 DB 조회 없이 사용됩니다.
+ *
+ * @param memberId 회원 id
+ * @param nickname 메시지 응답에 사용할 닉네임
+ * @param expiresAt 인증에 사용한 토큰의 만료 시각, 이후의 SEND 는 거부
+ */
+public record ChatPrincipal(Long memberId, String nickname, Instant expiresAt) implements Principal {
+
+	@Override
+	public String getName() {
+		return String.valueOf(memberId);
+	}
+
+	public boolean isExpired(Instant now) {
+		return expiresAt != null && !now.isBefore(expiresAt);
+	}
+}
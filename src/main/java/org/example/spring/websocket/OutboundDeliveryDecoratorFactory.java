@@ -0,0 +1,84 @@
+package org.example.spring.websocket;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * STOMP 처리기에 전달되는 모든 WebSocket 세션을 {@link BoundedOutboundSession} 으로 감쌉니다.
+ * 같은 세션에 대한 모든 콜백에 감싼 세션을 넘겨, 오류 프레임을 포함한 모든 전송이 세션 큐를 거치도록 합니다.
+ */
+@Component
+public class OutboundDeliveryDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+	private final ExecutorService sendExecutor =
+		Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ws-send-", 0).factory());
+	private final OutboundDeliveryMetrics metrics;
+
+	@Value("${websocket.outbound.session-queue-capacity:256}")
+	private int sessionQueueCapacity;
+
+	@Value("${websocket.outbound.coalesced-capacity:64}")
+	private int coalescedCapacity;
+
+	@Value("${websocket.transport.send-time-limit:15s}")
+	private Duration sendTimeLimit;
+
+	public OutboundDeliveryDecoratorFactory(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.metrics = new OutboundDeliveryMetrics(meterRegistry.getIfAvailable());
+	}
+
+	@Override
+	public WebSocketHandler decorate(WebSocketHandler handler) {
+		return new WebSocketHandlerDecorator(handler) {
+			private final Map<String, BoundedOutboundSession> sessions = new ConcurrentHashMap<>();
+
+			@Override
+			public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+				BoundedOutboundSession bounded = new BoundedOutboundSession(session, sendExecutor,
+					sessionQueueCapacity, coalescedCapacity, sendTimeLimit.toMillis(), metrics);
+				sessions.put(session.getId(), bounded);
+				super.afterConnectionEstablished(bounded);
+			}
+
+			@Override
+			public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+				super.handleMessage(sessions.getOrDefault(session.getId(), session), message);
+			}
+
+			@Override
+			public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+				super.handleTransportError(sessions.getOrDefault(session.getId(), session), exception);
+			}
+
+			@Override
+			public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+				BoundedOutboundSession bounded = sessions.remove(session.getId());
+				if (bounded != null) {
+					bounded.discard();
+				}
+				super.afterConnectionClosed(bounded != null ? bounded : session, closeStatus);
+			}
+		};
+	}
+
+	@PreDestroy
+	void shutdown() {
+		sendExecutor.shutdownNow();
+	}
+}
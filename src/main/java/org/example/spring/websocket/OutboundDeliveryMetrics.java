@@ -0,0 +1,55 @@
+package org.example.spring.websocket;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * WebSocket 전송 큐 지표입니다.
+ * <ul>
+ *     <li>{@code websocket.outbound.queue.depth}: 전체 세션 큐에 쌓인 메시지 수</li>
+ *     <li>{@code websocket.outbound.dropped}: 버린 메시지 수 (reason=coalesced 는 최신 값으로 대체, overflow 는 한도 초과)</li>
+ *     <li>{@code websocket.outbound.slow.consumers}: 느린 구독자로 판단해 닫은 세션 수</li>
+ * </ul>
+ */
+public class OutboundDeliveryMetrics {
+
+	private final AtomicLong depth = new AtomicLong();
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * @param meterRegistry 지표를 등록할 registry, 없으면 null
+	 */
+	public OutboundDeliveryMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		if (meterRegistry != null) {
+			Gauge.builder("websocket.outbound.queue.depth", depth, AtomicLong::get).register(meterRegistry);
+		}
+	}
+
+	public long depth() {
+		return depth.get();
+	}
+
+	void enqueued() {
+		depth.incrementAndGet();
+	}
+
+	void dequeued(int count) {
+		depth.addAndGet(-count);
+	}
+
+	void dropped(String reason) {
+		if (meterRegistry != null) {
+			Counter.builder("websocket.outbound.dropped").tag("reason", reason).register(meterRegistry).increment();
+		}
+	}
+
+	void slowConsumerDisconnected() {
+		if (meterRegistry != null) {
+			meterRegistry.counter("websocket.outbound.slow.consumers").increment();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package org.example.spring.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+	private static final Duration OPEN_DURATION = Duration.ofMinutes(1);
+	private static final Instant START = Instant.parse("2024-10-01T00:00:00Z");
+
+	private CircuitBreaker circuitBreaker;
+	private Instant now;
+
+	@BeforeEach
+	void setUp() {
+		now = START;
+		circuitBreaker = new CircuitBreaker(2, OPEN_DURATION, new Clock() {
+			@Override
+			public ZoneId getZone() {
+				return ZoneOffset.UTC;
+			}
+
+			@Override
+			public Clock withZone(ZoneId zone) {
+				return this;
+			}
+
+			@Override
+			public Instant instant() {
+				return now;
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("open 시간이 지나면 시험 호출 하나만 허용하고, 성공하면 닫힌다")
+	void halfOpen_singleTrial() {
+		// Given
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+		// When
+		now = now.plus(OPEN_DURATION);
+
+		// Then
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+		circuitBreaker.onSuccess();
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+	}
+
+	@Test
+	@DisplayName("시험 호출이 결과를 알리지 않으면 open 시간 이후 다음 시험 호출을 허용한다")
+	void halfOpen_staleTrialExpires() {
+		// Given
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+		now = now.plus(OPEN_DURATION);
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+		// When
+		now = now.plus(OPEN_DURATION.minusSeconds(1));
+		boolean beforeExpiry = circuitBreaker.tryAcquirePermission();
+		now = now.plusSeconds(1);
+		boolean afterExpiry = circuitBreaker.tryAcquirePermission();
+
+		// Then
+		assertThat(beforeExpiry).isFalse();
+		assertThat(afterExpiry).isTrue();
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+	}
+}
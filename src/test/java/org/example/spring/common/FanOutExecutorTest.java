@@ -0,0 +1,147 @@
+package org.example.spring.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.example.spring.exception.FanOutTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class FanOutExecutorTest {
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private FanOutExecutor fanOutExecutor;
+
+	@BeforeEach
+	void setUp() {
+		fanOutExecutor = new FanOutExecutor(transactionManager);
+		ReflectionTestUtils.setField(fanOutExecutor, "closeTimeout", Duration.ofSeconds(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		fanOutExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("작업을 동시에 실행해 가장 느린 작업 시간 안에 모두 끝난다")
+	void join_runsConcurrently() {
+		// Given
+		long startedAt = System.nanoTime();
+		Supplier<String> first;
+		Supplier<String> second;
+		Supplier<String> third;
+
+		// When
+		try (FanOutExecutor.Scope scope = fanOutExecutor.open(Duration.ofSeconds(5))) {
+			first = scope.fork(() -> sleepAndReturn(300, "a"));
+			second = scope.fork(() -> sleepAndReturn(300, "b"));
+			third = scope.fork(() -> sleepAndReturn(300, "c"));
+			scope.join();
+		}
+
+		// Then
+		assertThat(first.get() + second.get() + third.get()).isEqualTo("abc");
+		assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(800));
+	}
+
+	@Test
+	@DisplayName("deadline 이 지나면 남은 작업을 취소하고 FanOutTimeoutException 을 던진다")
+	void join_deadlineExceeded() throws InterruptedException {
+		// Given
+		CountDownLatch interrupted = new CountDownLatch(1);
+
+		// When & Then
+		try (FanOutExecutor.Scope scope = fanOutExecutor.open(Duration.ofMillis(100))) {
+			scope.fork(() -> {
+				try {
+					Thread.sleep(10_000);
+				} catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+				return null;
+			});
+			assertThatThrownBy(scope::join).isInstanceOf(FanOutTimeoutException.class);
+		}
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@DisplayName("먼저 실패한 작업의 예외를 그대로 던지고 나머지 작업을 취소한다")
+	void join_firstFailurePropagated() throws InterruptedException {
+		// Given
+		CountDownLatch interrupted = new CountDownLatch(1);
+		AtomicBoolean finished = new AtomicBoolean();
+
+		// When & Then
+		try (FanOutExecutor.Scope scope = fanOutExecutor.open(Duration.ofSeconds(5))) {
+			scope.fork(() -> {
+				try {
+					Thread.sleep(10_000);
+					finished.set(true);
+				} catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+				return null;
+			});
+			scope.fork(() -> {
+				throw new IllegalArgumentException("조회 실패");
+			});
+			assertThatThrownBy(scope::join)
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("조회 실패");
+		}
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(finished).isFalse();
+	}
+
+	@Test
+	@DisplayName("scope 를 닫으면 취소한 작업이 실제로 끝날 때까지 기다린다")
+	void close_waitsForCancelledSubtasks() {
+		// Given
+		AtomicBoolean exited = new AtomicBoolean();
+
+		// When
+		try (FanOutExecutor.Scope scope = fanOutExecutor.open(Duration.ofMillis(100))) {
+			scope.fork(() -> {
+				try {
+					Thread.sleep(10_000);
+				} catch (InterruptedException e) {
+					// interrupt 이후에도 정리 작업이 잠시 이어지는 조회
+					sleepAndReturn(200, null);
+				}
+				exited.set(true);
+				return null;
+			});
+			assertThatThrownBy(scope::join).isInstanceOf(FanOutTimeoutException.class);
+		}
+
+		// Then
+		assertThat(exited).isTrue();
+	}
+
+	private static String sleepAndReturn(long millis, String value) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return value;
+	}
+}
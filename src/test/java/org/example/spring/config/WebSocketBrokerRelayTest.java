@@ -0,0 +1,118 @@
+package org.example.spring.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.example.spring.config.handler.WebSocketHandler;
+import org.example.spring.websocket.OutboundDeliveryDecoratorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/* broker relay 모드에서 서버가 보낸 메시지가 내장 Artemis 브로커를 거쳐 구독자에게 전달되는지 확인 */
+@SpringJUnitConfig({WebSocketConfig.class, OutboundDeliveryDecoratorFactory.class})
+class WebSocketBrokerRelayTest {
+
+	private static EmbeddedActiveMQ broker;
+	private static int stompPort;
+
+	@MockBean
+	private WebSocketHandler webSocketHandler;
+
+	@Autowired
+	private SimpMessagingTemplate brokerMessagingTemplate;
+
+	@Autowired
+	private StompBrokerRelayMessageHandler stompBrokerRelayMessageHandler;
+
+	@BeforeAll
+	static void startBroker() throws Exception {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			stompPort = socket.getLocalPort();
+		}
+		Configuration configuration = new ConfigurationImpl()
+			.setPersistenceEnabled(false)
+			.setSecurityEnabled(false)
+			.addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + stompPort + "?protocols=STOMP");
+		broker = new EmbeddedActiveMQ().setConfiguration(configuration);
+		broker.start();
+	}
+
+	@AfterAll
+	static void stopBroker() throws Exception {
+		broker.stop();
+	}
+
+	@DynamicPropertySource
+	static void brokerProperties(DynamicPropertyRegistry registry) {
+		registry.add("websocket.broker.mode", () -> WebSocketConfig.RELAY_MODE);
+		registry.add("websocket.broker.relay.host", () -> "127.0.0.1");
+		registry.add("websocket.broker.relay.port", () -> stompPort);
+	}
+
+	@Test
+	@DisplayName("relay 모드에서 /sub 로 보낸 메시지가 외부 브로커의 구독자에게 전달된다")
+	void relay_deliversToBrokerSubscriber() throws Exception {
+		// Given
+		awaitBrokerAvailable();
+		ReactorNettyTcpStompClient client = new ReactorNettyTcpStompClient("127.0.0.1", stompPort);
+		client.setMessageConverter(new StringMessageConverter());
+		StompSession session = client.connectAsync(new StompSessionHandlerAdapter() {
+		}).get(5, TimeUnit.SECONDS);
+
+		BlockingQueue<String> received = new LinkedBlockingQueue<>();
+		session.subscribe("/sub/room/1", new StompFrameHandler() {
+			@Override
+			public Type getPayloadType(StompHeaders headers) {
+				return String.class;
+			}
+
+			@Override
+			public void handleFrame(StompHeaders headers, Object payload) {
+				received.add((String) payload);
+			}
+		});
+
+		// When
+		// 구독이 브로커에 등록되기 전에 보낸 메시지는 유실되므로 받을 때까지 반복해서 보냄
+		String message = null;
+		for (int i = 0; i < 50 && message == null; i++) {
+			brokerMessagingTemplate.convertAndSend("/sub/room/1", "안녕하세요");
+			message = received.poll(100, TimeUnit.MILLISECONDS);
+		}
+
+		// Then
+		assertThat(message).isEqualTo("안녕하세요");
+		session.disconnect();
+		client.shutdown();
+	}
+
+	private void awaitBrokerAvailable() throws InterruptedException {
+		for (int i = 0; i < 100 && !stompBrokerRelayMessageHandler.isBrokerAvailable(); i++) {
+			Thread.sleep(50);
+		}
+		assertThat(stompBrokerRelayMessageHandler.isBrokerAvailable()).isTrue();
+	}
+}
@@ -0,0 +1,107 @@
+package org.example.spring.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.example.spring.config.handler.WebSocketHandler;
+import org.example.spring.websocket.OutboundDeliveryDecoratorFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/* 8개 스레드로 처리하는 인바운드 채널에서도 한 세션이 보낸 SEND 프레임이 받은 순서대로 처리되는지 확인 */
+@SpringJUnitConfig({WebSocketConfig.class, OutboundDeliveryDecoratorFactory.class})
+class WebSocketOrderingTest {
+
+	private static final int FRAME_COUNT = 20;
+
+	@MockBean
+	private WebSocketHandler webSocketHandler;
+
+	@Autowired
+	private SubProtocolWebSocketHandler subProtocolWebSocketHandler;
+
+	@Autowired
+	@Qualifier("clientInboundChannel")
+	private ExecutorSubscribableChannel clientInboundChannel;
+
+	@BeforeEach
+	void setUp() {
+		when(webSocketHandler.preSend(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	@DisplayName("한 세션이 보낸 SEND 프레임은 인바운드 풀에서도 보낸 순서대로 처리된다")
+	void inbound_preservesReceiveOrderPerSession() throws Exception {
+		// Given
+		List<String> handled = new CopyOnWriteArrayList<>();
+		CountDownLatch done = new CountDownLatch(FRAME_COUNT);
+		MessageHandler recorder = message -> {
+			StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+			if (accessor.getCommand() != StompCommand.SEND) {
+				return;
+			}
+			String body = new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+			// 짝수 번째 프레임을 늦게 끝내서 순서 보장이 없으면 다음 프레임이 먼저 처리되게 함
+			if (Integer.parseInt(body) % 2 == 0) {
+				sleep(20);
+			}
+			handled.add(body);
+			done.countDown();
+		};
+		clientInboundChannel.subscribe(recorder);
+
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn("ordering-session");
+		when(session.isOpen()).thenReturn(true);
+		when(session.getAttributes()).thenReturn(new HashMap<>());
+
+		try {
+			subProtocolWebSocketHandler.afterConnectionEstablished(session);
+
+			// When
+			for (int i = 0; i < FRAME_COUNT; i++) {
+				subProtocolWebSocketHandler.handleMessage(session,
+					new TextMessage("SEND\ndestination:/pub/order\n\n" + i + "\u0000"));
+			}
+
+			// Then
+			assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(handled).containsExactlyElementsOf(
+				IntStream.range(0, FRAME_COUNT).mapToObj(String::valueOf).toList());
+		} finally {
+			clientInboundChannel.unsubscribe(recorder);
+			subProtocolWebSocketHandler.afterConnectionClosed(session, CloseStatus.NORMAL);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
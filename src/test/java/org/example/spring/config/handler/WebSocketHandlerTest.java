@@ -0,0 +1,112 @@
+package org.example.spring.config.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.example.spring.domain.member.Member;
+import org.example.spring.domain.member.MemberRole;
+import org.example.spring.exception.MessageException;
+import org.example.spring.security.jwt.JwtTokenValidator;
+import org.example.spring.websocket.ChatPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class WebSocketHandlerTest {
+
+	@Mock
+	private JwtTokenValidator jwtTokenValidator;
+
+	private final MessageChannel channel = mock(MessageChannel.class);
+
+	private WebSocketHandler webSocketHandler;
+
+	@BeforeEach
+	void setUp() {
+		webSocketHandler = new WebSocketHandler(jwtTokenValidator);
+	}
+
+	@Test
+	@DisplayName("CONNECT 에서 토큰을 검증하고 세션 사용자로 ChatPrincipal 을 등록한다")
+	void preSend_connectBindsPrincipal() {
+		// Given
+		Member member = mock(Member.class);
+		when(member.getId()).thenReturn(7L);
+		when(member.getNickname()).thenReturn("야구좋아");
+		when(member.getRole()).thenReturn(MemberRole.USER);
+		when(jwtTokenValidator.validateTokenAndGetMember("token")).thenReturn(member);
+		Instant expiresAt = Instant.now().plusSeconds(600);
+		when(jwtTokenValidator.getTokenExpiration("token")).thenReturn(Date.from(expiresAt));
+
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+		accessor.setNativeHeader("Authorization", "Bearer token");
+
+		// When
+		Message<?> result = webSocketHandler.preSend(message(accessor), channel);
+
+		// Then
+		assertThat(StompHeaderAccessor.getUser(result.getHeaders()))
+			.isEqualTo(new ChatPrincipal(7L, "야구좋아", Date.from(expiresAt).toInstant()));
+	}
+
+	@Test
+	@DisplayName("Authorization 헤더가 없는 CONNECT 는 거부한다")
+	void preSend_connectWithoutToken() {
+		// Given
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+
+		// When & Then
+		assertThatThrownBy(() -> webSocketHandler.preSend(message(accessor), channel))
+			.isInstanceOf(MessageException.class);
+	}
+
+	@Test
+	@DisplayName("SEND 는 세션 사용자만 확인하고 토큰 검증이나 회원 조회를 하지 않는다")
+	void preSend_sendUsesSessionPrincipal() {
+		// Given
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+		accessor.setUser(new ChatPrincipal(7L, "야구좋아", Instant.now().plusSeconds(600)));
+
+		// When
+		webSocketHandler.preSend(message(accessor), channel);
+
+		// Then
+		verifyNoInteractions(jwtTokenValidator);
+	}
+
+	@Test
+	@DisplayName("인증되지 않았거나 토큰이 만료된 세션의 SEND 는 거부한다")
+	void preSend_sendWithoutValidPrincipal() {
+		// Given
+		StompHeaderAccessor anonymous = StompHeaderAccessor.create(StompCommand.SEND);
+		StompHeaderAccessor expired = StompHeaderAccessor.create(StompCommand.SEND);
+		expired.setUser(new ChatPrincipal(7L, "야구좋아", Instant.now().minusSeconds(1)));
+
+		// When & Then
+		assertThatThrownBy(() -> webSocketHandler.preSend(message(anonymous), channel))
+			.isInstanceOf(MessageException.class);
+		assertThatThrownBy(() -> webSocketHandler.preSend(message(expired), channel))
+			.isInstanceOf(MessageException.class);
+	}
+
+	/* StompSubProtocolHandler 처럼 accessor 를 수정 가능한 상태로 두어 getAccessor 로 꺼낼 수 있게 함 */
+	private static Message<byte[]> message(StompHeaderAccessor accessor) {
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+}
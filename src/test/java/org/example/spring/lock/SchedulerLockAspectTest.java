@@ -0,0 +1,56 @@
+package org.example.spring.lock;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockAspectTest {
+
+	@Mock
+	private LockProvider lockProvider;
+
+	@Mock
+	private ProceedingJoinPoint joinPoint;
+
+	@Mock
+	private MethodSignature signature;
+
+	@Test
+	@DisplayName("반환값이 있는 메서드에 붙은 @SchedulerLock 은 잠금을 시도하지 않고 거절한다")
+	void lock_nonVoidMethodRejected() throws Throwable {
+		// Given
+		SchedulerLockAspect aspect = new SchedulerLockAspect(
+			new SchedulerLockExecutor(lockProvider, "node-a", Clock.systemUTC()));
+		SchedulerLock schedulerLock = Jobs.class.getDeclaredMethod("count").getAnnotation(SchedulerLock.class);
+		when(joinPoint.getSignature()).thenReturn(signature);
+		when(signature.getReturnType()).thenReturn(int.class);
+
+		// When & Then
+		assertThatThrownBy(() -> aspect.lock(joinPoint, schedulerLock))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("void");
+		verify(lockProvider, never()).tryAcquire(anyString(), anyString(), any());
+		verify(joinPoint, never()).proceed();
+	}
+
+	static class Jobs {
+		@SchedulerLock(name = "count", lockAtMostFor = "1m")
+		int count() {
+			return 0;
+		}
+	}
+}
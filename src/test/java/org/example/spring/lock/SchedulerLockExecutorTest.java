@@ -0,0 +1,207 @@
+package org.example.spring.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 하나의 잠금 저장소를 공유하는 여러 노드를 로컬에서 흉내 내어 임대 동작을 검증합니다.
+ */
+class SchedulerLockExecutorTest {
+
+	private static final Duration AT_MOST = Duration.ofSeconds(50);
+
+	private MutableClock clock;
+	private InMemoryLockProvider lockProvider;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(Instant.parse("2024-10-01T00:00:00Z"));
+		lockProvider = new InMemoryLockProvider(clock);
+	}
+
+	@Test
+	@DisplayName("여러 노드가 동시에 같은 작업을 시작하면 한 노드에서만 실행된다")
+	void execute_competingNodes_runsOnce() throws Exception {
+		int nodeCount = 3;
+		AtomicInteger executions = new AtomicInteger();
+		CountDownLatch ready = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(nodeCount);
+
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < nodeCount; i++) {
+			SchedulerLockExecutor node = new SchedulerLockExecutor(lockProvider, "node-" + i, clock);
+			Callable<Boolean> job = () -> {
+				ready.await();
+				return node.execute("updateLikeOverviews", AT_MOST, Duration.ofSeconds(10),
+					executions::incrementAndGet);
+			};
+			results.add(pool.submit(job));
+		}
+		ready.countDown();
+
+		int ran = 0;
+		for (Future<Boolean> result : results) {
+			if (result.get()) {
+				ran++;
+			}
+		}
+		pool.shutdown();
+
+		assertThat(ran).isEqualTo(1);
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("작업이 빨리 끝나도 lockAtLeastFor 동안은 다른 노드가 다시 실행하지 않는다")
+	void execute_lockAtLeastFor_preventsDuplicateRun() throws Throwable {
+		SchedulerLockExecutor nodeA = new SchedulerLockExecutor(lockProvider, "node-a", clock);
+		SchedulerLockExecutor nodeB = new SchedulerLockExecutor(lockProvider, "node-b", clock);
+
+		assertThat(nodeA.execute("job", AT_MOST, Duration.ofSeconds(10), () -> clock.advance(Duration.ofSeconds(1))))
+			.isTrue();
+
+		// 노드 B의 cron 이 조금 늦게 실행되는 상황
+		clock.advance(Duration.ofMillis(300));
+		assertThat(nodeB.execute("job", AT_MOST, Duration.ofSeconds(10), () -> {
+		})).isFalse();
+
+		clock.advance(Duration.ofSeconds(10));
+		assertThat(nodeB.execute("job", AT_MOST, Duration.ofSeconds(10), () -> {
+		})).isTrue();
+	}
+
+	@Test
+	@DisplayName("임대 보유 노드가 죽으면 lockAtMostFor 이후 다른 노드가 인계받고, 이전 소유자는 해제할 수 없다")
+	void execute_nodeFailure_takeOverAfterExpiry() throws Throwable {
+		Lease crashed = lockProvider.tryAcquire("job", "node-a", AT_MOST).orElseThrow();
+
+		SchedulerLockExecutor nodeB = new SchedulerLockExecutor(lockProvider, "node-b", clock);
+		assertThat(nodeB.execute("job", AT_MOST, Duration.ZERO, () -> {
+		})).isFalse();
+
+		clock.advance(AT_MOST.plusSeconds(1));
+		List<Lease> leases = new ArrayList<>();
+		assertThat(nodeB.execute("job", AT_MOST, Duration.ZERO,
+			() -> leases.add(lockProvider.current("job")))).isTrue();
+
+		assertThat(leases).hasSize(1);
+		assertThat(leases.getFirst().getOwner()).isEqualTo("node-b");
+		// 뒤늦게 돌아온 이전 소유자는 잠금을 해제할 수 없다
+		assertThat(lockProvider.release(crashed, Duration.ZERO)).isFalse();
+	}
+
+	@Test
+	@DisplayName("작업이 실패해도 임대는 해제되어 다음 회차에 다시 실행된다")
+	void execute_taskFailure_releasesLease() throws Throwable {
+		SchedulerLockExecutor node = new SchedulerLockExecutor(lockProvider, "node-a", clock);
+
+		try {
+			node.execute("job", AT_MOST, Duration.ZERO, () -> {
+				throw new IllegalStateException("boom");
+			});
+		} catch (IllegalStateException ignored) {
+			// expected
+		}
+
+		assertThat(lockProvider.current("job")).isNull();
+		assertThat(node.execute("job", AT_MOST, Duration.ZERO, () -> {
+		})).isTrue();
+	}
+
+	/**
+	 * Redis 의 SET NX PX 동작을 흉내 낸 메모리 기반 잠금 저장소
+	 */
+	private static class InMemoryLockProvider implements LockProvider {
+		private final Clock clock;
+		private final Map<String, Lease> leases = new HashMap<>();
+		private final Map<String, Instant> expiries = new HashMap<>();
+
+		InMemoryLockProvider(Clock clock) {
+			this.clock = clock;
+		}
+
+		@Override
+		public synchronized Optional<Lease> tryAcquire(String name, String owner, Duration lockAtMostFor) {
+			if (current(name) != null) {
+				return Optional.empty();
+			}
+			Lease lease = new Lease(name, owner, UUID.randomUUID().toString());
+			leases.put(name, lease);
+			expiries.put(name, clock.instant().plus(lockAtMostFor));
+			return Optional.of(lease);
+		}
+
+		@Override
+		public synchronized boolean release(Lease lease, Duration keepFor) {
+			Lease current = current(lease.getName());
+			if (current == null || !current.value().equals(lease.value())) {
+				return false;
+			}
+			if (keepFor.isZero()) {
+				leases.remove(lease.getName());
+				expiries.remove(lease.getName());
+			} else {
+				expiries.put(lease.getName(), clock.instant().plus(keepFor));
+			}
+			return true;
+		}
+
+		synchronized Lease current(String name) {
+			Instant expiry = expiries.get(name);
+			if (expiry == null || !clock.instant().isBefore(expiry)) {
+				leases.remove(name);
+				expiries.remove(name);
+				return null;
+			}
+			return leases.get(name);
+		}
+	}
+
+	private static class MutableClock extends Clock {
+		private Instant now;
+
+		MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		synchronized void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public synchronized Instant instant() {
+			return now;
+		}
+	}
+}
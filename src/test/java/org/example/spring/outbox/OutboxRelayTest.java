@@ -0,0 +1,147 @@
+package org.example.spring.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.example.spring.domain.outbox.OutboxEvent;
+import org.example.spring.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+	@Mock
+	private OutboxEventRepository outboxEventRepository;
+
+	private final RecordingHandler handler = new RecordingHandler();
+
+	private OutboxRelay outboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		outboxRelay = new OutboxRelay(outboxEventRepository, new ObjectMapper(), List.of(handler));
+		ReflectionTestUtils.setField(outboxRelay, "batchSize", 100);
+		ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 3);
+		ReflectionTestUtils.setField(outboxRelay, "backoffBase", Duration.ofSeconds(1));
+		ReflectionTestUtils.setField(outboxRelay, "backoffMax", Duration.ofMinutes(10));
+		ReflectionTestUtils.setField(outboxRelay, "maxRun", Duration.ofMinutes(1));
+	}
+
+	@Test
+	@DisplayName("max-run 이 지나면 batch 가 가득 차 있어도 새 batch 를 시작하지 않는다")
+	void relay_stopsAfterMaxRun() {
+		// Given
+		ReflectionTestUtils.setField(outboxRelay, "batchSize", 1);
+		ReflectionTestUtils.setField(outboxRelay, "maxRun", Duration.ZERO);
+		when(outboxEventRepository.findDue(any(Timestamp.class), any(Pageable.class)))
+			.thenReturn(List.of(event(1L, "1", "a")));
+
+		// When
+		outboxRelay.relay();
+
+		// Then
+		verify(outboxEventRepository, times(1)).findDue(any(Timestamp.class), any(Pageable.class));
+		assertThat(handler.handled).containsExactly("a");
+	}
+
+	@Test
+	@DisplayName("이벤트를 순서대로 처리하고 성공한 이벤트를 한 번에 삭제한다")
+	void relayBatch_success() {
+		// When
+		int processed = outboxRelay.relayBatch(List.of(event(1L, "1", "a"), event(2L, "2", "b"), event(3L, "1", "c")));
+
+		// Then
+		assertThat(processed).isEqualTo(3);
+		assertThat(handler.handled).containsExactly("a", "b", "c");
+		verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+	}
+
+	@Test
+	@DisplayName("실패한 이벤트는 다시 예약하고 같은 aggregate 의 뒤 이벤트는 처리하지 않는다")
+	void relayBatch_failureBlocksSameAggregate() {
+		// Given
+		handler.failing = Set.of("a");
+
+		// When
+		outboxRelay.relayBatch(List.of(event(1L, "1", "a"), event(2L, "2", "b"), event(3L, "1", "c")));
+
+		// Then
+		assertThat(handler.handled).containsExactly("b");
+		verify(outboxEventRepository).reschedule(eq(1L), any(Timestamp.class), anyString());
+		verify(outboxEventRepository).deleteAllByIdInBatch(List.of(2L));
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수에 도달한 이벤트는 포기하고 삭제한다")
+	void relayBatch_maxAttempts_givesUp() {
+		// Given
+		handler.failing = Set.of("a");
+		OutboxEvent exhausted = OutboxEvent.builder()
+			.id(1L).aggregateType("Room").aggregateId("1").eventType(RecordingHandler.EVENT_TYPE)
+			.payload("\"a\"").attempts(2)
+			.build();
+
+		// When
+		outboxRelay.relayBatch(List.of(exhausted));
+
+		// Then
+		verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+		verify(outboxEventRepository, never()).reschedule(any(), any(), any());
+	}
+
+	private OutboxEvent event(Long id, String aggregateId, String payload) {
+		return OutboxEvent.builder()
+			.id(id)
+			.aggregateType("Room")
+			.aggregateId(aggregateId)
+			.eventType(RecordingHandler.EVENT_TYPE)
+			.payload("\"" + payload + "\"")
+			.build();
+	}
+
+	private static class RecordingHandler implements OutboxEventHandler<String> {
+		static final String EVENT_TYPE = "Recorded";
+
+		final List<String> handled = new ArrayList<>();
+		Set<String> failing = Set.of();
+
+		@Override
+		public String eventType() {
+			return EVENT_TYPE;
+		}
+
+		@Override
+		public Class<String> payloadType() {
+			return String.class;
+		}
+
+		@Override
+		public void handle(String payload) {
+			if (failing.contains(payload)) {
+				throw new IllegalStateException("failed: " + payload);
+			}
+			handled.add(payload);
+		}
+	}
+}
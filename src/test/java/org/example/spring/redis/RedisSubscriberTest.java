@@ -0,0 +1,100 @@
+package org.example.spring.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+
+import org.example.spring.domain.message.messageDto.MessageResponseDto;
+import org.example.spring.websocket.BoundedOutboundSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class RedisSubscriberTest {
+
+	private static final byte[] PATTERN = RedisSubscriber.ALL_ROOMS.getTopic().getBytes(StandardCharsets.UTF_8);
+
+	@Mock
+	private SimpMessageSendingOperations messagingTemplate;
+
+	private final ChatMessageSerializer serializer = new ChatMessageSerializer(new ObjectMapper());
+
+	private RedisSubscriber redisSubscriber;
+
+	@BeforeEach
+	void setUp() {
+		redisSubscriber = new RedisSubscriber(messagingTemplate);
+	}
+
+	@Test
+	@DisplayName("패턴 구독으로 받은 본문을 다시 파싱하지 않고 채널의 채팅방 STOMP 목적지로 전달한다")
+	void onMessage_forwardsBodyByChannel() {
+		// Given
+		byte[] body = serializer.serialize(MessageResponseDto.builder()
+			.messageRoomId(42L)
+			.messageId(7L)
+			.messageContent("안녕하세요")
+			.build());
+
+		// When
+		redisSubscriber.onMessage(message(RedisSubscriber.topicOf(42L).getTopic(), body), PATTERN);
+
+		// Then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+		verify(messagingTemplate).send(eq("/sub/room/42"), captor.capture());
+		assertThat((byte[]) captor.getValue().getPayload()).isEqualTo(body);
+		assertThat(captor.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE))
+			.isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+		assertThat(serializer.deserialize(body).getMessageContent()).isEqualTo("안녕하세요");
+	}
+
+	@Test
+	@DisplayName("coalesce key 가 붙은 채널은 key 를 STOMP 헤더로 붙여 같은 채팅방 목적지로 전달한다")
+	void onMessage_coalesceKeyFromChannel() {
+		// Given
+		byte[] body = "{\"type\":\"READ\"}".getBytes(StandardCharsets.UTF_8);
+
+		// When
+		redisSubscriber.onMessage(message(RedisSubscriber.topicOf(42L, "read:7").getTopic(), body), PATTERN);
+
+		// Then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+		verify(messagingTemplate).send(eq("/sub/room/42"), captor.capture());
+		assertThat(SimpMessageHeaderAccessor.wrap(captor.getValue())
+			.getFirstNativeHeader(BoundedOutboundSession.COALESCE_HEADER)).isEqualTo("read:7");
+	}
+
+	@Test
+	@DisplayName("패턴에 걸렸지만 채팅방 id 가 숫자가 아닌 채널은 무시한다")
+	void onMessage_ignoresNonRoomChannel() {
+		// When
+		redisSubscriber.onMessage(message("messageRoomPresence", "{}".getBytes(StandardCharsets.UTF_8)), PATTERN);
+
+		// Then
+		verify(messagingTemplate, never()).send(anyString(), any());
+	}
+
+	private static DefaultMessage message(String channel, byte[] body) {
+		return new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body);
+	}
+}
@@ -0,0 +1,162 @@
+package org.example.spring.repository.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.transaction.Transactional;
+import java.sql.Timestamp;
+import java.util.List;
+import org.example.spring.constants.Gender;
+import org.example.spring.domain.member.Member;
+import org.example.spring.domain.member.MemberRole;
+import org.example.spring.domain.message.Message;
+import org.example.spring.domain.message.MessageMember;
+import org.example.spring.domain.message.MessageRoom;
+import org.example.spring.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class MessageMemberRepositoryTest {
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MessageRoomRepository messageRoomRepository;
+
+    @Autowired
+    private MessageMemberRepository messageMemberRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Member me;
+    private Member other;
+    private MessageRoom messageRoom;
+
+    @BeforeEach
+    void setUp() {
+        me = memberRepository.save(member("summary1", "010-8948-6417"));
+        other = memberRepository.save(member("summary2", "010-8948-6418"));
+
+        messageRoom = messageRoomRepository.save(MessageRoom.builder().build());
+        messageMemberRepository.save(MessageMember.builder().messageRoom(messageRoom).member(me).build());
+        messageMemberRepository.save(MessageMember.builder().messageRoom(messageRoom).member(other).build());
+
+        Message mine = messageRepository.save(message(me, "안녕하세요"));
+        messageRepository.save(message(other, "네 안녕하세요"));
+        Message last = messageRepository.save(message(other, "거래 가능할까요?"));
+        messageRoomRepository.updateLastMessage(messageRoom.getId(), last.getId(), last.getCreatedAt());
+        messageMemberRepository.updateLastMessageAt(messageRoom.getId(), last.getCreatedAt());
+        messageMemberRepository.markRead(messageRoom.getId(), me.getId(), mine.getId());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("채팅방 요약에 상대 닉네임, 마지막 메시지와 그 시각이 포함된다")
+    void findRoomSummaries() {
+        // when
+        Page<MessageRoomSummary> summaries = messageMemberRepository.findRoomSummaries(me.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(summaries.getTotalElements()).isEqualTo(1);
+        MessageRoomSummary summary = summaries.getContent().get(0);
+        assertThat(summary.getMessageRoomId()).isEqualTo(messageRoom.getId());
+        assertThat(summary.getParticipantNicknames()).isEqualTo("summary2");
+        assertThat(summary.getLastMessageContent()).isEqualTo("거래 가능할까요?");
+        assertThat(summary.getLastMessageAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("메시지가 없는 채팅방은 최근 메시지가 있는 채팅방 뒤에 온다")
+    void findRoomSummaries_emptyRoomsLast() {
+        // given
+        MessageRoom emptyRoom = messageRoomRepository.save(MessageRoom.builder().build());
+        messageMemberRepository.save(MessageMember.builder().messageRoom(emptyRoom).member(me).build());
+        entityManager.flush();
+
+        // when
+        Page<MessageRoomSummary> summaries = messageMemberRepository.findRoomSummaries(me.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(summaries.getContent()).extracting(MessageRoomSummary::getMessageRoomId)
+            .containsExactly(messageRoom.getId(), emptyRoom.getId());
+    }
+
+    @Test
+    @DisplayName("참여자의 마지막 메시지 시각은 뒤로 이동하지 않는다")
+    void updateLastMessageAt_onlyMovesForward() {
+        // given
+        List<MessageMember> mine = messageMemberRepository.findByMessageRoomIdAndMemberId(messageRoom.getId(), me.getId());
+        Timestamp lastMessageAt = mine.get(0).getLastMessageAt();
+
+        // when
+        int updated = messageMemberRepository.updateLastMessageAt(messageRoom.getId(),
+            new Timestamp(lastMessageAt.getTime() - 1000));
+
+        // then
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    @DisplayName("읽은 위치는 뒤로 이동하지 않는다")
+    void markRead_onlyMovesForward() {
+        // given
+        List<MessageMember> mine = messageMemberRepository.findByMessageRoomIdAndMemberId(messageRoom.getId(), me.getId());
+        Long lastRead = mine.get(0).getLastReadMessageId();
+
+        // when
+        int updated = messageMemberRepository.markRead(messageRoom.getId(), me.getId(), lastRead - 1);
+
+        // then
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    @DisplayName("채팅방별 안 읽은 수는 내가 보낸 메시지와 이미 읽은 메시지를 제외한다")
+    void findUnreadCounts() {
+        // when
+        List<MessageRoomUnreadCount> unreadCounts = messageMemberRepository.findUnreadCounts(me.getId());
+
+        // then
+        assertThat(unreadCounts).singleElement().satisfies(unread -> {
+            assertThat(unread.getMessageRoomId()).isEqualTo(messageRoom.getId());
+            assertThat(unread.getUnreadCount()).isEqualTo(2);
+        });
+        assertThat(messageMemberRepository.findMemberIdsByMessageRoomId(messageRoom.getId()))
+            .containsExactlyInAnyOrder(me.getId(), other.getId());
+    }
+
+    private static Member member(String nickname, String phoneNumber) {
+        return Member.builder()
+            .email(nickname + "@example.com")
+            .password("Password7!")
+            .nickname(nickname)
+            .name(nickname)
+            .phoneNumber(phoneNumber)
+            .gender(Gender.MALE)
+            .role(MemberRole.USER)
+            .build();
+    }
+
+    private Message message(Member sender, String content) {
+        return Message.builder()
+            .messageContent(content)
+            .member(sender)
+            .messageRoom(messageRoom)
+            .build();
+    }
+}
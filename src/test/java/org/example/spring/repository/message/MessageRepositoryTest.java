@@ -0,0 +1,138 @@
+package org.example.spring.repository.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import jakarta.transaction.Transactional;
+import java.sql.Timestamp;
+import java.util.List;
+import org.example.spring.constants.Gender;
+import org.example.spring.domain.member.Member;
+import org.example.spring.domain.member.MemberRole;
+import org.example.spring.domain.message.Message;
+import org.example.spring.domain.message.MessageRoom;
+import org.example.spring.repository.MemberRepository;
+import org.example.spring.repository.message.MessageBatchRepository.NewMessage;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class MessageRepositoryTest {
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MessageRoomRepository messageRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Member member;
+
+    private MessageRoom messageRoom;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+            .email("chat1@example.com")
+            .password("Password7!")
+            .nickname("chat1")
+            .name("chat1")
+            .phoneNumber("010-8948-6416")
+            .gender(Gender.MALE)
+            .role(MemberRole.USER)
+            .build();
+        memberRepository.save(member);
+
+        messageRoom = messageRoomRepository.save(MessageRoom.builder().build());
+        MessageRoom otherRoom = messageRoomRepository.save(MessageRoom.builder().build());
+
+        for (int i = 1; i <= 5; i++) {
+            messageRepository.save(Message.builder()
+                .messageContent("메시지 " + i)
+                .member(member)
+                .messageRoom(messageRoom)
+                .build());
+            messageRepository.save(Message.builder()
+                .messageContent("다른 방 메시지 " + i)
+                .member(member)
+                .messageRoom(otherRoom)
+                .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("before 이전의 메시지를 최신순으로 한 페이지만 조회하고 보낸 회원을 함께 로딩한다")
+    void findHistoryBefore() {
+        // when
+        List<Message> firstPage = messageRepository.findHistoryBefore(messageRoom.getId(), Long.MAX_VALUE,
+            PageRequest.of(0, 2));
+        List<Message> secondPage = messageRepository.findHistoryBefore(messageRoom.getId(),
+            firstPage.get(firstPage.size() - 1).getId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).extracting(Message::getMessageContent).containsExactly("메시지 5", "메시지 4");
+        assertThat(secondPage).extracting(Message::getMessageContent).containsExactly("메시지 3", "메시지 2");
+        assertThat(Hibernate.isInitialized(firstPage.get(0).getMember())).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막 메시지는 더 최근 메시지로만 갱신된다")
+    void updateLastMessage() {
+        // given
+        List<Message> latest = messageRepository.findHistoryBefore(messageRoom.getId(), Long.MAX_VALUE,
+            PageRequest.of(0, 2));
+        Message newest = latest.get(0);
+        Message older = latest.get(1);
+
+        // when
+        int first = messageRoomRepository.updateLastMessage(messageRoom.getId(), newest.getId(), newest.getCreatedAt());
+        int stale = messageRoomRepository.updateLastMessage(messageRoom.getId(), older.getId(), older.getCreatedAt());
+        entityManager.clear();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(stale).isZero();
+        MessageRoom found = messageRoomRepository.findById(messageRoom.getId()).orElseThrow();
+        assertThat(found.getLastMessageId()).isEqualTo(newest.getId());
+        assertThat(found.getLastMessageAt()).isEqualTo(newest.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("여러 메시지를 한 번에 저장하고 넣은 순서대로 증가하는 id 를 돌려준다")
+    void insertAll() {
+        // given
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<NewMessage> rows = List.of(
+            new NewMessage(messageRoom.getId(), member.getId(), "묶음 1", now),
+            new NewMessage(messageRoom.getId(), member.getId(), "묶음 2", now),
+            new NewMessage(messageRoom.getId(), member.getId(), "묶음 3", now));
+
+        // when
+        List<Long> ids = messageRepository.insertAll(rows);
+
+        // then
+        assertThat(ids).hasSize(3).isSorted();
+        assertThat(messageRepository.findHistoryBefore(messageRoom.getId(), Long.MAX_VALUE, PageRequest.of(0, 3)))
+            .extracting(Message::getId, Message::getMessageContent)
+            .containsExactly(
+                tuple(ids.get(2), "묶음 3"),
+                tuple(ids.get(1), "묶음 2"),
+                tuple(ids.get(0), "묶음 1"));
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.spring.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import org.example.spring.domain.mail.EmailOutbox;
+import org.example.spring.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 로컬 SMTP stub 으로 배치 발송, 부분 실패, 서버 장애를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+
+	@Mock
+	private EmailOutboxRepository emailOutboxRepository;
+
+	private SmtpStubServer smtpServer;
+
+	@AfterEach
+	void tearDown() throws IOException {
+		if (smtpServer != null) {
+			smtpServer.close();
+		}
+	}
+
+	@Test
+	@DisplayName("배치의 메일을 하나의 SMTP 연결로 발송하고 outbox 에서 삭제한다")
+	void dispatch_batchUsesOneConnection() throws IOException {
+		// Given
+		smtpServer = new SmtpStubServer(Set.of());
+		EmailDispatcher dispatcher = createDispatcher(smtpServer.getPort());
+		List<EmailOutbox> batch = List.of(outbox(1L, "a@example.com", 0), outbox(2L, "b@example.com", 0),
+			outbox(3L, "c@example.com", 0));
+
+		// When
+		dispatcher.dispatch(batch);
+
+		// Then
+		assertThat(smtpServer.getConnections()).isEqualTo(1);
+		assertThat(smtpServer.getReceived()).extracting(SmtpStubServer.ReceivedMail::recipient)
+			.containsExactlyInAnyOrder("a@example.com", "b@example.com", "c@example.com");
+		verify(emailOutboxRepository).deleteByIdAndVersion(1L, 0);
+		verify(emailOutboxRepository).deleteByIdAndVersion(2L, 0);
+		verify(emailOutboxRepository).deleteByIdAndVersion(3L, 0);
+	}
+
+	@Test
+	@DisplayName("거부된 수신자의 메일만 백오프 후 다시 예약한다")
+	void dispatch_partialFailure_reschedulesFailedOnly() throws IOException {
+		// Given
+		smtpServer = new SmtpStubServer(Set.of("bad@example.com"));
+		EmailDispatcher dispatcher = createDispatcher(smtpServer.getPort());
+		long before = System.currentTimeMillis();
+
+		// When
+		dispatcher.dispatch(List.of(outbox(1L, "a@example.com", 0), outbox(2L, "bad@example.com", 0)));
+
+		// Then
+		verify(emailOutboxRepository).deleteByIdAndVersion(1L, 0);
+		ArgumentCaptor<Timestamp> nextAttemptAt = ArgumentCaptor.forClass(Timestamp.class);
+		verify(emailOutboxRepository).reschedule(eq(2L), eq(0), nextAttemptAt.capture(), anyString());
+		assertThat(nextAttemptAt.getValue().getTime() - before).isBetween(30_000L, 61_000L);
+	}
+
+	@Test
+	@DisplayName("SMTP 서버에 연결할 수 없으면 배치 전체를 다시 예약한다")
+	void dispatch_serverDown_reschedulesAll() throws IOException {
+		// Given
+		SmtpStubServer stopped = new SmtpStubServer(Set.of());
+		int port = stopped.getPort();
+		stopped.close();
+		EmailDispatcher dispatcher = createDispatcher(port);
+
+		// When
+		dispatcher.dispatch(List.of(outbox(1L, "a@example.com", 0), outbox(2L, "b@example.com", 0)));
+
+		// Then
+		verify(emailOutboxRepository).reschedule(eq(1L), eq(0), any(Timestamp.class), anyString());
+		verify(emailOutboxRepository).reschedule(eq(2L), eq(0), any(Timestamp.class), anyString());
+		verify(emailOutboxRepository, never()).deleteByIdAndVersion(anyLong(), anyInt());
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수에 도달한 메일은 포기하고 삭제한다")
+	void dispatch_maxAttempts_givesUp() throws IOException {
+		// Given
+		smtpServer = new SmtpStubServer(Set.of("bad@example.com"));
+		EmailDispatcher dispatcher = createDispatcher(smtpServer.getPort());
+
+		// When
+		dispatcher.dispatch(List.of(outbox(1L, "bad@example.com", 2)));
+
+		// Then
+		verify(emailOutboxRepository).deleteByIdAndVersion(1L, 0);
+		verify(emailOutboxRepository, never()).reschedule(anyLong(), anyInt(), any(), anyString());
+	}
+
+	@Test
+	@DisplayName("max-run 이 지나면 배치가 가득 차 있어도 새 배치를 시작하지 않는다")
+	void dispatchPending_stopsAfterMaxRun() throws IOException {
+		// Given
+		smtpServer = new SmtpStubServer(Set.of());
+		EmailDispatcher dispatcher = createDispatcher(smtpServer.getPort());
+		ReflectionTestUtils.setField(dispatcher, "batchSize", 1);
+		ReflectionTestUtils.setField(dispatcher, "maxRun", Duration.ZERO);
+		when(emailOutboxRepository.findDue(any(Timestamp.class), any(Pageable.class)))
+			.thenReturn(List.of(outbox(1L, "a@example.com", 0)));
+
+		// When
+		dispatcher.dispatchPending();
+
+		// Then
+		verify(emailOutboxRepository, times(1)).findDue(any(Timestamp.class), any(Pageable.class));
+		assertThat(smtpServer.getReceived()).hasSize(1);
+	}
+
+	private EmailDispatcher createDispatcher(int port) {
+		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+		mailSender.setHost("127.0.0.1");
+		mailSender.setPort(port);
+		Properties properties = new Properties();
+		properties.put("mail.smtp.from", "noreply@example.com");
+		properties.put("mail.smtp.connectiontimeout", "1000");
+		properties.put("mail.smtp.timeout", "1000");
+		mailSender.setJavaMailProperties(properties);
+
+		EmailDispatcher dispatcher = new EmailDispatcher(emailOutboxRepository, mailSender);
+		ReflectionTestUtils.setField(dispatcher, "batchSize", 50);
+		ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+		ReflectionTestUtils.setField(dispatcher, "backoffBase", Duration.ofMinutes(1));
+		ReflectionTestUtils.setField(dispatcher, "backoffMax", Duration.ofHours(1));
+		ReflectionTestUtils.setField(dispatcher, "maxRun", Duration.ofMinutes(1));
+		return dispatcher;
+	}
+
+	private EmailOutbox outbox(Long id, String recipient, int attempts) {
+		return EmailOutbox.builder()
+			.id(id)
+			.dedupeKey("verify:" + recipient)
+			.recipient(recipient)
+			.subject("Play_Baseball 이메일 인증")
+			.body("다음 링크를 클릭하여 이메일을 인증하세요: http://localhost/verify-email?token=t")
+			.attempts(attempts)
+			.build();
+	}
+}
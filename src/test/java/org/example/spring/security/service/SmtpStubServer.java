@@ -0,0 +1,111 @@
+package org.example.spring.security.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 최소 SMTP 서버입니다. 받은 메일과 연결 수를 기록하며, 지정한 수신자는 550 으로 거부합니다.
+ */
+class SmtpStubServer implements AutoCloseable {
+
+	record ReceivedMail(String recipient, String data) {
+	}
+
+	private final ServerSocket serverSocket;
+	private final Set<String> rejectedRecipients;
+	private final AtomicInteger connections = new AtomicInteger();
+	private final List<ReceivedMail> received = new CopyOnWriteArrayList<>();
+
+	SmtpStubServer(Set<String> rejectedRecipients) throws IOException {
+		this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		this.rejectedRecipients = rejectedRecipients;
+		Thread.ofVirtual().name("smtp-stub").start(this::acceptLoop);
+	}
+
+	int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	int getConnections() {
+		return connections.get();
+	}
+
+	List<ReceivedMail> getReceived() {
+		return received;
+	}
+
+	private void acceptLoop() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				connections.incrementAndGet();
+				Thread.ofVirtual().start(() -> handle(socket));
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void handle(Socket socket) {
+		try (socket;
+			 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+			 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+			reply(out, "220 localhost SMTP stub");
+			String recipient = null;
+			String line;
+			while ((line = in.readLine()) != null) {
+				String command = line.toUpperCase();
+				if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+					reply(out, "250 localhost");
+				} else if (command.startsWith("MAIL FROM")) {
+					recipient = null;
+					reply(out, "250 OK");
+				} else if (command.startsWith("RCPT TO")) {
+					String address = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+					if (rejectedRecipients.contains(address)) {
+						reply(out, "550 No such user");
+					} else {
+						recipient = address;
+						reply(out, "250 OK");
+					}
+				} else if (command.equals("DATA")) {
+					reply(out, "354 End data with <CR><LF>.<CR><LF>");
+					StringBuilder data = new StringBuilder();
+					while ((line = in.readLine()) != null && !line.equals(".")) {
+						data.append(line).append('\n');
+					}
+					received.add(new ReceivedMail(recipient, data.toString()));
+					reply(out, "250 OK");
+				} else if (command.startsWith("QUIT")) {
+					reply(out, "221 Bye");
+					return;
+				} else {
+					// RSET, NOOP 등
+					reply(out, "250 OK");
+				}
+			}
+		} catch (IOException ignored) {
+			// 클라이언트가 연결을 끊은 경우
+		}
+	}
+
+	private void reply(PrintWriter out, String line) {
+		out.print(line + "\r\n");
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+}
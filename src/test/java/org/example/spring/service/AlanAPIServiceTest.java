@@ -0,0 +1,169 @@
+package org.example.spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.example.spring.common.PerHostConcurrencyInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 로컬 HTTP stub 서버로 Alan 응답과 시간 초과를 검증합니다.
+ */
+class AlanAPIServiceTest {
+
+	private HttpServer server;
+	private AlanAPIService alanAPIService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.start();
+
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+			.connectTimeout(Duration.ofMillis(500))
+			.build());
+		requestFactory.setReadTimeout(Duration.ofMillis(500));
+		alanAPIService = new AlanAPIService(new RestTemplateBuilder()
+			.requestFactory(() -> requestFactory)
+			.additionalInterceptors(new PerHostConcurrencyInterceptor(1, Duration.ofMillis(100), null))
+			.build(), new ObjectMapper());
+		ReflectionTestUtils.setField(alanAPIService, "host", "http://127.0.0.1:" + server.getAddress().getPort());
+		ReflectionTestUtils.setField(alanAPIService, "client_id", "test-client");
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	@DisplayName("응답의 content 를 정가로 변환한다")
+	void fetchRegularPrice_success() {
+		// Given
+		respond(0, "{\"action\":{\"name\":\"search\"},\"content\":\" 129000 \"}");
+
+		// When
+		int regularPrice = alanAPIService.fetchRegularPrice("야구 글러브");
+
+		// Then
+		assertThat(regularPrice).isEqualTo(129000);
+	}
+
+	@Test
+	@DisplayName("숫자가 아닌 답변은 NumberFormatException 을 던진다")
+	void fetchRegularPrice_nonNumeric() {
+		// Given
+		respond(0, "{\"content\":\"알 수 없습니다\"}");
+
+		// When & Then
+		assertThatThrownBy(() -> alanAPIService.fetchRegularPrice("야구 글러브"))
+			.isInstanceOf(NumberFormatException.class);
+	}
+
+	@Test
+	@DisplayName("응답이 read timeout 보다 늦으면 호출이 끊긴다")
+	void fetchRegularPrice_readTimeout() {
+		// Given
+		respond(2000, "{\"content\":\"129000\"}");
+
+		// When & Then
+		assertThatThrownBy(() -> alanAPIService.fetchRegularPrice("야구 글러브"))
+			.isInstanceOf(ResourceAccessException.class);
+	}
+
+	@Test
+	@DisplayName("content 앞에 큰 필드가 있어도 건너뛰고 content 를 읽는다")
+	void fetchRegularPrice_skipsNestedFields() {
+		// Given
+		respond(0, "{\"action\":{\"name\":\"search\",\"sources\":[{\"url\":\"a\"},{\"url\":\"b\"}]},"
+			+ "\"content\":\"59000\"}");
+
+		// When
+		int regularPrice = alanAPIService.fetchRegularPrice("배트");
+
+		// Then
+		assertThat(regularPrice).isEqualTo(59000);
+	}
+
+	@Test
+	@DisplayName("호스트별 동시 요청 한도를 넘으면 대기 후 실패한다")
+	void fetchRegularPrice_perHostLimit() throws Exception {
+		// Given
+		respond(300, "{\"content\":\"129000\"}");
+		Thread slow = Thread.ofVirtual().start(() -> alanAPIService.fetchRegularPrice("야구 글러브"));
+		Thread.sleep(50);
+
+		// When & Then
+		assertThatThrownBy(() -> alanAPIService.fetchRegularPrice("야구 글러브"))
+			.isInstanceOf(ResourceAccessException.class)
+			.hasMessageContaining("Too many concurrent requests");
+		slow.join();
+	}
+
+	@Test
+	@DisplayName("응답 본문을 읽는 동안에도 슬롯을 점유하고, 다 읽은 뒤에 반환한다")
+	void fetchRegularPrice_permitHeldWhileStreaming() throws Exception {
+		// Given: 헤더는 바로 보내고 본문은 늦게 보내는 응답
+		server.createContext("/api/v1/question", exchange -> {
+			try {
+				byte[] bytes = "{\"content\":\"129000\"}".getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().add("Content-Type", "application/json");
+				exchange.sendResponseHeaders(200, bytes.length);
+				Thread.sleep(300);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(bytes);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				exchange.close();
+			}
+		});
+		Thread streaming = Thread.ofVirtual().start(() -> alanAPIService.fetchRegularPrice("야구 글러브"));
+		Thread.sleep(100);
+
+		// When & Then
+		assertThatThrownBy(() -> alanAPIService.fetchRegularPrice("야구 글러브"))
+			.isInstanceOf(ResourceAccessException.class)
+			.hasMessageContaining("Too many concurrent requests");
+		streaming.join();
+		assertThat(alanAPIService.fetchRegularPrice("야구 글러브")).isEqualTo(129000);
+	}
+
+	private void respond(long delayMillis, String body) {
+		server.createContext("/api/v1/question", exchange -> {
+			try {
+				Thread.sleep(delayMillis);
+				byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().add("Content-Type", "application/json");
+				exchange.sendResponseHeaders(200, bytes.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(bytes);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (IOException ignored) {
+				// 클라이언트가 시간 초과로 연결을 끊은 경우
+			} finally {
+				exchange.close();
+			}
+		});
+	}
+}
@@ -0,0 +1,112 @@
+package org.example.spring.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.spring.domain.blob.StoredBlob;
+import org.example.spring.repository.StoredBlobRepository;
+import org.example.spring.storage.BlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BlobReferenceServiceTest {
+
+	private static final String KEY = "images/abc.jpg";
+
+	@Mock
+	private StoredBlobRepository storedBlobRepository;
+
+	@Mock
+	private BlobStore blobStore;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@InjectMocks
+	private BlobReferenceService blobReferenceService;
+
+	private final Timestamp longAgo = new Timestamp(System.currentTimeMillis() - Duration.ofDays(1).toMillis());
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(blobReferenceService, "gracePeriod", Duration.ofHours(1));
+		ReflectionTestUtils.setField(blobReferenceService, "batchSize", 100);
+	}
+
+	@Test
+	@DisplayName("참조가 없고 유예 기간이 지난 객체는 변환본과 함께 삭제한다")
+	void sweep_deletesUnreferencedBlob() throws IOException {
+		// Given
+		StoredBlob blob = StoredBlob.builder().id(1L).blobKey(KEY).refCount(0).updatedAt(longAgo).build();
+		givenCandidates(blob);
+
+		// When
+		blobReferenceService.sweepUnreferencedBlobs();
+
+		// Then
+		verify(blobStore).delete(KEY);
+		verify(blobStore).deleteByPrefix("variants/" + KEY + "_");
+		verify(storedBlobRepository).delete(blob);
+	}
+
+	@Test
+	@DisplayName("잠금 이후 다시 확인했을 때 참조가 생긴 객체는 삭제하지 않는다")
+	void sweep_skipsBlobReferencedInMeantime() throws IOException {
+		// Given
+		StoredBlob blob = StoredBlob.builder().id(1L).blobKey(KEY).refCount(1).updatedAt(longAgo).build();
+		givenCandidates(blob);
+
+		// When
+		blobReferenceService.sweepUnreferencedBlobs();
+
+		// Then
+		verify(blobStore, never()).delete(anyString());
+		verify(storedBlobRepository, never()).delete(any(StoredBlob.class));
+	}
+
+	@Test
+	@DisplayName("row 가 없는 이전 객체는 참조 해제 시 삭제하지 않고 남은 이미지 row 수로 등록한다")
+	void release_adoptsUntrackedBlob() {
+		// Given
+		when(storedBlobRepository.decrementRefCount(eq(KEY), any())).thenReturn(1);
+		when(storedBlobRepository.decrementRefCount(eq("legacy.jpg"), any())).thenReturn(0);
+		when(blobStore.urlOf("legacy.jpg")).thenReturn("https://resource.test/legacy.jpg");
+
+		// When
+		blobReferenceService.release(List.of(KEY, "legacy.jpg"));
+
+		// Then
+		verify(storedBlobRepository).upsert(eq("legacy.jpg"), eq("https://resource.test/legacy.jpg"),
+			any(Timestamp.class));
+		verify(storedBlobRepository, never()).upsert(eq(KEY), anyString(), any(Timestamp.class));
+		verify(blobStore, never()).delete(anyString());
+	}
+
+	private void givenCandidates(StoredBlob blob) {
+		when(storedBlobRepository.findSweepCandidates(any(Timestamp.class), any(Pageable.class)))
+			.thenReturn(List.of(blob.getId()));
+		when(storedBlobRepository.findByIdForUpdate(blob.getId())).thenReturn(Optional.of(blob));
+		when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+			invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+}
@@ -0,0 +1,110 @@
+package org.example.spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.example.spring.storage.LocalBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 로컬 저장소를 사용해 실제 파일 기준으로 저장/중복 제거/삭제를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BlobStorageServiceTest {
+
+	private static final String BASE_URL = "http://localhost:8080/uploads";
+
+	@TempDir
+	Path root;
+
+	@Mock
+	private BlobReferenceService blobReferenceService;
+
+	private BlobStorageService blobStorageService;
+
+	@BeforeEach
+	void setUp() {
+		blobStorageService = new BlobStorageService(new LocalBlobStore(root, BASE_URL), blobReferenceService);
+	}
+
+	@Test
+	@DisplayName("같은 내용의 파일은 파일명이 달라도 하나의 객체로 저장된다")
+	void store_deduplicatesSameContent() throws IOException {
+		// Given
+		byte[] content = {10, 20, 30};
+		MockMultipartFile first = new MockMultipartFile("images", "photo.JPG", "image/jpeg", content);
+		MockMultipartFile second = new MockMultipartFile("images", "copy of photo.jpg", "image/jpeg", content);
+
+		// When
+		String firstUrl = blobStorageService.store(first);
+		String secondUrl = blobStorageService.store(second);
+
+		// Then
+		assertThat(firstUrl).isEqualTo(secondUrl).startsWith(BASE_URL + "/images/").endsWith(".jpg");
+		try (Stream<Path> files = Files.list(root.resolve("images"))) {
+			assertThat(files).hasSize(1);
+		}
+		// 두 번 모두 등록되어 sweeper 유예 기간이 갱신됨
+		verify(blobReferenceService, times(2))
+			.register(firstUrl.substring(BASE_URL.length() + 1));
+	}
+
+	@Test
+	@DisplayName("내용이 다르면 다른 객체로 저장된다")
+	void store_differentContent() throws IOException {
+		String firstUrl = blobStorageService.store(new MockMultipartFile("images", "a.png", "image/png", new byte[] {1}));
+		String secondUrl = blobStorageService.store(new MockMultipartFile("images", "a.png", "image/png", new byte[] {2}));
+
+		assertThat(firstUrl).isNotEqualTo(secondUrl);
+	}
+
+	@Test
+	@DisplayName("변환본은 원본 key 에 접미사를 붙여 저장하고, 같은 원본으로 다시 찾을 수 있다")
+	void storeVariant() throws IOException {
+		// Given
+		String originalUrl = blobStorageService.store(
+			new MockMultipartFile("images", "a.png", "image/png", new byte[] {1}));
+		assertThat(blobStorageService.findVariant(originalUrl, "w320", "jpg")).isNull();
+
+		// When
+		String variantUrl = blobStorageService.storeVariant(originalUrl, "w320", new byte[] {7}, "jpg", "image/jpeg");
+
+		// Then
+		assertThat(variantUrl).startsWith(BASE_URL + "/variants/images/").endsWith(".png_w320.jpg");
+		assertThat(blobStorageService.findVariant(originalUrl, "w320", "jpg")).isEqualTo(variantUrl);
+		try (InputStream in = blobStorageService.open(variantUrl)) {
+			assertThat(in.readAllBytes()).containsExactly(7);
+		}
+	}
+
+	@Test
+	@DisplayName("참조를 해제해도 객체를 바로 삭제하지 않고 참조 수만 줄인다")
+	void release_keepsBlob() throws IOException {
+		// Given
+		String url = blobStorageService.store(new MockMultipartFile("images", "a.png", "image/png", new byte[] {1}));
+
+		// When
+		blobStorageService.release(List.of(url));
+
+		// Then
+		try (Stream<Path> files = Files.list(root.resolve("images"))) {
+			assertThat(files).hasSize(1);
+		}
+		verify(blobReferenceService).release(List.of(url.substring(BASE_URL.length() + 1)));
+	}
+}
@@ -0,0 +1,125 @@
+package org.example.spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.example.spring.domain.message.messageDto.MessagePresenceDto;
+import org.example.spring.exception.MessageException;
+import org.example.spring.redis.RoomBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPresenceServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final Long ME = 7L;
+	private static final Duration ONLINE_TTL = Duration.ofSeconds(30);
+	private static final Duration BROADCAST_INTERVAL = Duration.ofSeconds(1);
+	private static final String LOCK_KEY = "chat:presence-lock:" + ROOM_ID;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private MessageReadService messageReadService;
+
+	@Mock
+	private RoomBroadcaster roomBroadcaster;
+
+	private ChatPresenceService chatPresenceService;
+
+	@BeforeEach
+	void setUp() {
+		chatPresenceService = new ChatPresenceService(redisTemplate, messageReadService, roomBroadcaster);
+		ReflectionTestUtils.setField(chatPresenceService, "onlineTtl", ONLINE_TTL);
+		ReflectionTestUtils.setField(chatPresenceService, "typingTtl", Duration.ofSeconds(5));
+		ReflectionTestUtils.setField(chatPresenceService, "broadcastInterval", BROADCAST_INTERVAL);
+	}
+
+	@Test
+	@DisplayName("처음 접속하면 다음 broadcast 에서 한 번만 보내고, 상태가 그대로면 다시 보내지 않는다")
+	void heartbeat_broadcastsOnlyOnChange() {
+		// Given
+		String onlineKey = "chat:online:" + ROOM_ID + ":" + ME;
+		when(messageReadService.isMember(ROOM_ID, ME)).thenReturn(true);
+		when(messageReadService.roomMembers(ROOM_ID)).thenReturn(Set.of(ME));
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(onlineKey, "1", ONLINE_TTL)).thenReturn(true, false);
+		when(valueOperations.setIfAbsent(LOCK_KEY, "1", BROADCAST_INTERVAL)).thenReturn(true);
+		when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("1", null));
+
+		// When
+		chatPresenceService.heartbeat(ME, "session-1", ROOM_ID);
+		chatPresenceService.broadcastChanges();
+		chatPresenceService.heartbeat(ME, "session-1", ROOM_ID);
+		chatPresenceService.broadcastChanges();
+
+		// Then
+		ArgumentCaptor<Object> presence = ArgumentCaptor.forClass(Object.class);
+		verify(roomBroadcaster, times(1)).broadcast(eq(ROOM_ID), presence.capture(), eq("presence"));
+		assertThat((MessagePresenceDto)presence.getValue())
+			.extracting(MessagePresenceDto::getType, MessagePresenceDto::getOnlineMemberIds,
+				MessagePresenceDto::getTypingMemberIds)
+			.containsExactly(MessagePresenceDto.TYPE, List.of(ME), List.of());
+		verify(redisTemplate).expire(onlineKey, ONLINE_TTL);
+	}
+
+	@Test
+	@DisplayName("이번 interval 에 다른 노드가 먼저 보냈으면 보내지 않고, 다음 broadcast 에서 다시 확인한다")
+	void broadcastChanges_anotherNodeHoldsRoomLock() {
+		// Given
+		String onlineKey = "chat:online:" + ROOM_ID + ":" + ME;
+		when(messageReadService.isMember(ROOM_ID, ME)).thenReturn(true);
+		when(messageReadService.roomMembers(ROOM_ID)).thenReturn(Set.of(ME));
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(onlineKey, "1", ONLINE_TTL)).thenReturn(true);
+		when(valueOperations.setIfAbsent(LOCK_KEY, "1", BROADCAST_INTERVAL)).thenReturn(false, true);
+		when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("1", null));
+		chatPresenceService.heartbeat(ME, "session-1", ROOM_ID);
+
+		// When
+		chatPresenceService.broadcastChanges();
+		verify(roomBroadcaster, never()).broadcast(any(), any(), any());
+		chatPresenceService.broadcastChanges();
+
+		// Then
+		verify(roomBroadcaster, times(1)).broadcast(eq(ROOM_ID), any(MessagePresenceDto.class), eq("presence"));
+	}
+
+	@Test
+	@DisplayName("참여하지 않은 채팅방에는 접속 중으로 표시할 수 없다")
+	void heartbeat_notMember() {
+		// Given
+		when(messageReadService.isMember(ROOM_ID, ME)).thenReturn(false);
+
+		// When & Then
+		assertThatThrownBy(() -> chatPresenceService.heartbeat(ME, "session-1", ROOM_ID))
+			.isInstanceOf(MessageException.class);
+		verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+	}
+}
@@ -0,0 +1,195 @@
+package org.example.spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.spring.common.FanOutExecutor;
+import org.example.spring.constants.SalesStatus;
+import org.example.spring.domain.exchange.Exchange;
+import org.example.spring.domain.exchange.dto.ExchangeModifyRequestDto;
+import org.example.spring.domain.exchange.dto.ExchangeResponseDto;
+import org.example.spring.domain.exchangeImage.ExchangeImage;
+import org.example.spring.domain.exchangeImage.dto.ExchangeImageOrderDto;
+import org.example.spring.domain.member.Member;
+import org.example.spring.repository.ExchangeImageRepository;
+import org.example.spring.repository.ExchangeLikeRepository;
+import org.example.spring.repository.ExchangeRepository;
+import org.example.spring.repository.LikeOverviewRepository;
+import org.example.spring.repository.ReviewOverviewRepository;
+import org.example.spring.security.jwt.JwtTokenValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeServiceModifyImageTest {
+
+	@Mock
+	private ExchangeRepository exchangeRepository;
+	@Mock
+	private ExchangeImageRepository exchangeImageRepository;
+	@Mock
+	private ExchangeLikeRepository exchangeLikeRepository;
+	@Mock
+	private JwtTokenValidator jwtTokenValidator;
+	@Mock
+	private ImageUploadService imageUploadService;
+	@Mock
+	private ImageVariantService imageVariantService;
+	@Mock
+	private BlobStorageService blobStorageService;
+	@Mock
+	private ReviewOverviewRepository reviewOverviewRepository;
+	@Mock
+	private LikeOverviewRepository likeOverviewRepository;
+	@Mock
+	private PriceEnrichmentService priceEnrichmentService;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+	@Mock
+	private FanOutExecutor fanOutExecutor;
+
+	private ExchangeService exchangeService;
+
+	private final MockHttpServletRequest request = new MockHttpServletRequest();
+	private Member member;
+	private Exchange exchange;
+
+	@BeforeEach
+	void setUp() {
+		exchangeService = new ExchangeService(exchangeRepository, exchangeImageRepository, exchangeLikeRepository,
+			jwtTokenValidator, imageUploadService, imageVariantService, blobStorageService, reviewOverviewRepository,
+			likeOverviewRepository, priceEnrichmentService, transactionTemplate, fanOutExecutor);
+
+		member = Member.builder().email("seller@example.com").nickname("seller").build();
+		exchange = Exchange.builder()
+			.id(1L)
+			.member(member)
+			.title("글러브")
+			.price(10000)
+			.content("내용")
+			.status(SalesStatus.SALE)
+			.images(new ArrayList<>())
+			.build();
+		exchange.addImage(image(11L, "https://resource.test/images/a.jpg", 0));
+		exchange.addImage(image(12L, "https://resource.test/images/b.jpg", 1));
+		exchange.addImage(image(13L, "https://resource.test/images/c.jpg", 2));
+
+		when(jwtTokenValidator.validateTokenAndGetMember(any())).thenReturn(member);
+		when(exchangeRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(exchange));
+	}
+
+	@Test
+	@DisplayName("기존 이미지를 모두 유지하면 업로드와 이미지 변경 없이 게시글만 수정한다")
+	void modifyExchange_keepAllImages() {
+		// Given
+		givenTransaction();
+		when(imageUploadService.uploadAll(null)).thenReturn(List.of());
+		ExchangeModifyRequestDto dto = modifyRequest(List.of(kept(11L), kept(12L), kept(13L)));
+
+		// When
+		ExchangeResponseDto response = exchangeService.modifyExchange(request, 1L, dto, null);
+
+		// Then
+		assertThat(response.getImages()).extracting("id").containsExactly(11L, 12L, 13L);
+		verify(exchangeImageRepository, never()).saveAll(anyList());
+		verify(blobStorageService, never()).release(anyList());
+	}
+
+	@Test
+	@DisplayName("빠진 이미지는 삭제하고 새 이미지만 추가하며 요청한 순서로 정렬한다")
+	void modifyExchange_diffImages() {
+		// Given
+		givenTransaction();
+		List<MultipartFile> images = List.of(new MockMultipartFile("images", "d.jpg", "image/jpeg", new byte[] {1}));
+		when(imageUploadService.uploadAll(images)).thenReturn(List.of("https://resource.test/images/d.jpg"));
+		when(exchangeImageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		ExchangeModifyRequestDto dto = modifyRequest(List.of(kept(13L), added(0), kept(11L)));
+
+		// When
+		ExchangeResponseDto response = exchangeService.modifyExchange(request, 1L, dto, images);
+
+		// Then
+		assertThat(response.getImages()).extracting("url").containsExactly(
+			"https://resource.test/images/c.jpg",
+			"https://resource.test/images/d.jpg",
+			"https://resource.test/images/a.jpg");
+		assertThat(exchange.getImages()).extracting("sortOrder").containsExactly(0, 1, 2);
+		verify(blobStorageService).acquire(List.of("https://resource.test/images/d.jpg"));
+		verify(blobStorageService).release(List.of("https://resource.test/images/b.jpg"));
+	}
+
+	@Test
+	@DisplayName("게시글에 속하지 않은 이미지 id 는 거부한다")
+	void modifyExchange_unknownImageId() {
+		// Given
+		givenTransaction();
+		when(imageUploadService.uploadAll(null)).thenReturn(List.of());
+		ExchangeModifyRequestDto dto = modifyRequest(List.of(kept(11L), kept(99L)));
+
+		// When & Then
+		assertThatThrownBy(() -> exchangeService.modifyExchange(request, 1L, dto, null))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("업로드한 이미지가 순서 목록에 없으면 업로드 전에 거부한다")
+	void modifyExchange_unusedNewImage() {
+		// Given
+		List<MultipartFile> images = List.of(new MockMultipartFile("images", "d.jpg", "image/jpeg", new byte[] {1}));
+		ExchangeModifyRequestDto dto = modifyRequest(List.of(kept(11L)));
+
+		// When & Then
+		assertThatThrownBy(() -> exchangeService.modifyExchange(request, 1L, dto, images))
+			.isInstanceOf(IllegalArgumentException.class);
+		verify(imageUploadService, never()).uploadAll(any());
+	}
+
+	private void givenTransaction() {
+		when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+			invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		when(exchangeRepository.save(any(Exchange.class))).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	private ExchangeModifyRequestDto modifyRequest(List<ExchangeImageOrderDto> imageOrder) {
+		return ExchangeModifyRequestDto.builder()
+			.title("글러브")
+			.price(9000)
+			.content("가격 인하")
+			.status(SalesStatus.SALE)
+			.imageOrder(imageOrder)
+			.build();
+	}
+
+	private ExchangeImageOrderDto kept(Long imageId) {
+		return ExchangeImageOrderDto.builder().imageId(imageId).build();
+	}
+
+	private ExchangeImageOrderDto added(int newImageIndex) {
+		return ExchangeImageOrderDto.builder().newImageIndex(newImageIndex).build();
+	}
+
+	private ExchangeImage image(Long id, String url, int sortOrder) {
+		ExchangeImage image = ExchangeImage.builder().url(url).sortOrder(sortOrder).build();
+		ReflectionTestUtils.setField(image, "id", id);
+		return image;
+	}
+}
@@ -0,0 +1,86 @@
+package org.example.spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class ImageUploadServiceTest {
+
+	@Mock
+	private BlobStorageService blobStorageService;
+
+	private ExecutorService executor;
+	private ImageUploadService imageUploadService;
+
+	private final MultipartFile first = new MockMultipartFile("images", "1.jpg", "image/jpeg", new byte[] {1});
+	private final MultipartFile second = new MockMultipartFile("images", "2.jpg", "image/jpeg", new byte[] {2});
+	private final MultipartFile third = new MockMultipartFile("images", "3.jpg", "image/jpeg", new byte[] {3});
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newFixedThreadPool(3);
+		imageUploadService = new ImageUploadService(blobStorageService, executor);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("이미지 병렬 업로드 - 요청 순서대로 url 반환")
+	void uploadAll_success() throws IOException {
+		// Given
+		when(blobStorageService.store(first)).thenReturn("https://resource/1.jpg");
+		when(blobStorageService.store(second)).thenReturn("https://resource/2.jpg");
+		when(blobStorageService.store(third)).thenReturn("https://resource/3.jpg");
+
+		// When
+		List<String> urls = imageUploadService.uploadAll(List.of(first, second, third));
+
+		// Then
+		assertThat(urls).containsExactly("https://resource/1.jpg", "https://resource/2.jpg", "https://resource/3.jpg");
+	}
+
+	@Test
+	@DisplayName("이미지 병렬 업로드 - 하나라도 실패하면 예외 (성공한 업로드는 참조되지 않아 sweeper 가 정리)")
+	void uploadAll_failure() throws IOException {
+		// Given
+		when(blobStorageService.store(first)).thenReturn("https://resource/1.jpg");
+		when(blobStorageService.store(second)).thenThrow(new IOException("storage unavailable"));
+		when(blobStorageService.store(third)).thenReturn("https://resource/3.jpg");
+
+		// When & Then
+		assertThatThrownBy(() -> imageUploadService.uploadAll(List.of(first, second, third)))
+			.isInstanceOf(RuntimeException.class)
+			.hasMessage("Image upload failed")
+			.hasCauseInstanceOf(UncheckedIOException.class);
+	}
+
+	@Test
+	@DisplayName("이미지 병렬 업로드 - 이미지가 없으면 업로드하지 않음")
+	void uploadAll_empty() throws IOException {
+		assertThat(imageUploadService.uploadAll(null)).isEmpty();
+		verify(blobStorageService, never()).store(any());
+	}
+}
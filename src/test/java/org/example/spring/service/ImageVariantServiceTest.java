@@ -0,0 +1,127 @@
+package org.example.spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.example.spring.domain.reviewImage.ReviewImage;
+import org.example.spring.repository.ExchangeImageRepository;
+import org.example.spring.repository.ReviewImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+	private static final String ORIGINAL_URL = "https://resource.test/original.png";
+
+	@Mock
+	private BlobStorageService blobStorageService;
+
+	@Mock
+	private ExchangeImageRepository exchangeImageRepository;
+
+	@Mock
+	private ReviewImageRepository reviewImageRepository;
+
+	private ImageVariantService imageVariantService;
+
+	@BeforeEach
+	void setUp() {
+		// 트랜잭션이 없으므로 바로 실행되고, 호출 스레드에서 동기로 처리
+		imageVariantService = new ImageVariantService(blobStorageService, exchangeImageRepository, reviewImageRepository,
+			Runnable::run);
+		ReflectionTestUtils.setField(imageVariantService, "thumbnailWidth", 320);
+		ReflectionTestUtils.setField(imageVariantService, "displayWidth", 1280);
+		ReflectionTestUtils.setField(imageVariantService, "quality", 0.8f);
+	}
+
+	@Test
+	@DisplayName("원본 이미지로 썸네일과 표시용 변환본을 만들고 url 을 저장한다")
+	void generateReviewImageVariants_success() throws IOException {
+		// Given
+		ReviewImage image = reviewImage(1L);
+		when(blobStorageService.open(ORIGINAL_URL)).thenReturn(new ByteArrayInputStream(png(1600, 1200)));
+		when(blobStorageService.storeVariant(eq(ORIGINAL_URL), anyString(), any(byte[].class), anyString(), anyString()))
+			.thenAnswer(invocation -> "https://resource.test/variants/" + invocation.getArgument(1));
+
+		// When
+		imageVariantService.generateReviewImageVariants(List.of(image));
+
+		// Then
+		ArgumentCaptor<byte[]> thumbnail = ArgumentCaptor.forClass(byte[].class);
+		verify(blobStorageService).storeVariant(eq(ORIGINAL_URL), eq("w320"), thumbnail.capture(), anyString(),
+			anyString());
+		BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail.getValue()));
+		assertThat(decoded.getWidth()).isEqualTo(320);
+		assertThat(decoded.getHeight()).isEqualTo(240);
+
+		verify(reviewImageRepository).updateVariants(1L, "https://resource.test/variants/w320",
+			"https://resource.test/variants/w1280");
+	}
+
+	@Test
+	@DisplayName("원본보다 큰 폭으로 확대하지 않는다")
+	void generateReviewImageVariants_doesNotUpscale() throws IOException {
+		// Given
+		ReviewImage image = reviewImage(2L);
+		when(blobStorageService.open(ORIGINAL_URL)).thenReturn(new ByteArrayInputStream(png(200, 100)));
+		when(blobStorageService.storeVariant(eq(ORIGINAL_URL), anyString(), any(byte[].class), anyString(), anyString()))
+			.thenReturn("https://resource.test/variant");
+
+		// When
+		imageVariantService.generateReviewImageVariants(List.of(image));
+
+		// Then
+		ArgumentCaptor<byte[]> display = ArgumentCaptor.forClass(byte[].class);
+		verify(blobStorageService).storeVariant(eq(ORIGINAL_URL), eq("w1280"), display.capture(), anyString(),
+			anyString());
+		assertThat(ImageIO.read(new ByteArrayInputStream(display.getValue())).getWidth()).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("이미지로 읽을 수 없는 원본은 변환본을 저장하지 않는다")
+	void generateReviewImageVariants_unsupportedFormat() throws IOException {
+		// Given
+		ReviewImage image = reviewImage(3L);
+		when(blobStorageService.open(ORIGINAL_URL)).thenReturn(new ByteArrayInputStream("not an image".getBytes()));
+
+		// When
+		imageVariantService.generateReviewImageVariants(List.of(image));
+
+		// Then
+		verify(blobStorageService, never()).storeVariant(anyString(), anyString(), any(byte[].class), anyString(),
+			anyString());
+		verify(reviewImageRepository, never()).updateVariants(any(), any(), any());
+	}
+
+	private ReviewImage reviewImage(Long id) {
+		ReviewImage image = ReviewImage.builder().url(ORIGINAL_URL).build();
+		ReflectionTestUtils.setField(image, "id", id);
+		return image;
+	}
+
+	private byte[] png(int width, int height) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,220 @@
+package org.example.spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.example.spring.domain.member.dto.MemberMessageResponseDto;
+import org.example.spring.domain.message.messageDto.MessageAckResponseDto;
+import org.example.spring.domain.message.messageDto.MessageResponseDto;
+import org.example.spring.domain.message.messageDto.MessageRetractedDto;
+import org.example.spring.redis.MessageCreatedEventHandler;
+import org.example.spring.redis.RoomBroadcaster;
+import org.example.spring.repository.message.MessageBatchRepository.NewMessage;
+import org.example.spring.repository.message.MessageMemberRepository;
+import org.example.spring.repository.message.MessageRepository;
+import org.example.spring.repository.message.MessageRoomRepository;
+import org.example.spring.service.MessageIngestService.PendingMessage;
+import org.example.spring.websocket.ChatPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MessageIngestServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final Long OTHER_ROOM_ID = 2L;
+
+	@Mock
+	private MessageRepository messageRepository;
+
+	@Mock
+	private MessageRoomRepository messageRoomRepository;
+
+	@Mock
+	private MessageMemberRepository messageMemberRepository;
+
+	@Mock
+	private MessageCreatedEventHandler messageCreatedEventHandler;
+
+	@Mock
+	private MessageReadService messageReadService;
+
+	@Mock
+	private RoomBroadcaster roomBroadcaster;
+
+	@Mock
+	private SimpMessageSendingOperations messagingTemplate;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private MessageIngestService messageIngestService;
+
+	@BeforeEach
+	void setUp() {
+		messageIngestService = new MessageIngestService(messageRepository, messageRoomRepository,
+			messageMemberRepository, messageCreatedEventHandler, messageReadService, roomBroadcaster, messagingTemplate,
+			transactionTemplate);
+		lenient().when(transactionTemplate.execute(any())).thenAnswer(
+			invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	@Test
+	@DisplayName("배치를 먼저 전달한 뒤 한 번에 저장하고, 방마다 마지막 메시지를 한 번 갱신한 다음 보낸 사람에게 ack 를 보낸다")
+	void process_fanOutThenGroupCommit() {
+		// Given
+		PendingMessage first = pending(7L, ROOM_ID, "안녕하세요", "c-1");
+		PendingMessage second = pending(8L, OTHER_ROOM_ID, "반갑습니다", "c-2");
+		PendingMessage third = pending(7L, ROOM_ID, "글러브 팔렸나요?", "c-3");
+		when(messageRepository.insertAll(anyList())).thenReturn(List.of(101L, 102L, 103L));
+
+		// When
+		messageIngestService.process(List.of(first, second, third));
+
+		// Then
+		InOrder inOrder = inOrder(messageCreatedEventHandler, messageRepository, messageRoomRepository,
+			messagingTemplate);
+		inOrder.verify(messageCreatedEventHandler).handle(first.message());
+		inOrder.verify(messageCreatedEventHandler).handle(second.message());
+		inOrder.verify(messageCreatedEventHandler).handle(third.message());
+		inOrder.verify(messageRepository).insertAll(List.of(row(first), row(second), row(third)));
+		inOrder.verify(messageRoomRepository).updateLastMessage(ROOM_ID, 103L, third.message().getCreatedAt());
+		inOrder.verify(messageRoomRepository).updateLastMessage(OTHER_ROOM_ID, 102L, second.message().getCreatedAt());
+		inOrder.verify(messagingTemplate, times(3))
+			.convertAndSendToUser(any(), eq(MessageIngestService.ACK_DESTINATION), any(Object.class));
+		verify(messageMemberRepository).updateLastMessageAt(ROOM_ID, third.message().getCreatedAt());
+		verify(messageMemberRepository).updateLastMessageAt(OTHER_ROOM_ID, second.message().getCreatedAt());
+
+		ArgumentCaptor<Object> acks = ArgumentCaptor.forClass(Object.class);
+		verify(messagingTemplate, times(2)).convertAndSendToUser(eq("7"), any(), acks.capture());
+		assertThat(acks.getAllValues()).map(MessageAckResponseDto.class::cast)
+			.extracting(MessageAckResponseDto::getClientMessageId, MessageAckResponseDto::getMessageId)
+			.containsExactly(tuple("c-1", 101L), tuple("c-3", 103L));
+		verify(messageReadService).onMessagesSaved(ROOM_ID, List.of(7L, 7L), 103L);
+		verify(messageReadService).onMessagesSaved(OTHER_ROOM_ID, List.of(8L), 102L);
+	}
+
+	@Test
+	@DisplayName("배치 저장이 실패하면 하나씩 다시 저장해 문제가 된 메시지만 실패 ack 를 받고 채팅방에 취소를 알린다")
+	void process_batchFailureFallsBackToSingleInserts() {
+		// Given
+		PendingMessage valid = pending(7L, ROOM_ID, "안녕하세요", "c-1");
+		PendingMessage deletedRoom = pending(8L, 99L, "없는 방", "c-2");
+		when(messageRepository.insertAll(List.of(row(valid), row(deletedRoom))))
+			.thenThrow(new DataIntegrityViolationException("fk"));
+		when(messageRepository.insertAll(List.of(row(valid)))).thenReturn(List.of(101L));
+		when(messageRepository.insertAll(List.of(row(deletedRoom))))
+			.thenThrow(new DataIntegrityViolationException("fk"));
+
+		// When
+		messageIngestService.process(List.of(valid, deletedRoom));
+
+		// Then
+		ArgumentCaptor<Object> validAck = ArgumentCaptor.forClass(Object.class);
+		ArgumentCaptor<Object> failedAck = ArgumentCaptor.forClass(Object.class);
+		verify(messagingTemplate).convertAndSendToUser(eq("7"), any(), validAck.capture());
+		verify(messagingTemplate).convertAndSendToUser(eq("8"), any(), failedAck.capture());
+		assertThat((MessageAckResponseDto)validAck.getValue())
+			.extracting(MessageAckResponseDto::getMessageId, MessageAckResponseDto::isPersisted)
+			.containsExactly(101L, true);
+		assertThat((MessageAckResponseDto)failedAck.getValue())
+			.extracting(MessageAckResponseDto::getMessageId, MessageAckResponseDto::isPersisted)
+			.containsExactly(null, false);
+		verify(messageRoomRepository).updateLastMessage(ROOM_ID, 101L, valid.message().getCreatedAt());
+		verify(messageReadService).onMessagesSaved(ROOM_ID, List.of(7L), 101L);
+
+		ArgumentCaptor<Object> retraction = ArgumentCaptor.forClass(Object.class);
+		verify(roomBroadcaster).broadcast(eq(99L), retraction.capture(), isNull());
+		assertThat((MessageRetractedDto)retraction.getValue())
+			.extracting(MessageRetractedDto::getType, MessageRetractedDto::getMemberId,
+				MessageRetractedDto::getClientMessageId)
+			.containsExactly(MessageRetractedDto.TYPE, 8L, "c-2");
+	}
+
+	@Test
+	@DisplayName("채팅방 참여자가 아니면 메시지를 큐에 넣지 않고 보낸 사람에게 실패 ack 를 보낸다")
+	void submit_notMember() {
+		// Given
+		ChatPrincipal sender = new ChatPrincipal(7L, "회원7", Instant.now().plusSeconds(600));
+		when(messageReadService.isMember(ROOM_ID, 7L)).thenReturn(false);
+
+		// When
+		messageIngestService.submit(sender, ROOM_ID, "안녕하세요", "c-1");
+
+		// Then
+		assertFailedAck("7", "c-1");
+		verifyNoInteractions(messageCreatedEventHandler, messageRepository, roomBroadcaster);
+	}
+
+	@Test
+	@DisplayName("저장 큐가 가득 차면 메시지를 버리고 보낸 사람에게 실패 ack 를 보낸다")
+	void submit_queueFull() {
+		// Given
+		BlockingQueue<PendingMessage> fullShard = new ArrayBlockingQueue<>(1);
+		fullShard.add(pending(8L, ROOM_ID, "먼저 온 메시지", "c-0"));
+		ReflectionTestUtils.setField(messageIngestService, "shards", List.of(fullShard));
+		ReflectionTestUtils.setField(messageIngestService, "running", true);
+		ChatPrincipal sender = new ChatPrincipal(7L, "회원7", Instant.now().plusSeconds(600));
+		when(messageReadService.isMember(ROOM_ID, 7L)).thenReturn(true);
+
+		// When
+		messageIngestService.submit(sender, ROOM_ID, "안녕하세요", "c-1");
+
+		// Then
+		assertFailedAck("7", "c-1");
+		assertThat(fullShard).extracting(queued -> queued.message().getClientMessageId()).containsExactly("c-0");
+	}
+
+	private void assertFailedAck(String user, String clientMessageId) {
+		ArgumentCaptor<Object> ack = ArgumentCaptor.forClass(Object.class);
+		verify(messagingTemplate).convertAndSendToUser(eq(user), eq(MessageIngestService.ACK_DESTINATION), ack.capture());
+		assertThat((MessageAckResponseDto)ack.getValue())
+			.extracting(MessageAckResponseDto::getClientMessageId, MessageAckResponseDto::getMessageRoomId,
+				MessageAckResponseDto::getMessageId, MessageAckResponseDto::isPersisted)
+			.containsExactly(clientMessageId, ROOM_ID, null, false);
+	}
+
+	private static PendingMessage pending(Long memberId, Long messageRoomId, String content, String clientMessageId) {
+		ChatPrincipal sender = new ChatPrincipal(memberId, "회원" + memberId, Instant.now().plusSeconds(600));
+		MessageResponseDto message = MessageResponseDto.builder()
+			.messageRoomId(messageRoomId)
+			.member(MemberMessageResponseDto.builder().id(memberId).nickname(sender.nickname()).build())
+			.messageContent(content)
+			.createdAt(new Timestamp(System.currentTimeMillis()))
+			.clientMessageId(clientMessageId)
+			.build();
+		return new PendingMessage(sender, message);
+	}
+
+	private static NewMessage row(PendingMessage pending) {
+		return new NewMessage(pending.message().getMessageRoomId(), pending.sender().memberId(),
+			pending.message().getMessageContent(), pending.message().getCreatedAt());
+	}
+}
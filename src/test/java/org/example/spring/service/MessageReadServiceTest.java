@@ -0,0 +1,185 @@
+package org.example.spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.example.spring.domain.message.messageDto.MessageReadReceiptDto;
+import org.example.spring.exception.MessageException;
+import org.example.spring.redis.ChatReadStateStore;
+import org.example.spring.redis.ChatReadStateStore.ReadPosition;
+import org.example.spring.redis.RoomBroadcaster;
+import org.example.spring.repository.message.MessageMemberRepository;
+import org.example.spring.repository.message.MessageRoomRepository;
+import org.example.spring.repository.message.MessageRoomUnreadCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MessageReadServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final Long ME = 7L;
+	private static final Long OTHER = 8L;
+	private static final Duration UNREAD_TTL = Duration.ofDays(7);
+
+	@Mock
+	private ChatReadStateStore chatReadStateStore;
+
+	@Mock
+	private MessageMemberRepository messageMemberRepository;
+
+	@Mock
+	private MessageRoomRepository messageRoomRepository;
+
+	@Mock
+	private RoomBroadcaster roomBroadcaster;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private MessageReadService messageReadService;
+
+	@BeforeEach
+	void setUp() {
+		messageReadService = new MessageReadService(chatReadStateStore, messageMemberRepository,
+			messageRoomRepository, roomBroadcaster, transactionTemplate);
+		ReflectionTestUtils.setField(messageReadService, "flushBatchSize", 2);
+		ReflectionTestUtils.setField(messageReadService, "unreadTtl", UNREAD_TTL);
+		ReflectionTestUtils.setField(messageReadService, "roomMembersTtl", Duration.ofDays(1));
+	}
+
+	@Test
+	@DisplayName("저장된 메시지 수만큼 참여자의 안 읽은 수를 늘리되 자기가 보낸 메시지는 세지 않는다")
+	void onMessagesSaved_incrementsOthers() {
+		// Given
+		when(chatReadStateStore.roomMembers(ROOM_ID)).thenReturn(Set.of(ME, OTHER));
+
+		// When
+		messageReadService.onMessagesSaved(ROOM_ID, List.of(ME, ME, OTHER), 103L);
+
+		// Then
+		verify(chatReadStateStore).advanceLastMessage(ROOM_ID, 103L);
+		verify(chatReadStateStore).incrementUnread(ME, ROOM_ID, 1);
+		verify(chatReadStateStore).incrementUnread(OTHER, ROOM_ID, 2);
+	}
+
+	@Test
+	@DisplayName("마지막 메시지보다 뒤의 id 로 읽음 처리하면 마지막 메시지까지로 제한하고 읽음 표시를 보낸다")
+	void markRead_clampsAndBroadcasts() {
+		// Given
+		when(chatReadStateStore.roomMembers(ROOM_ID)).thenReturn(Set.of(ME, OTHER));
+		when(chatReadStateStore.lastMessageId(ROOM_ID)).thenReturn(103L);
+		when(chatReadStateStore.markRead(ROOM_ID, ME, 103L)).thenReturn(true);
+
+		// When
+		messageReadService.markRead(ME, ROOM_ID, 999L);
+
+		// Then
+		ArgumentCaptor<Object> receipt = ArgumentCaptor.forClass(Object.class);
+		verify(roomBroadcaster).broadcast(eq(ROOM_ID), receipt.capture(), eq("read:" + ME));
+		assertThat((MessageReadReceiptDto)receipt.getValue())
+			.extracting(MessageReadReceiptDto::getType, MessageReadReceiptDto::getMemberId,
+				MessageReadReceiptDto::getLastReadMessageId)
+			.containsExactly(MessageReadReceiptDto.TYPE, ME, 103L);
+	}
+
+	@Test
+	@DisplayName("참여하지 않은 채팅방은 읽음 처리할 수 없다")
+	void markRead_notMember() {
+		// Given
+		when(chatReadStateStore.roomMembers(ROOM_ID)).thenReturn(null);
+		when(messageMemberRepository.findMemberIdsByMessageRoomId(ROOM_ID)).thenReturn(List.of(OTHER));
+
+		// When & Then
+		assertThatThrownBy(() -> messageReadService.markRead(ME, ROOM_ID, null))
+			.isInstanceOf(MessageException.class);
+		verify(chatReadStateStore).cacheRoomMembers(ROOM_ID, Set.of(OTHER), Duration.ofDays(1));
+		verify(chatReadStateStore, never()).markRead(anyLong(), anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("Redis 에 안 읽은 수가 없으면 채우기를 시작한 뒤 DB 로 한 번 계산해 채운다")
+	void getUnreadCounts_seedsOnMiss() {
+		// Given
+		when(chatReadStateStore.unreadCounts(ME, UNREAD_TTL)).thenReturn(null);
+		when(chatReadStateStore.beginSeed(ME)).thenReturn(true);
+		when(messageMemberRepository.findUnreadCounts(ME)).thenReturn(List.of(unread(ROOM_ID, 3)));
+
+		// When
+		Map<Long, Long> unreadCounts = messageReadService.getUnreadCounts(ME);
+
+		// Then
+		assertThat(unreadCounts).containsExactly(Map.entry(ROOM_ID, 3L));
+		InOrder inOrder = inOrder(chatReadStateStore, messageMemberRepository);
+		inOrder.verify(chatReadStateStore).beginSeed(ME);
+		inOrder.verify(messageMemberRepository).findUnreadCounts(ME);
+		inOrder.verify(chatReadStateStore).seedUnreadCounts(ME, Map.of(ROOM_ID, 3L), UNREAD_TTL);
+	}
+
+	@Test
+	@DisplayName("다른 요청이 이미 채우는 중이면 DB 값을 돌려주기만 하고 Redis 에 덮어쓰지 않는다")
+	void getUnreadCounts_anotherSeedInProgress() {
+		// Given
+		when(chatReadStateStore.unreadCounts(ME, UNREAD_TTL)).thenReturn(null);
+		when(chatReadStateStore.beginSeed(ME)).thenReturn(false);
+		when(messageMemberRepository.findUnreadCounts(ME)).thenReturn(List.of(unread(ROOM_ID, 3)));
+
+		// When
+		Map<Long, Long> unreadCounts = messageReadService.getUnreadCounts(ME);
+
+		// Then
+		assertThat(unreadCounts).containsExactly(Map.entry(ROOM_ID, 3L));
+		verify(chatReadStateStore, never()).seedUnreadCounts(anyLong(), any(), any());
+	}
+
+	@Test
+	@DisplayName("읽은 위치를 DB 에 반영하지 못하면 다음 flush 에서 다시 시도하도록 표시한다")
+	void flushReadPositions_failureMarksDirtyAgain() {
+		// Given
+		List<ReadPosition> positions = List.of(new ReadPosition(ROOM_ID, ME, 103L));
+		when(chatReadStateStore.popDirty(2)).thenReturn(positions);
+		doThrow(new QueryTimeoutException("timeout")).when(transactionTemplate).executeWithoutResult(any());
+
+		// When
+		messageReadService.flushReadPositions();
+
+		// Then
+		verify(chatReadStateStore).markDirty(positions);
+	}
+
+	private static MessageRoomUnreadCount unread(Long messageRoomId, long count) {
+		return new MessageRoomUnreadCount() {
+			@Override
+			public Long getMessageRoomId() {
+				return messageRoomId;
+			}
+
+			@Override
+			public long getUnreadCount() {
+				return count;
+			}
+		};
+	}
+}
@@ -0,0 +1,131 @@
+package org.example.spring.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.spring.common.FanOutExecutor;
+import org.example.spring.constant.ErrorCode;
+import org.example.spring.domain.member.Member;
+import org.example.spring.domain.member.MemberRole;
+import org.example.spring.domain.message.MessageRoom;
+import org.example.spring.domain.message.messageDto.MessageRequestDto;
+import org.example.spring.exception.MessageException;
+import org.example.spring.outbox.OutboxEventPublisher;
+import org.example.spring.repository.MemberRepository;
+import org.example.spring.repository.message.MessageMemberRepository;
+import org.example.spring.repository.message.MessageRepository;
+import org.example.spring.repository.message.MessageRoomRepository;
+import org.example.spring.security.jwt.JwtTokenValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+class MessageServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final Long ME = 7L;
+	private static final String TOKEN = "access-token";
+	private static final String EMAIL = "me@example.com";
+
+	@Mock
+	private MessageRepository messageRepository;
+
+	@Mock
+	private MessageRoomRepository messageRoomRepository;
+
+	@Mock
+	private MessageMemberRepository messageMemberRepository;
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private OutboxEventPublisher outboxEventPublisher;
+
+	@Mock
+	private JwtTokenValidator jwtTokenValidator;
+
+	@Mock
+	private HttpServletRequest request;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private MessageReadService messageReadService;
+
+	private FanOutExecutor fanOutExecutor;
+
+	private MessageService messageService;
+
+	@BeforeEach
+	void setUp() {
+		fanOutExecutor = new FanOutExecutor(transactionManager);
+		ReflectionTestUtils.setField(fanOutExecutor, "defaultDeadline", Duration.ofSeconds(5));
+		ReflectionTestUtils.setField(fanOutExecutor, "closeTimeout", Duration.ofSeconds(1));
+		messageService = new MessageService(messageRepository, messageRoomRepository, messageMemberRepository,
+			memberRepository, outboxEventPublisher, jwtTokenValidator, request, fanOutExecutor, messageReadService);
+
+		when(request.getHeader("Authorization")).thenReturn("Bearer " + TOKEN);
+		when(jwtTokenValidator.extractUsername(TOKEN)).thenReturn(EMAIL);
+		when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(Member.builder().id(ME).email(EMAIL).build()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.invokeMethod(fanOutExecutor, "shutdown");
+	}
+
+	@Test
+	@DisplayName("채팅방 참여자가 아니면 채팅방과 최근 메시지를 조회할 수 없다")
+	void getMessageRoom_notMember() {
+		// Given
+		when(messageRoomRepository.findById(ROOM_ID)).thenReturn(Optional.of(MessageRoom.builder().id(ROOM_ID).build()));
+		when(messageRepository.findHistoryBefore(eq(ROOM_ID), anyLong(), any())).thenReturn(List.of());
+		when(messageReadService.isMember(ROOM_ID, ME)).thenReturn(false);
+
+		// When & Then
+		assertThatThrownBy(() -> messageService.getMessageRoom(ROOM_ID))
+			.isInstanceOf(MessageException.class)
+			.hasMessage(ErrorCode.MEMBER_NOT_FOUND_IN_ROOM.getMessage());
+		verify(messageReadService, never()).markRead(anyLong(), anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("채팅방 참여자가 아니면 REST 로 메시지를 보낼 수 없다")
+	void createMessage_notMember() {
+		// Given
+		when(memberRepository.findById(ME))
+			.thenReturn(Optional.of(Member.builder().id(ME).email(EMAIL).role(MemberRole.USER).build()));
+		when(messageReadService.isMember(ROOM_ID, ME)).thenReturn(false);
+		MessageRequestDto mrd = MessageRequestDto.builder()
+			.messageRoomId(ROOM_ID)
+			.messageContent("안녕하세요")
+			.build();
+
+		// When & Then
+		assertThatThrownBy(() -> messageService.createMessage(mrd))
+			.isInstanceOf(MessageException.class)
+			.hasMessage(ErrorCode.MEMBER_NOT_FOUND_IN_ROOM.getMessage());
+		verify(messageRepository, never()).save(any());
+		verify(outboxEventPublisher, never()).publish(any(), any(), any(), any());
+	}
+}
@@ -0,0 +1,231 @@
+package org.example.spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.example.spring.common.CircuitBreaker;
+import org.example.spring.domain.enrichment.PendingEnrichment;
+import org.example.spring.repository.ExchangeRepository;
+import org.example.spring.repository.PendingEnrichmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResourceAccessException;
+
+@ExtendWith(MockitoExtension.class)
+class PriceEnrichmentServiceTest {
+
+	private static final Long TASK_ID = 10L;
+	private static final Long EXCHANGE_ID = 1L;
+	private static final String TITLE = "야구 글러브";
+
+	@Mock
+	private PendingEnrichmentRepository pendingEnrichmentRepository;
+
+	@Mock
+	private ExchangeRepository exchangeRepository;
+
+	@Mock
+	private AlanAPIService alanAPIService;
+
+	@Mock
+	private RegularPriceCache regularPriceCache;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private CircuitBreaker circuitBreaker;
+	private PriceEnrichmentService priceEnrichmentService;
+
+	@BeforeEach
+	void setUp() {
+		circuitBreaker = new CircuitBreaker(2, Duration.ofMinutes(1), Clock.systemUTC());
+		priceEnrichmentService = new PriceEnrichmentService(pendingEnrichmentRepository, exchangeRepository,
+			alanAPIService, regularPriceCache, transactionTemplate, circuitBreaker);
+		ReflectionTestUtils.setField(priceEnrichmentService, "maxAttempts", 3);
+		ReflectionTestUtils.setField(priceEnrichmentService, "backoffBase", Duration.ofSeconds(30));
+		ReflectionTestUtils.setField(priceEnrichmentService, "backoffMax", Duration.ofMinutes(30));
+		ReflectionTestUtils.setField(priceEnrichmentService, "lease", Duration.ofMinutes(2));
+	}
+
+	@Test
+	@DisplayName("정가 조회에 성공하면 게시글을 업데이트하고 작업을 삭제한다")
+	void process_success() {
+		// Given
+		givenClaimedTask(0);
+		givenCacheMiss();
+		givenTransaction();
+		when(alanAPIService.fetchRegularPrice(TITLE)).thenReturn(120000);
+		when(pendingEnrichmentRepository.deleteByIdAndTitle(TASK_ID, TITLE)).thenReturn(1);
+
+		// When
+		priceEnrichmentService.process(TASK_ID);
+
+		// Then
+		verify(pendingEnrichmentRepository).deleteByIdAndTitle(TASK_ID, TITLE);
+		verify(exchangeRepository).updateRegularPrice(EXCHANGE_ID, 120000);
+	}
+
+	@Test
+	@DisplayName("조회하는 동안 제목이 바뀌었으면 이전 제목의 정가를 반영하지 않는다")
+	void process_titleChangedDuringLookup_skipsUpdate() {
+		// Given
+		givenClaimedTask(0);
+		givenCacheMiss();
+		givenTransaction();
+		when(alanAPIService.fetchRegularPrice(TITLE)).thenReturn(120000);
+		when(pendingEnrichmentRepository.deleteByIdAndTitle(TASK_ID, TITLE)).thenReturn(0);
+
+		// When
+		priceEnrichmentService.process(TASK_ID);
+
+		// Then
+		verify(exchangeRepository, never()).updateRegularPrice(anyLong(), anyInt());
+	}
+
+	@Test
+	@DisplayName("일시적인 오류는 백오프 이후로 다시 예약한다")
+	void process_transientFailure_reschedules() {
+		// Given
+		givenClaimedTask(0);
+		givenCacheMiss();
+		when(alanAPIService.fetchRegularPrice(TITLE)).thenThrow(new ResourceAccessException("Read timed out"));
+		long before = System.currentTimeMillis();
+
+		// When
+		priceEnrichmentService.process(TASK_ID);
+
+		// Then
+		ArgumentCaptor<Timestamp> nextAttemptAt = ArgumentCaptor.forClass(Timestamp.class);
+		verify(pendingEnrichmentRepository).reschedule(eq(TASK_ID), eq(TITLE), nextAttemptAt.capture(), anyString());
+		assertThat(nextAttemptAt.getValue().getTime() - before).isBetween(15_000L, 31_000L);
+		verify(pendingEnrichmentRepository, never()).deleteByIdAndTitle(anyLong(), anyString());
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수에 도달하면 작업을 포기한다")
+	void process_maxAttempts_givesUp() {
+		// Given
+		givenClaimedTask(2);
+		givenCacheMiss();
+		when(alanAPIService.fetchRegularPrice(TITLE)).thenThrow(new ResourceAccessException("Read timed out"));
+
+		// When
+		priceEnrichmentService.process(TASK_ID);
+
+		// Then
+		verify(pendingEnrichmentRepository).deleteByIdAndTitle(TASK_ID, TITLE);
+		verify(pendingEnrichmentRepository, never()).reschedule(anyLong(), anyString(), any(), anyString());
+	}
+
+	@Test
+	@DisplayName("숫자가 아닌 답변은 재시도하지 않고 작업을 삭제한다")
+	void process_nonNumericAnswer_drops() {
+		// Given
+		givenClaimedTask(0);
+		givenCacheMiss();
+		when(alanAPIService.fetchRegularPrice(TITLE)).thenThrow(new NumberFormatException("For input string: \"모름\""));
+
+		// When
+		priceEnrichmentService.process(TASK_ID);
+
+		// Then
+		verify(pendingEnrichmentRepository).deleteByIdAndTitle(TASK_ID, TITLE);
+		verify(exchangeRepository, never()).updateRegularPrice(anyLong(), anyInt());
+	}
+
+	@Test
+	@DisplayName("circuit breaker 가 열려 있으면 Alan 을 호출하지 않고 작업을 미룬다")
+	void process_circuitOpen_postpones() {
+		// Given
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+		givenClaimedTask(0);
+
+		// When
+		priceEnrichmentService.process(TASK_ID);
+
+		// Then
+		verify(alanAPIService, never()).fetchRegularPrice(anyString());
+		verify(pendingEnrichmentRepository).postpone(eq(TASK_ID), eq(TITLE), any(Timestamp.class));
+	}
+
+	@Test
+	@DisplayName("캐시에 정가가 있으면 circuit breaker 가 열려 있어도 Alan 없이 반영한다")
+	void process_cacheHit_skipsAlan() {
+		// Given
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+		givenClaimedTask(0);
+		givenTransaction();
+		when(regularPriceCache.getIfPresent(TITLE)).thenReturn(99000);
+		when(pendingEnrichmentRepository.deleteByIdAndTitle(TASK_ID, TITLE)).thenReturn(1);
+
+		// When
+		priceEnrichmentService.process(TASK_ID);
+
+		// Then
+		verify(alanAPIService, never()).fetchRegularPrice(anyString());
+		verify(exchangeRepository).updateRegularPrice(EXCHANGE_ID, 99000);
+		verify(pendingEnrichmentRepository).deleteByIdAndTitle(TASK_ID, TITLE);
+	}
+
+	@Test
+	@DisplayName("다른 워커가 이미 선점한 작업은 처리하지 않는다")
+	void process_alreadyClaimed_skips() {
+		// Given
+		when(pendingEnrichmentRepository.claim(eq(TASK_ID), any(), any())).thenReturn(0);
+
+		// When
+		priceEnrichmentService.process(TASK_ID);
+
+		// Then
+		verify(pendingEnrichmentRepository, never()).findById(anyLong());
+		verify(alanAPIService, never()).fetchRegularPrice(anyString());
+	}
+
+	private void givenClaimedTask(int attempts) {
+		PendingEnrichment task = PendingEnrichment.builder()
+			.id(TASK_ID)
+			.exchangeId(EXCHANGE_ID)
+			.title(TITLE)
+			.attempts(attempts)
+			.build();
+		when(pendingEnrichmentRepository.claim(eq(TASK_ID), any(), any())).thenReturn(1);
+		when(pendingEnrichmentRepository.findById(TASK_ID)).thenReturn(Optional.of(task));
+	}
+
+	private void givenCacheMiss() {
+		when(regularPriceCache.get(eq(TITLE), any())).thenAnswer(invocation ->
+			invocation.<Function<String, Integer>>getArgument(1).apply(TITLE));
+	}
+
+	private void givenTransaction() {
+		doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+}
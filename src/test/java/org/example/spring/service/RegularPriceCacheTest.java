@@ -0,0 +1,172 @@
+package org.example.spring.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RegularPriceCacheTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private RegularPriceCache regularPriceCache;
+
+	@BeforeEach
+	void setUp() {
+		regularPriceCache = new RegularPriceCache(redisTemplate);
+		ReflectionTestUtils.setField(regularPriceCache, "localSize", 100L);
+		ReflectionTestUtils.setField(regularPriceCache, "localTtl", Duration.ofHours(1));
+		ReflectionTestUtils.setField(regularPriceCache, "ttl", Duration.ofDays(30));
+		regularPriceCache.init();
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("대소문자, 공백, 문장부호, 어순, 판매 문구가 달라도 같은 키로 정규화한다")
+	void normalize() {
+		assertThat(RegularPriceCache.normalize("[급처] 윌슨  A2000-1786 글러브 팝니다!"))
+			.isEqualTo(RegularPriceCache.normalize("윌슨 글러브 a20001786"))
+			.isEqualTo(RegularPriceCache.normalize("글러브 윌슨 Ａ2000_1786"));
+		assertThat(RegularPriceCache.normalize("!!!")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("캐시 miss 이면 loader 결과를 Redis 에 저장하고, 이후에는 L1 에서 응답한다")
+	void get_missThenLocalHit() {
+		// Given
+		AtomicInteger calls = new AtomicInteger();
+
+		// When
+		int first = regularPriceCache.get("윌슨 A2000", title -> {
+			calls.incrementAndGet();
+			return 350000;
+		});
+		int second = regularPriceCache.get("a2000 윌슨", title -> {
+			calls.incrementAndGet();
+			return 0;
+		});
+
+		// Then
+		assertThat(first).isEqualTo(350000);
+		assertThat(second).isEqualTo(350000);
+		assertThat(calls).hasValue(1);
+		verify(valueOperations).set("price:regular:a2000 윌슨", "350000", Duration.ofDays(30));
+	}
+
+	@Test
+	@DisplayName("L2 에 있으면 loader 를 호출하지 않는다")
+	void getIfPresent_remoteHit() {
+		// Given
+		when(valueOperations.get("price:regular:a2000 윌슨")).thenReturn("350000");
+
+		// When
+		Integer price = regularPriceCache.getIfPresent("윌슨 A2000");
+
+		// Then
+		assertThat(price).isEqualTo(350000);
+		assertThat(regularPriceCache.get("윌슨 A2000", title -> {
+			throw new AssertionError("loader should not be called");
+		})).isEqualTo(350000);
+	}
+
+	@Test
+	@DisplayName("Redis 장애는 캐시 miss 로 취급한다")
+	void get_redisFailure_fallsBackToLoader() {
+		// Given
+		when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+		// When
+		int price = regularPriceCache.get("윌슨 A2000", title -> 350000);
+
+		// Then
+		assertThat(price).isEqualTo(350000);
+	}
+
+	@Test
+	@DisplayName("같은 키를 동시에 조회하면 loader 는 한 번만 호출된다")
+	void get_concurrentSameKey_coalesced() throws Exception {
+		// Given
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			// When
+			Future<Integer> first = executor.submit(() -> regularPriceCache.get("윌슨 A2000", title -> {
+				calls.incrementAndGet();
+				loading.countDown();
+				await(release);
+				return 350000;
+			}));
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+			Future<Integer> second = executor.submit(() -> regularPriceCache.get("A2000 윌슨", title -> {
+				calls.incrementAndGet();
+				return 0;
+			}));
+			release.countDown();
+
+			// Then
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(350000);
+			assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(350000);
+			assertThat(calls).hasValue(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("loader 가 실패하면 캐시에 남기지 않아 다음 조회에서 다시 시도한다")
+	void get_loaderFailure_notCached() {
+		// Given
+		try {
+			regularPriceCache.get("윌슨 A2000", title -> {
+				throw new IllegalStateException("timeout");
+			});
+		} catch (IllegalStateException ignored) {
+			// expected
+		}
+
+		// When
+		int price = regularPriceCache.get("윌슨 A2000", title -> 350000);
+
+		// Then
+		assertThat(price).isEqualTo(350000);
+		verify(valueOperations, never()).set(eq("price:regular:a2000 윌슨"), eq("0"), eq(Duration.ofDays(30)));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package org.example.spring.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 모든 {@link BlobStore} 구현체가 만족해야 하는 동작입니다.
+ * 구현체별 테스트는 이 클래스를 상속하고 저장소 인스턴스만 제공합니다.
+ */
+abstract class BlobStoreContractTest {
+
+	protected BlobStore blobStore;
+
+	protected abstract BlobStore createBlobStore() throws IOException;
+
+	@BeforeEach
+	void setUpBlobStore() throws IOException {
+		blobStore = createBlobStore();
+	}
+
+	@Test
+	@DisplayName("저장한 객체를 같은 key 로 다시 읽을 수 있다")
+	void putAndOpen() throws IOException {
+		// Given
+		byte[] content = "image-bytes".getBytes(StandardCharsets.UTF_8);
+
+		// When
+		blobStore.put("images/abc.png", new ByteArrayInputStream(content), content.length, "image/png");
+
+		// Then
+		assertThat(blobStore.exists("images/abc.png")).isTrue();
+		try (InputStream in = blobStore.open("images/abc.png")) {
+			assertThat(in.readAllBytes()).isEqualTo(content);
+		}
+	}
+
+	@Test
+	@DisplayName("같은 key 로 다시 저장하면 덮어쓴다")
+	void putOverwrites() throws IOException {
+		// Given
+		byte[] first = {1, 2, 3};
+		byte[] second = {4, 5};
+		blobStore.put("images/same.png", new ByteArrayInputStream(first), first.length, "image/png");
+
+		// When
+		blobStore.put("images/same.png", new ByteArrayInputStream(second), second.length, "image/png");
+
+		// Then
+		try (InputStream in = blobStore.open("images/same.png")) {
+			assertThat(in.readAllBytes()).isEqualTo(second);
+		}
+	}
+
+	@Test
+	@DisplayName("삭제한 객체는 존재하지 않으며, 없는 객체 삭제는 오류가 아니다")
+	void delete() throws IOException {
+		// Given
+		byte[] content = {1};
+		blobStore.put("variants/images/abc.png_w320.jpg", new ByteArrayInputStream(content), 1, "image/jpeg");
+
+		// When
+		blobStore.delete("variants/images/abc.png_w320.jpg");
+		blobStore.delete("variants/images/missing.jpg");
+
+		// Then
+		assertThat(blobStore.exists("variants/images/abc.png_w320.jpg")).isFalse();
+	}
+
+	@Test
+	@DisplayName("prefix 로 시작하는 객체만 삭제한다")
+	void deleteByPrefix() throws IOException {
+		// Given
+		byte[] content = {1};
+		blobStore.put("variants/images/abc.png_w320.jpg", new ByteArrayInputStream(content), 1, "image/jpeg");
+		blobStore.put("variants/images/abc.png_w1280.jpg", new ByteArrayInputStream(content), 1, "image/jpeg");
+		blobStore.put("variants/images/abd.png_w320.jpg", new ByteArrayInputStream(content), 1, "image/jpeg");
+
+		// When
+		blobStore.deleteByPrefix("variants/images/abc.png_");
+		blobStore.deleteByPrefix("variants/missing/");
+
+		// Then
+		assertThat(blobStore.exists("variants/images/abc.png_w320.jpg")).isFalse();
+		assertThat(blobStore.exists("variants/images/abc.png_w1280.jpg")).isFalse();
+		assertThat(blobStore.exists("variants/images/abd.png_w320.jpg")).isTrue();
+	}
+
+	@Test
+	@DisplayName("url 에서 다시 key 를 얻을 수 있다")
+	void urlRoundTrip() {
+		String url = blobStore.urlOf("images/abc.png");
+
+		assertThat(blobStore.keyOf(url)).isEqualTo("images/abc.png");
+	}
+}
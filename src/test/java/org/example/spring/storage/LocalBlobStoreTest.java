@@ -0,0 +1,45 @@
+package org.example.spring.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalBlobStoreTest extends BlobStoreContractTest {
+
+	@TempDir
+	Path root;
+
+	@Override
+	protected BlobStore createBlobStore() {
+		return new LocalBlobStore(root, "http://localhost:8080/uploads");
+	}
+
+	@Test
+	@DisplayName("key 의 경로대로 디렉토리에 저장하고 임시 파일을 남기지 않는다")
+	void putWritesUnderRoot() throws IOException {
+		// When
+		blobStore.put("images/abc.png", new ByteArrayInputStream(new byte[] {1, 2}), 2, "image/png");
+
+		// Then
+		assertThat(root.resolve("images/abc.png")).hasBinaryContent(new byte[] {1, 2});
+		try (Stream<Path> files = Files.list(root.resolve("images"))) {
+			assertThat(files).containsExactly(root.resolve("images/abc.png"));
+		}
+	}
+
+	@Test
+	@DisplayName("저장소 디렉토리 밖을 가리키는 key 는 거부한다")
+	void rejectsPathTraversal() {
+		assertThatThrownBy(() -> blobStore.exists("../outside.png"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,75 @@
+package org.example.spring.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.util.unit.DataSize;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+
+/**
+ * 로컬 S3 호환 서버(MinIO 등)에 실제로 업로드하여 {@link S3BlobStore}를 검증합니다.
+ * <p>
+ * {@code S3_ENDPOINT}(cloud.aws.s3.endpoint)가 지정된 경우에만 실행됩니다.
+ * <pre>
+ * docker run -p 9000:9000 minio/minio server /data
+ * S3_ENDPOINT=http://localhost:9000 ./gradlew test --tests '*S3BlobStoreIntegrationTest'
+ * </pre>
+ */
+@EnabledIfEnvironmentVariable(named = "S3_ENDPOINT", matches = ".+")
+class S3BlobStoreIntegrationTest extends BlobStoreContractTest {
+
+	// S3 의 최소 part 크기
+	private static final DataSize PART_SIZE = DataSize.ofMegabytes(5);
+
+	@Override
+	protected BlobStore createBlobStore() {
+		String bucket = env("S3_NAME", "play-baseball-test");
+		AmazonS3 amazonS3 = AmazonS3ClientBuilder.standard()
+			.withCredentials(new AWSStaticCredentialsProvider(
+				new BasicAWSCredentials(env("S3_KEY", "minioadmin"), env("S3_SECRET", "minioadmin"))))
+			.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(System.getenv("S3_ENDPOINT"),
+				"ap-northeast-2"))
+			.withPathStyleAccessEnabled(true)
+			.build();
+		if (!amazonS3.doesBucketExistV2(bucket)) {
+			amazonS3.createBucket(bucket);
+		}
+		return new S3BlobStore(amazonS3, bucket, System.getenv("S3_ENDPOINT") + "/" + bucket, PART_SIZE);
+	}
+
+	@Test
+	@DisplayName("part 크기보다 큰 객체를 multipart upload 로 올리고 그대로 다시 읽을 수 있다")
+	void putMultipart() throws IOException {
+		// Given
+		byte[] content = new byte[(int)PART_SIZE.toBytes() * 2 + 100];
+		new Random(42).nextBytes(content);
+
+		// When
+		blobStore.put("images/multipart.bin", new ByteArrayInputStream(content), content.length,
+			"application/octet-stream");
+
+		// Then
+		try (InputStream in = blobStore.open("images/multipart.bin")) {
+			assertThat(in.readAllBytes()).isEqualTo(content);
+		} finally {
+			blobStore.delete("images/multipart.bin");
+		}
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value == null || value.isBlank() ? defaultValue : value;
+	}
+}
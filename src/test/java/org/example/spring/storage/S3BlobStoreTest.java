@@ -0,0 +1,119 @@
+package org.example.spring.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+@ExtendWith(MockitoExtension.class)
+class S3BlobStoreTest {
+
+	private static final int PART_SIZE = 1024;
+
+	@Mock
+	private AmazonS3 amazonS3;
+
+	private S3BlobStore blobStore;
+
+	@BeforeEach
+	void setUp() {
+		blobStore = new S3BlobStore(amazonS3, "test-bucket", "https://resource.test", DataSize.ofBytes(PART_SIZE));
+	}
+
+	@Test
+	@DisplayName("part 크기 이하의 객체는 한 번의 putObject 로 업로드한다")
+	void put_smallObject() throws IOException {
+		// When
+		blobStore.put("images/small.png", new ByteArrayInputStream(new byte[PART_SIZE]), PART_SIZE, "image/png");
+
+		// Then
+		ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+		verify(amazonS3).putObject(captor.capture());
+		assertThat(captor.getValue().getKey()).isEqualTo("images/small.png");
+		assertThat(captor.getValue().getMetadata().getContentLength()).isEqualTo(PART_SIZE);
+		verify(amazonS3, never()).initiateMultipartUpload(any());
+	}
+
+	@Test
+	@DisplayName("part 크기보다 큰 객체는 고정 크기 part 로 나누어 multipart upload 한다")
+	void put_multipart() throws IOException {
+		// Given
+		int size = PART_SIZE * 2 + 100;
+		givenMultipartUploadStarted();
+		List<Long> partSizes = new ArrayList<>();
+		when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+			UploadPartRequest request = invocation.getArgument(0);
+			partSizes.add(request.getPartSize());
+			UploadPartResult result = new UploadPartResult();
+			result.setPartNumber(request.getPartNumber());
+			result.setETag("etag-" + request.getPartNumber());
+			return result;
+		});
+
+		// When
+		blobStore.put("images/large.png", new ByteArrayInputStream(new byte[size]), size, "image/png");
+
+		// Then
+		assertThat(partSizes).containsExactly((long)PART_SIZE, (long)PART_SIZE, 100L);
+		ArgumentCaptor<CompleteMultipartUploadRequest> captor =
+			ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+		verify(amazonS3).completeMultipartUpload(captor.capture());
+		assertThat(captor.getValue().getUploadId()).isEqualTo("upload-1");
+		assertThat(captor.getValue().getPartETags()).hasSize(3);
+		verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+	}
+
+	@Test
+	@DisplayName("part 업로드가 실패하면 multipart upload 를 중단한다")
+	void put_multipartFailure() {
+		// Given
+		int size = PART_SIZE * 3;
+		givenMultipartUploadStarted();
+		when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenThrow(new AmazonServiceException("S3 down"));
+
+		// When & Then
+		assertThatThrownBy(() -> blobStore.put("images/large.png", new ByteArrayInputStream(new byte[size]), size,
+			"image/png")).isInstanceOf(AmazonServiceException.class);
+		verify(amazonS3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+		verify(amazonS3, never()).completeMultipartUpload(any());
+	}
+
+	@Test
+	@DisplayName("url 과 key 를 상호 변환한다")
+	void urlAndKey() {
+		assertThat(blobStore.urlOf("images/a.png")).isEqualTo("https://resource.test/images/a.png");
+		assertThat(blobStore.keyOf("https://resource.test/images/a.png")).isEqualTo("images/a.png");
+	}
+
+	private void givenMultipartUploadStarted() {
+		InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+		initiated.setUploadId("upload-1");
+		when(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+	}
+}
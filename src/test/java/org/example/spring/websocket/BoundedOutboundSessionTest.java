@@ -0,0 +1,116 @@
+package org.example.spring.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedOutboundSessionTest {
+
+	@Mock
+	private WebSocketSession delegate;
+
+	private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+	private final OutboundDeliveryMetrics metrics = new OutboundDeliveryMetrics(null);
+	private final List<String> sent = new CopyOnWriteArrayList<>();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+
+	private BoundedOutboundSession session;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// 첫 전송은 release 될 때까지 막혀 느린 클라이언트처럼 동작
+		doAnswer(invocation -> {
+			firstSendStarted.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			sent.add(((TextMessage) invocation.getArgument(0)).getPayload());
+			return null;
+		}).when(delegate).sendMessage(any());
+		session = new BoundedOutboundSession(delegate, sendExecutor, 2, 2, 10_000, metrics);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		sendExecutor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("전송이 밀린 동안 같은 key 의 메시지는 최신 것만 남고 일반 메시지가 먼저 전달된다")
+	void sendMessage_coalescesByKey() throws Exception {
+		// Given
+		session.sendMessage(frame("first", null));
+		assertThat(firstSendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+		// When
+		session.sendMessage(frame("typing-1", "typing:1:7"));
+		session.sendMessage(frame("typing-2", "typing:1:7"));
+		session.sendMessage(frame("chat", null));
+		release.countDown();
+
+		// Then
+		verify(delegate, timeout(1000).times(3)).sendMessage(any());
+		for (int i = 0; i < 100 && sent.size() < 3; i++) {
+			Thread.sleep(10);
+		}
+		assertThat(sent).extracting(BoundedOutboundSessionTest::body).containsExactly("first", "chat", "typing-2");
+		assertThat(metrics.depth()).isZero();
+	}
+
+	@Test
+	@DisplayName("일반 메시지가 큐 한도를 넘으면 느린 구독자로 보고 세션을 닫는다")
+	void sendMessage_closesSlowConsumer() throws Exception {
+		// Given
+		when(delegate.getId()).thenReturn("slow");
+		session.sendMessage(frame("first", null));
+		assertThat(firstSendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+		// When
+		session.sendMessage(frame("1", null));
+		session.sendMessage(frame("2", null));
+		session.sendMessage(frame("3", null));
+
+		// Then
+		verify(delegate, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE.withReason("slow consumer"));
+		assertThat(metrics.depth()).isZero();
+	}
+
+	@Test
+	@DisplayName("STOMP 헤더 영역에 있는 coalesce key 만 인식한다")
+	void coalesceKeyOf() {
+		assertThat(BoundedOutboundSession.coalesceKeyOf(frame("{}", "presence:3"))).isEqualTo("presence:3");
+		assertThat(BoundedOutboundSession.coalesceKeyOf(frame("\nx-coalesce-key:body", null))).isNull();
+	}
+
+	private static TextMessage frame(String body, String coalesceKey) {
+		String headers = "MESSAGE\ndestination:/sub/room/1\n"
+			+ (coalesceKey != null ? BoundedOutboundSession.COALESCE_HEADER + ":" + coalesceKey + "\n" : "");
+		return new TextMessage(headers + "\n" + body + "\u0000");
+	}
+
+	private static String body(String frame) {
+		return frame.substring(frame.indexOf("\n\n") + 2, frame.length() - 1);
+	}
+}